@@ -32,7 +32,8 @@ public class HexagonalArchitectureTest {
 			"dev.rafex.kiwi.server..",
 			"dev.rafex.kiwi.http..",
 			"dev.rafex.kiwi.json..",
-			"dev.rafex.kiwi.dtos.." };
+			"dev.rafex.kiwi.dtos..",
+			"dev.rafex.kiwi.metrics.." };
 
 	@ArchTest
 	static final ArchRule ports_must_not_depend_on_core_or_adapters = noClasses()
@@ -43,7 +44,7 @@ public class HexagonalArchitectureTest {
 			.resideInAnyPackage("dev.rafex.kiwi.services..", "dev.rafex.kiwi.models..",
 					"dev.rafex.kiwi.repository.impl..", "dev.rafex.kiwi.db..", "dev.rafex.kiwi.bootstrap..",
 					"dev.rafex.kiwi.handlers..", "dev.rafex.kiwi.server..", "dev.rafex.kiwi.http..",
-					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..");
+					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..", "dev.rafex.kiwi.metrics..");
 
 	@ArchTest
 	static final ArchRule common_must_not_depend_on_core_or_adapters = noClasses()
@@ -54,7 +55,8 @@ public class HexagonalArchitectureTest {
 			.resideInAnyPackage("dev.rafex.kiwi.services..", "dev.rafex.kiwi.models..",
 					"dev.rafex.kiwi.repository..", "dev.rafex.kiwi.repository.impl..", "dev.rafex.kiwi.db..",
 					"dev.rafex.kiwi.bootstrap..", "dev.rafex.kiwi.handlers..", "dev.rafex.kiwi.server..",
-					"dev.rafex.kiwi.http..", "dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..");
+					"dev.rafex.kiwi.http..", "dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..",
+					"dev.rafex.kiwi.metrics..");
 
 	@ArchTest
 	static final ArchRule core_must_not_depend_on_adapters = noClasses()
@@ -72,13 +74,13 @@ public class HexagonalArchitectureTest {
 			.dependOnClassesThat()
 			.resideInAnyPackage("dev.rafex.kiwi.services..", "dev.rafex.kiwi.models..", "dev.rafex.kiwi.bootstrap..",
 					"dev.rafex.kiwi.handlers..", "dev.rafex.kiwi.server..", "dev.rafex.kiwi.http..",
-					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..");
+					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..", "dev.rafex.kiwi.metrics..");
 
 	@ArchTest
 	static final ArchRule transport_must_not_depend_on_infra_details = noClasses()
 			.that()
 			.resideInAnyPackage("dev.rafex.kiwi.handlers..", "dev.rafex.kiwi.server..", "dev.rafex.kiwi.http..",
-					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..")
+					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..", "dev.rafex.kiwi.metrics..")
 			.should()
 			.dependOnClassesThat()
 			.resideInAnyPackage("dev.rafex.kiwi.repository.impl..", "dev.rafex.kiwi.db..");
@@ -90,6 +92,6 @@ public class HexagonalArchitectureTest {
 			.should()
 			.dependOnClassesThat()
 			.resideInAnyPackage("dev.rafex.kiwi.handlers..", "dev.rafex.kiwi.server..", "dev.rafex.kiwi.http..",
-					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..");
+					"dev.rafex.kiwi.json..", "dev.rafex.kiwi.dtos..", "dev.rafex.kiwi.metrics..");
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.benchmarks;
+
+import dev.rafex.ether.json.JsonCodec;
+import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.dtos.SearchResponse;
+import dev.rafex.kiwi.models.ObjectDetail;
+import dev.rafex.kiwi.models.SearchItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Serialización con el mismo {@link JsonCodec} que usan los handlers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	private static final JsonCodec JSON_CODEC = JsonUtils.codec();
+
+	@Param({ "20", "200" })
+	public int items;
+
+	private SearchResponse searchResponse;
+	private ObjectDetail objectDetail;
+
+	@Setup
+	public void setUp() {
+		final var list = new ArrayList<SearchItem>(items);
+		for (var i = 0; i < items; i++) {
+			list.add(new SearchItem(UUID.randomUUID(), "Laptop Dell Latitude " + i, 0.6079 - i * 0.001));
+		}
+		searchResponse = new SearchResponse(list, items, 0, "eyJrIjpbIjIwMjYtMDEtMDEiXX0");
+
+		final var now = Instant.now();
+		objectDetail = new ObjectDetail(UUID.randomUUID(), "Laptop Dell Latitude 7440", "Equipo de desarrollo",
+				"laptop", "active", UUID.randomUUID(), new String[] { "dell", "backend", "14in" },
+				"{\"serial\":\"ABC123\",\"ram_gb\":32}", now, now);
+	}
+
+	@Benchmark
+	public String searchResponse() {
+		return JSON_CODEC.toJson(searchResponse);
+	}
+
+	@Benchmark
+	public String objectDetail() {
+		return JSON_CODEC.toJson(objectDetail);
+	}
+
+}
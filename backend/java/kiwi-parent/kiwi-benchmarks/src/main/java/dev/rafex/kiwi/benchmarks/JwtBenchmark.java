@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.benchmarks;
+
+import dev.rafex.kiwi.security.KiwiJwtService;
+import dev.rafex.kiwi.security.VerifiedTokenCache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Firma y verificación HMAC de tokens; {@code verify} corre en cada petición
+ * protegida. {@code verifyCached} es el acierto de {@link VerifiedTokenCache}
+ * (SHA-256 del token y búsqueda), que es lo que paga un cliente que reutiliza
+ * su token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+	private final KiwiJwtService jwt = new KiwiJwtService("dev.rafex.kiwi", "kiwi-backend",
+			"benchmark-secret-with-at-least-32-chars");
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(jwt, 10_000);
+
+	private String token;
+	private long now;
+
+	@Setup
+	public void setUp() {
+		token = jwt.mint("550e8400-e29b-41d4-a716-446655440000", List.of("admin", "user"), 3600);
+		now = System.currentTimeMillis() / 1000;
+		cache.verify(token, now);
+	}
+
+	@Benchmark
+	public String mint() {
+		return jwt.mint("550e8400-e29b-41d4-a716-446655440000", List.of("admin", "user"), 3600);
+	}
+
+	@Benchmark
+	public KiwiJwtService.VerifyResult verify() {
+		return jwt.verify(token, now);
+	}
+
+	@Benchmark
+	public KiwiJwtService.VerifyResult verifyCached() {
+		return cache.verify(token, now);
+	}
+
+}
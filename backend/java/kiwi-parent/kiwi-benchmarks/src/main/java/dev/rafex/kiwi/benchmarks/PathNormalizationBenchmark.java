@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.benchmarks;
+
+import dev.rafex.kiwi.handlers.PathNormalizer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Normalización de rutas: la versión con cuatro {@code replaceAll} que usaba
+ * {@code GlowrootNamingHandler} contra {@link PathNormalizer}, con y sin tabla
+ * de plantillas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathNormalizationBenchmark {
+
+	private static final Pattern UUID_PATTERN = Pattern
+			.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+	private static final Pattern OBJECTID_PATTERN = Pattern.compile("/[0-9a-fA-F]{24}(?=/|$)");
+	private static final Pattern NUMBER_PATTERN = Pattern.compile("/\\d{2,}(?=/|$)");
+	private static final Pattern MULTIPLE_SLASHES_PATTERN = Pattern.compile("/{2,}");
+
+	@Param({ "/objects/search", "/objects/550e8400-e29b-41d4-a716-446655440000",
+			"/locations/550e8400-e29b-41d4-a716-446655440000/children" })
+	public String path;
+
+	private PathNormalizer normalizer;
+
+	@Setup
+	public void setUp() {
+		normalizer = PathNormalizer.forRoutes(List.of("/objects:batch", "/objects/*", "/locations/*", "/*"));
+	}
+
+	@Benchmark
+	public String regex() {
+		return regexNormalize(path);
+	}
+
+	@Benchmark
+	public String singlePass() {
+		return PathNormalizer.normalize(path);
+	}
+
+	@Benchmark
+	public String singlePassCached() {
+		return normalizer.normalizeCached(path);
+	}
+
+	static String regexNormalize(String path) {
+		if (path == null || path.isEmpty()) {
+			return "unknown";
+		}
+		path = MULTIPLE_SLASHES_PATTERN.matcher(path).replaceAll("/");
+		path = UUID_PATTERN.matcher(path).replaceAll("/:id");
+		path = OBJECTID_PATTERN.matcher(path).replaceAll("/:id");
+		return NUMBER_PATTERN.matcher(path).replaceAll("/:n");
+	}
+
+}
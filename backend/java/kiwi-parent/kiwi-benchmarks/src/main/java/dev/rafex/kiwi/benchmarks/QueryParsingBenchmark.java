@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.benchmarks;
+
+import dev.rafex.kiwi.query.QuerySpec;
+import dev.rafex.kiwi.query.QuerySpecBuilder;
+import dev.rafex.kiwi.query.RsqlNode;
+import dev.rafex.kiwi.query.RsqlParser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parseo de RSQL y armado del {@link QuerySpec} de {@code GET /objects/search}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParsingBenchmark {
+
+	static final String Q = "type==laptop;(status==active,name==*dell*)";
+
+	private final RsqlParser parser = new RsqlParser();
+	private final QuerySpecBuilder builder = new QuerySpecBuilder();
+
+	@Benchmark
+	public RsqlNode rsqlParse() {
+		return parser.parse(Q);
+	}
+
+	@Benchmark
+	public QuerySpec fromRawParams() {
+		return builder.fromRawParams(Q, "monitor", "dell,backend", null, null, "-updatedAt,name", "50", null, null);
+	}
+
+}
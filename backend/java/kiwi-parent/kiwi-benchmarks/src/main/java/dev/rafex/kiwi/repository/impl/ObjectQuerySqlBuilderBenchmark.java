@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository.impl;
+
+import dev.rafex.kiwi.query.QuerySpec;
+import dev.rafex.kiwi.query.QuerySpecBuilder;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ObjectQuerySqlBuilder#build} con la plantilla ya en cache (el caso
+ * normal) y {@link ObjectQuerySqlBuilder#bind} contra un
+ * {@link PreparedStatement} que no hace nada. Vive en el paquete del builder
+ * porque su API es package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectQuerySqlBuilderBenchmark {
+
+	private final ObjectQuerySqlBuilder sqlBuilder = new ObjectQuerySqlBuilder();
+
+	private QuerySpec spec;
+	private ObjectQuerySqlBuilder.BuiltQuery built;
+	private Connection connection;
+	private PreparedStatement statement;
+
+	@Setup
+	public void setUp() {
+		spec = new QuerySpecBuilder().fromRawParams("type==laptop;(status==active,name==*dell*)", "monitor",
+				"dell,backend", null, null, "-updatedAt,name", "50", null, null);
+		built = sqlBuilder.build(spec);
+		connection = noop(Connection.class);
+		statement = noop(PreparedStatement.class);
+	}
+
+	@Benchmark
+	public ObjectQuerySqlBuilder.BuiltQuery build() {
+		return sqlBuilder.build(spec);
+	}
+
+	@Benchmark
+	public PreparedStatement bind() throws SQLException {
+		sqlBuilder.bind(connection, statement, built.params());
+		return statement;
+	}
+
+	private static <T> T noop(final Class<T> type) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> method.getReturnType() == boolean.class ? Boolean.FALSE
+						: method.getReturnType() == int.class ? 0 : null));
+	}
+
+}
@@ -61,10 +61,18 @@ public final class KiwiBootstrap {
 		}
 
 		// Register resources for shutdown
+		if (container.invalidationBus() instanceof final AutoCloseable bus) {
+			closer.register(bus);
+		}
 		final var ds = container.dataSource();
 		if (ds instanceof final AutoCloseable ac) {
 			closer.register(ac);
 		}
+		closer.register(container.passwordHasher());
+		// se cierra en orden inverso: vuelca los last_used_at pendientes antes que el pool
+		if (container.appClientAuthService() instanceof final AutoCloseable clients) {
+			closer.register(clients);
+		}
 
 		final var rt = new KiwiRuntime(container, closer);
 
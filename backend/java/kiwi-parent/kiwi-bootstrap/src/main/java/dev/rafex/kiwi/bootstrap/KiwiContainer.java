@@ -16,13 +16,17 @@
 package dev.rafex.kiwi.bootstrap;
 
 import dev.rafex.kiwi.db.Db;
+import dev.rafex.kiwi.db.PgInvalidationBus;
 import dev.rafex.kiwi.repository.AppClientRepository;
+import dev.rafex.kiwi.repository.InvalidationBus;
 import dev.rafex.kiwi.repository.LocationRepository;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository;
 import dev.rafex.kiwi.repository.ObjectRepository;
 import dev.rafex.kiwi.repository.RoleRepository;
 import dev.rafex.kiwi.repository.UserRepository;
 import dev.rafex.kiwi.repository.impl.AppClientRepositoryImpl;
 import dev.rafex.kiwi.repository.impl.LocationRepositoryImpl;
+import dev.rafex.kiwi.repository.impl.ObjectEventOutboxRepositoryImpl;
 import dev.rafex.kiwi.repository.impl.ObjectRepositoryImpl;
 import dev.rafex.kiwi.repository.impl.RoleRepositoryImpl;
 import dev.rafex.kiwi.repository.impl.UserRepositoryImpl;
@@ -34,9 +38,14 @@ import dev.rafex.kiwi.services.ObjectService;
 import dev.rafex.kiwi.services.UserProvisioningService;
 import dev.rafex.kiwi.services.impl.AppClientAuthServiceImpl;
 import dev.rafex.kiwi.services.impl.AuthServiceImpl;
+import dev.rafex.kiwi.services.impl.FacetCache;
+import dev.rafex.kiwi.services.impl.LocationIndex;
 import dev.rafex.kiwi.services.impl.LocationServiceImpl;
+import dev.rafex.kiwi.services.impl.CachingObjectService;
+import dev.rafex.kiwi.services.impl.LastUsedWriter;
 import dev.rafex.kiwi.services.impl.ObjectServiceImpl;
 import dev.rafex.kiwi.services.impl.UserProvisioningServiceImpl;
+import dev.rafex.kiwi.services.impl.VerifiedSecretCache;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -62,7 +71,9 @@ public final class KiwiContainer {
 			Optional<Supplier<RoleRepository>> roleRepository,
 			Optional<Supplier<AppClientRepository>> appClientRepository, Optional<Supplier<AuthService>> authService,
 			Optional<Supplier<AppClientAuthService>> appClientAuthService,
-			Optional<Supplier<UserProvisioningService>> userProvisioningService) {
+			Optional<Supplier<UserProvisioningService>> userProvisioningService,
+			Optional<Supplier<InvalidationBus>> invalidationBus,
+			Optional<Supplier<ObjectEventOutboxRepository>> objectEventOutboxRepository) {
 		public Overrides {
 			config = config != null ? config : Optional.empty();
 			dataSource = dataSource != null ? dataSource : Optional.empty();
@@ -77,6 +88,9 @@ public final class KiwiContainer {
 			authService = authService != null ? authService : Optional.empty();
 			appClientAuthService = appClientAuthService != null ? appClientAuthService : Optional.empty();
 			userProvisioningService = userProvisioningService != null ? userProvisioningService : Optional.empty();
+			invalidationBus = invalidationBus != null ? invalidationBus : Optional.empty();
+			objectEventOutboxRepository = objectEventOutboxRepository != null ? objectEventOutboxRepository
+					: Optional.empty();
 		}
 
 		public static Builder builder() {
@@ -97,6 +111,8 @@ public final class KiwiContainer {
 			private Supplier<AuthService> authService;
 			private Supplier<AppClientAuthService> appClientAuthService;
 			private Supplier<UserProvisioningService> userProvisioningService;
+			private Supplier<InvalidationBus> invalidationBus;
+			private Supplier<ObjectEventOutboxRepository> objectEventOutboxRepository;
 
 			public Builder config(final Supplier<KiwiConfig> v) {
 				config = v;
@@ -163,6 +179,16 @@ public final class KiwiContainer {
 				return this;
 			}
 
+			public Builder invalidationBus(final Supplier<InvalidationBus> v) {
+				invalidationBus = v;
+				return this;
+			}
+
+			public Builder objectEventOutboxRepository(final Supplier<ObjectEventOutboxRepository> v) {
+				objectEventOutboxRepository = v;
+				return this;
+			}
+
 			public Overrides build() {
 				return new Overrides(Optional.ofNullable(config), Optional.ofNullable(dataSource),
 						Optional.ofNullable(passwordHasher), Optional.ofNullable(objectRepository),
@@ -170,7 +196,8 @@ public final class KiwiContainer {
 						Optional.ofNullable(locationService), Optional.ofNullable(userRepository),
 						Optional.ofNullable(roleRepository), Optional.ofNullable(appClientRepository),
 						Optional.ofNullable(authService), Optional.ofNullable(appClientAuthService),
-						Optional.ofNullable(userProvisioningService));
+						Optional.ofNullable(userProvisioningService), Optional.ofNullable(invalidationBus),
+						Optional.ofNullable(objectEventOutboxRepository));
 			}
 		}
 	}
@@ -190,6 +217,8 @@ public final class KiwiContainer {
 	private final Lazy<AuthService> authService;
 	private final Lazy<AppClientAuthService> appClientAuthService;
 	private final Lazy<UserProvisioningService> userProvisioningService;
+	private final Lazy<InvalidationBus> invalidationBus;
+	private final Lazy<ObjectEventOutboxRepository> objectEventOutboxRepository;
 
 	public KiwiContainer() {
 		this(Overrides.builder().build());
@@ -201,14 +230,18 @@ public final class KiwiContainer {
 		config = new Lazy<>(select(overrides.config(), KiwiConfig::fromEnv));
 		dataSource = new Lazy<>(select(overrides.dataSource(), () -> DataSourceFactory.create(config())));
 		passwordHasher = new Lazy<>(select(overrides.passwordHasher(), () -> PasswordHasherFactory.create(config())));
+		invalidationBus = new Lazy<>(select(overrides.invalidationBus(), () -> InvalidationBusFactory.create(config())));
 
 		objectRepository = new Lazy<>(
-				select(overrides.objectRepository(), () -> new ObjectRepositoryImpl(dataSource())));
-		objectService = new Lazy<>(select(overrides.objectService(), () -> new ObjectServiceImpl(objectRepository())));
+				select(overrides.objectRepository(), () -> new ObjectRepositoryImpl(dataSource(),
+						config().exportStatementTimeoutSeconds() * 1000, config().exportIdleTimeoutSeconds() * 1000)));
+		objectService = new Lazy<>(select(overrides.objectService(),
+				() -> ObjectServiceFactory.create(config(), objectRepository(), invalidationBus())));
 		locationRepository = new Lazy<>(
 				select(overrides.locationRepository(), () -> new LocationRepositoryImpl(dataSource())));
 		locationService = new Lazy<>(
-				select(overrides.locationService(), () -> new LocationServiceImpl(locationRepository())));
+				select(overrides.locationService(),
+						() -> LocationServiceFactory.create(config(), locationRepository(), invalidationBus())));
 		userRepository = new Lazy<>(select(overrides.userRepository(), () -> new UserRepositoryImpl(dataSource())));
 		roleRepository = new Lazy<>(select(overrides.roleRepository(), () -> new RoleRepositoryImpl(dataSource())));
 		appClientRepository = new Lazy<>(
@@ -216,9 +249,12 @@ public final class KiwiContainer {
 		authService = new Lazy<>(
 				select(overrides.authService(), () -> new AuthServiceImpl(userRepository(), passwordHasher())));
 		appClientAuthService = new Lazy<>(select(overrides.appClientAuthService(),
-				() -> new AppClientAuthServiceImpl(appClientRepository(), passwordHasher())));
+				() -> AppClientAuthServiceFactory.create(config(), appClientRepository(), passwordHasher(),
+						invalidationBus())));
 		userProvisioningService = new Lazy<>(select(overrides.userProvisioningService(),
 				() -> new UserProvisioningServiceImpl(userRepository(), roleRepository(), passwordHasher())));
+		objectEventOutboxRepository = new Lazy<>(select(overrides.objectEventOutboxRepository(),
+				() -> new ObjectEventOutboxRepositoryImpl(dataSource())));
 	}
 
 	// ---- Public accessors ----
@@ -235,6 +271,10 @@ public final class KiwiContainer {
 		return passwordHasher.get();
 	}
 
+	public InvalidationBus invalidationBus() {
+		return invalidationBus.get();
+	}
+
 	public ObjectRepository objectRepository() {
 		return objectRepository.get();
 	}
@@ -275,6 +315,10 @@ public final class KiwiContainer {
 		return userProvisioningService.get();
 	}
 
+	public ObjectEventOutboxRepository objectEventOutboxRepository() {
+		return objectEventOutboxRepository.get();
+	}
+
 	/**
 	 * Warm up critical graph nodes so the first request doesn't pay init costs.
 	 * Also helps fail-fast on bad config or DB connectivity.
@@ -283,6 +327,7 @@ public final class KiwiContainer {
 		config();
 		dataSource();
 		passwordHasher();
+		invalidationBus();
 		objectRepository();
 		locationRepository();
 		objectService();
@@ -303,35 +348,286 @@ public final class KiwiContainer {
 	public static final class KiwiConfig {
 		private static final String ENV_HASH_BYTES = "KIWI_PASSWORD_HASH_BYTES";
 		private static final int DEFAULT_HASH_BYTES = 32;
+		private static final String ENV_OBJECT_CACHE_TTL = "KIWI_OBJECT_CACHE_TTL_SECONDS";
+		private static final long DEFAULT_OBJECT_CACHE_TTL = 30;
+		private static final String ENV_OBJECT_CACHE_MAX_BYTES = "KIWI_OBJECT_CACHE_MAX_BYTES";
+		private static final long DEFAULT_OBJECT_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+		private static final String ENV_INVALIDATION_LISTEN = "KIWI_INVALIDATION_LISTEN";
+		private static final String ENV_APP_CLIENT_CACHE_TTL = "KIWI_APP_CLIENT_CACHE_TTL_SECONDS";
+		private static final long DEFAULT_APP_CLIENT_CACHE_TTL = 300;
+		private static final String ENV_APP_CLIENT_CACHE_MAX_ENTRIES = "KIWI_APP_CLIENT_CACHE_MAX_ENTRIES";
+		private static final long DEFAULT_APP_CLIENT_CACHE_MAX_ENTRIES = 10_000;
+		private static final String ENV_LAST_USED_FLUSH = "KIWI_LAST_USED_FLUSH_SECONDS";
+		private static final long DEFAULT_LAST_USED_FLUSH = 30;
+		private static final String ENV_HASH_WORKERS = "KIWI_PASSWORD_HASH_WORKERS";
+		private static final String ENV_HASH_QUEUE = "KIWI_PASSWORD_HASH_QUEUE";
+		private static final String ENV_HTTP_MAX_THREADS = "HTTP_MAX_THREADS";
+		private static final String ENV_FACET_CACHE_TTL = "KIWI_FACET_CACHE_TTL_SECONDS";
+		private static final long DEFAULT_FACET_CACHE_TTL = 5;
+		private static final String ENV_FACET_CACHE_MAX_ENTRIES = "KIWI_FACET_CACHE_MAX_ENTRIES";
+		private static final long DEFAULT_FACET_CACHE_MAX_ENTRIES = 1_000;
+		private static final String ENV_SEARCH_COUNT_MAX = "KIWI_SEARCH_COUNT_MAX";
+		private static final String ENV_LOCATION_TREE_TTL = "KIWI_LOCATION_TREE_TTL_SECONDS";
+		private static final long DEFAULT_LOCATION_TREE_TTL = 30;
+		private static final String ENV_EXPORT_MAX_CONCURRENT = "KIWI_EXPORT_MAX_CONCURRENT";
+		private static final String ENV_DB_MAX_POOL_SIZE = "DB_MAX_POOL_SIZE";
+		private static final String ENV_EXPORT_STATEMENT_TIMEOUT = "KIWI_EXPORT_STATEMENT_TIMEOUT_SECONDS";
+		private static final long DEFAULT_EXPORT_STATEMENT_TIMEOUT = 300;
+		private static final String ENV_EXPORT_IDLE_TIMEOUT = "KIWI_EXPORT_IDLE_TIMEOUT_SECONDS";
+		private static final long DEFAULT_EXPORT_IDLE_TIMEOUT = 30;
 
 		private final int passwordHashBytes;
-
-		private KiwiConfig(final int passwordHashBytes) {
+		private final long objectCacheTtlSeconds;
+		private final long objectCacheMaxBytes;
+		private final boolean invalidationListen;
+		private final long appClientCacheTtlSeconds;
+		private final int appClientCacheMaxEntries;
+		private final long lastUsedFlushSeconds;
+		private final int passwordHashWorkers;
+		private final int passwordHashQueue;
+		private final long facetCacheTtlSeconds;
+		private final int facetCacheMaxEntries;
+		private final long searchCountMax;
+		private final int exportMaxConcurrent;
+		private final long exportStatementTimeoutSeconds;
+		private final long exportIdleTimeoutSeconds;
+		private final long locationTreeTtlSeconds;
+
+		private KiwiConfig(final int passwordHashBytes, final long objectCacheTtlSeconds,
+				final long objectCacheMaxBytes, final boolean invalidationListen, final long appClientCacheTtlSeconds,
+				final int appClientCacheMaxEntries, final long lastUsedFlushSeconds, final int passwordHashWorkers,
+				final int passwordHashQueue, final long facetCacheTtlSeconds, final int facetCacheMaxEntries,
+				final long searchCountMax, final int exportMaxConcurrent, final long exportStatementTimeoutSeconds,
+				final long exportIdleTimeoutSeconds, final long locationTreeTtlSeconds) {
 			if (passwordHashBytes < 16) {
 				throw new IllegalArgumentException("passwordHashBytes demasiado pequeño");
 			}
+			if (objectCacheTtlSeconds < 0) {
+				throw new IllegalArgumentException("objectCacheTtlSeconds no puede ser negativo");
+			}
+			if (objectCacheMaxBytes <= 0) {
+				throw new IllegalArgumentException("objectCacheMaxBytes debe ser > 0");
+			}
+			if (appClientCacheTtlSeconds < 0) {
+				throw new IllegalArgumentException("appClientCacheTtlSeconds no puede ser negativo");
+			}
+			if (appClientCacheMaxEntries <= 0) {
+				throw new IllegalArgumentException("appClientCacheMaxEntries debe ser > 0");
+			}
+			if (lastUsedFlushSeconds < 0) {
+				throw new IllegalArgumentException("lastUsedFlushSeconds no puede ser negativo");
+			}
+			if (passwordHashWorkers < 0 || passwordHashQueue < 0) {
+				throw new IllegalArgumentException("passwordHashWorkers/passwordHashQueue no pueden ser negativos");
+			}
+			if (facetCacheTtlSeconds < 0) {
+				throw new IllegalArgumentException("facetCacheTtlSeconds no puede ser negativo");
+			}
+			if (facetCacheMaxEntries <= 0) {
+				throw new IllegalArgumentException("facetCacheMaxEntries debe ser > 0");
+			}
+			if (searchCountMax <= 0) {
+				throw new IllegalArgumentException("searchCountMax debe ser > 0");
+			}
+			if (exportMaxConcurrent < 0) {
+				throw new IllegalArgumentException("exportMaxConcurrent no puede ser negativo");
+			}
+			if (exportStatementTimeoutSeconds < 0 || exportIdleTimeoutSeconds < 0) {
+				throw new IllegalArgumentException("exportStatementTimeout/exportIdleTimeout no pueden ser negativos");
+			}
+			if (locationTreeTtlSeconds < 0) {
+				throw new IllegalArgumentException("locationTreeTtlSeconds no puede ser negativo");
+			}
 			this.passwordHashBytes = passwordHashBytes;
+			this.objectCacheTtlSeconds = objectCacheTtlSeconds;
+			this.objectCacheMaxBytes = objectCacheMaxBytes;
+			this.invalidationListen = invalidationListen;
+			this.appClientCacheTtlSeconds = appClientCacheTtlSeconds;
+			this.appClientCacheMaxEntries = appClientCacheMaxEntries;
+			this.lastUsedFlushSeconds = lastUsedFlushSeconds;
+			this.passwordHashWorkers = passwordHashWorkers;
+			this.passwordHashQueue = passwordHashQueue;
+			this.facetCacheTtlSeconds = facetCacheTtlSeconds;
+			this.facetCacheMaxEntries = facetCacheMaxEntries;
+			this.searchCountMax = searchCountMax;
+			this.exportMaxConcurrent = exportMaxConcurrent;
+			this.exportStatementTimeoutSeconds = exportStatementTimeoutSeconds;
+			this.exportIdleTimeoutSeconds = exportIdleTimeoutSeconds;
+			this.locationTreeTtlSeconds = locationTreeTtlSeconds;
 		}
 
 		public static KiwiConfig fromEnv() {
 			// Validate env vars here (fail fast)
-			final var rawHashBytes = System.getenv(ENV_HASH_BYTES);
-			final int hashBytes;
-			if (rawHashBytes == null || rawHashBytes.isBlank()) {
-				hashBytes = DEFAULT_HASH_BYTES;
-			} else {
-				try {
-					hashBytes = Integer.parseInt(rawHashBytes.trim());
-				} catch (final NumberFormatException e) {
-					throw new IllegalArgumentException("Invalid " + ENV_HASH_BYTES + ": " + rawHashBytes, e);
-				}
-			}
-			return new KiwiConfig(hashBytes);
+			final var hashBytes = (int) longEnv(ENV_HASH_BYTES, DEFAULT_HASH_BYTES);
+			final var cacheTtl = longEnv(ENV_OBJECT_CACHE_TTL, DEFAULT_OBJECT_CACHE_TTL);
+			final var cacheMaxBytes = longEnv(ENV_OBJECT_CACHE_MAX_BYTES, DEFAULT_OBJECT_CACHE_MAX_BYTES);
+			final var rawListen = System.getenv(ENV_INVALIDATION_LISTEN);
+			final var listen = rawListen == null || rawListen.isBlank() || Boolean.parseBoolean(rawListen.trim());
+			final var clientCacheTtl = longEnv(ENV_APP_CLIENT_CACHE_TTL, DEFAULT_APP_CLIENT_CACHE_TTL);
+			final var clientCacheMax = (int) longEnv(ENV_APP_CLIENT_CACHE_MAX_ENTRIES,
+					DEFAULT_APP_CLIENT_CACHE_MAX_ENTRIES);
+			final var lastUsedFlush = longEnv(ENV_LAST_USED_FLUSH, DEFAULT_LAST_USED_FLUSH);
+			// workers + cola por defecto <= la mitad de HTTP_MAX_THREADS (mismo default que
+			// ServerConfig): verify() síncrono nunca estaciona más de medio pool de Jetty
+			final var cpus = Runtime.getRuntime().availableProcessors();
+			final var httpThreads = longEnv(ENV_HTTP_MAX_THREADS, Math.max(cpus * 2L, 16L));
+			final var hashWorkers = (int) longEnv(ENV_HASH_WORKERS, Math.max(1L, Math.min(cpus, httpThreads / 4)));
+			final var hashQueue = (int) longEnv(ENV_HASH_QUEUE, Math.max(0L, httpThreads / 2 - hashWorkers));
+			final var facetCacheTtl = longEnv(ENV_FACET_CACHE_TTL, DEFAULT_FACET_CACHE_TTL);
+			final var facetCacheMax = (int) longEnv(ENV_FACET_CACHE_MAX_ENTRIES, DEFAULT_FACET_CACHE_MAX_ENTRIES);
+			// cada export retiene una conexión toda la transacción: por defecto un tercio
+			// del pool de Hikari (mismo default que Db), para que el resto de la API siga
+			final var dbPool = longEnv(ENV_DB_MAX_POOL_SIZE, 6);
+			final var exportMax = (int) longEnv(ENV_EXPORT_MAX_CONCURRENT, Math.max(1L, dbPool / 3));
+			return new KiwiConfig(hashBytes, cacheTtl, cacheMaxBytes, listen, clientCacheTtl, clientCacheMax,
+					lastUsedFlush, hashWorkers, hashQueue, facetCacheTtl, facetCacheMax,
+					longEnv(ENV_SEARCH_COUNT_MAX, ObjectServiceImpl.DEFAULT_COUNT_CAP), exportMax,
+					longEnv(ENV_EXPORT_STATEMENT_TIMEOUT, DEFAULT_EXPORT_STATEMENT_TIMEOUT),
+					longEnv(ENV_EXPORT_IDLE_TIMEOUT, DEFAULT_EXPORT_IDLE_TIMEOUT),
+					longEnv(ENV_LOCATION_TREE_TTL, DEFAULT_LOCATION_TREE_TTL));
+		}
+
+		private static long longEnv(final String name, final long def) {
+			final var raw = System.getenv(name);
+			if (raw == null || raw.isBlank()) {
+				return def;
+			}
+			try {
+				return Long.parseLong(raw.trim());
+			} catch (final NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid " + name + ": " + raw, e);
+			}
 		}
 
 		public int passwordHashBytes() {
 			return passwordHashBytes;
 		}
+
+		/** 0 desactiva el cache de {@code ObjectService.getById}. */
+		public long objectCacheTtlSeconds() {
+			return objectCacheTtlSeconds;
+		}
+
+		public long objectCacheMaxBytes() {
+			return objectCacheMaxBytes;
+		}
+
+		/** Escuchar las invalidaciones que publican otras instancias (LISTEN/NOTIFY). */
+		public boolean invalidationListen() {
+			return invalidationListen;
+		}
+
+		/** 0 desactiva el cache de verificaciones de secretos de clientes. */
+		public long appClientCacheTtlSeconds() {
+			return appClientCacheTtlSeconds;
+		}
+
+		public int appClientCacheMaxEntries() {
+			return appClientCacheMaxEntries;
+		}
+
+		/** 0 escribe {@code last_used_at} en cada autenticación. */
+		public long lastUsedFlushSeconds() {
+			return lastUsedFlushSeconds;
+		}
+
+		/** 0 deriva PBKDF2 en el hilo de la petición. */
+		public int passwordHashWorkers() {
+			return passwordHashWorkers;
+		}
+
+		public int passwordHashQueue() {
+			return passwordHashQueue;
+		}
+
+		/** 0 desactiva el cache de {@code GET /objects/facets}. */
+		public long facetCacheTtlSeconds() {
+			return facetCacheTtlSeconds;
+		}
+
+		public int facetCacheMaxEntries() {
+			return facetCacheMaxEntries;
+		}
+
+		/** Tope de {@code count=exact} en {@code GET /objects/search}. */
+		public long searchCountMax() {
+			return searchCountMax;
+		}
+
+		/** Exports (HTTP y gRPC) simultáneos; 0 no limita. */
+		public int exportMaxConcurrent() {
+			return exportMaxConcurrent;
+		}
+
+		/** {@code statement_timeout} de la transacción de un export; 0 no limita. */
+		public long exportStatementTimeoutSeconds() {
+			return exportStatementTimeoutSeconds;
+		}
+
+		/**
+		 * {@code idle_in_transaction_session_timeout} de un export: cuánto puede
+		 * esperar el cursor a un cliente que no lee; 0 no limita.
+		 */
+		public long exportIdleTimeoutSeconds() {
+			return exportIdleTimeoutSeconds;
+		}
+
+		/** Vencimiento del árbol de ubicaciones en memoria; 0 sólo recarga con avisos. */
+		public long locationTreeTtlSeconds() {
+			return locationTreeTtlSeconds;
+		}
+	}
+
+	public static final class ObjectServiceFactory {
+		public static ObjectService create(final KiwiConfig cfg, final ObjectRepository repo,
+				final InvalidationBus bus) {
+			final var facetCache = cfg.facetCacheTtlSeconds() > 0
+					? new FacetCache(cfg.facetCacheTtlSeconds(), cfg.facetCacheMaxEntries())
+					: null;
+			final ObjectService service = new ObjectServiceImpl(repo, facetCache, cfg.searchCountMax(),
+					cfg.exportMaxConcurrent());
+			if (cfg.objectCacheTtlSeconds() == 0) {
+				return service;
+			}
+			final var cached = new CachingObjectService(service, cfg.objectCacheTtlSeconds(),
+					cfg.objectCacheMaxBytes());
+			bus.subscribe(InvalidationBus.OBJECT, cached);
+			return cached;
+		}
+	}
+
+	public static final class LocationServiceFactory {
+		public static LocationService create(final KiwiConfig cfg, final LocationRepository repo,
+				final InvalidationBus bus) {
+			final var index = new LocationIndex(repo, cfg.locationTreeTtlSeconds());
+			// carga el árbol al arrancar; si falla, la primera lectura reintenta
+			index.refresh();
+			bus.subscribe(InvalidationBus.LOCATION, index);
+			return new LocationServiceImpl(repo, index);
+		}
+	}
+
+	public static final class AppClientAuthServiceFactory {
+		public static AppClientAuthService create(final KiwiConfig cfg, final AppClientRepository repo,
+				final PasswordHasherPBKDF2 hasher, final InvalidationBus bus) {
+			VerifiedSecretCache verified = null;
+			if (cfg.appClientCacheTtlSeconds() > 0) {
+				verified = new VerifiedSecretCache(cfg.appClientCacheTtlSeconds(), cfg.appClientCacheMaxEntries());
+				bus.subscribe(InvalidationBus.APP_CLIENT, verified);
+			}
+			final var lastUsed = cfg.lastUsedFlushSeconds() > 0 ? new LastUsedWriter(repo, cfg.lastUsedFlushSeconds())
+					: null;
+			return new AppClientAuthServiceImpl(repo, hasher, verified, lastUsed);
+		}
+	}
+
+	public static final class InvalidationBusFactory {
+		public static InvalidationBus create(final KiwiConfig cfg) {
+			if (!cfg.invalidationListen()) {
+				return InvalidationBus.NOOP;
+			}
+			return PgInvalidationBus.start(() -> Db.openDedicatedConnection("kiwi-invalidation"));
+		}
 	}
 
 	public static final class DataSourceFactory {
@@ -342,7 +638,8 @@ public final class KiwiContainer {
 
 	public static final class PasswordHasherFactory {
 		public static PasswordHasherPBKDF2 create(final KiwiConfig cfg) {
-			return new PasswordHasherPBKDF2(cfg.passwordHashBytes());
+			return new PasswordHasherPBKDF2(cfg.passwordHashBytes(), cfg.passwordHashWorkers(),
+					cfg.passwordHashQueue());
 		}
 	}
 }
@@ -152,7 +152,7 @@ public final class Log {
 
 	/* ===================== INTERNAL FORMAT ===================== */
 
-	private static String format(final String message, final Object... args) {
+	static String format(final String message, final Object... args) {
 		if (args == null || args.length == 0) {
 			return message;
 		}
@@ -15,23 +15,85 @@
  */
 package dev.rafex.kiwi.security;
 
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 
-public final class PasswordHasherPBKDF2 {
+/**
+ * PBKDF2WithHmacSHA256 para contraseñas y secretos de clientes.
+ *
+ * <p>
+ * Con {@code workers > 0} cada derivación corre en un pool propio de ese
+ * tamaño con una cola de {@code queueDepth}; si la cola está llena se lanza
+ * {@link PasswordHashingBusyException} de inmediato. {@link #verifyAsync}
+ * completa el future desde el worker, así que una ráfaga de logins no estaciona
+ * hilos HTTP; {@link #verify} y {@link #hash} siguen bloqueando al que llama
+ * (a lo más {@code workers + queueDepth} hilos). Con {@code workers == 0} deriva
+ * en el hilo que llama, como antes.
+ */
+public final class PasswordHasherPBKDF2 implements AutoCloseable {
+
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+	// Un SecretKeyFactory por hilo: getInstance recorre los providers en cada
+	// llamada y la instancia no es thread-safe. Los hilos del pool son fijos.
+	private static final ThreadLocal<SecretKeyFactory> FACTORY = ThreadLocal.withInitial(() -> {
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM);
+		} catch (final GeneralSecurityException e) {
+			throw new IllegalStateException("PBKDF2 not available", e);
+		}
+	});
 
 	// Debe coincidir con el largo de hash que guardas (ej: 32 bytes = 256 bits)
 	// Si ya tienes hashes con otro tamaño, ajusta.
 	private final int derivedKeyBytes;
+	private final ThreadPoolExecutor executor;
+
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder nanosTotal = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
 
 	public PasswordHasherPBKDF2(final int derivedKeyBytes) {
+		this(derivedKeyBytes, 0, 0);
+	}
+
+	public PasswordHasherPBKDF2(final int derivedKeyBytes, final int workers, final int queueDepth) {
 		if (derivedKeyBytes < 16) {
 			throw new IllegalArgumentException("derivedKeyBytes demasiado pequeño");
 		}
+		if (workers < 0 || queueDepth < 0) {
+			throw new IllegalArgumentException("workers y queueDepth no pueden ser negativos");
+		}
 		this.derivedKeyBytes = derivedKeyBytes;
+		if (workers == 0) {
+			this.executor = null;
+		} else {
+			final var seq = new AtomicInteger();
+			// con queueDepth 0 solo entra lo que un worker libre toma de inmediato
+			this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+					queueDepth == 0 ? new SynchronousQueue<>()
+							: new ArrayBlockingQueue<>(queueDepth),
+					r -> {
+						final var t = new Thread(r, "kiwi-pbkdf2-" + seq.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}, new ThreadPoolExecutor.AbortPolicy());
+		}
 	}
 
 	public boolean verify(final char[] password, final byte[] salt, final int iterations, final byte[] expectedHash) {
@@ -48,17 +110,33 @@ public final class PasswordHasherPBKDF2 {
 	}
 
 	/**
-	 * Deriva PBKDF2WithHmacSHA256. Nota: Java usa "bits" en PBEKeySpec.
+	 * Como {@link #verify} pero sin esperar: con pool la derivación corre en un
+	 * worker y el future se completa desde ese hilo; sin pool se deriva aquí y el
+	 * future ya viene completo. Con la cola llena el future falla con
+	 * {@link PasswordHashingBusyException}. {@code password} no debe limpiarse
+	 * antes de que el future termine.
 	 */
-	private static byte[] derive(final char[] password, final byte[] salt, final int iterations,
-			final int outLenBytes) {
+	public CompletableFuture<Boolean> verifyAsync(final char[] password, final byte[] salt, final int iterations,
+			final byte[] expectedHash) {
+		if (executor == null) {
+			try {
+				return CompletableFuture.completedFuture(verify(password, salt, iterations, expectedHash));
+			} catch (final RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		if (password == null || salt == null || expectedHash == null || (iterations <= 0)) {
+			return CompletableFuture.completedFuture(false);
+		}
+
+		final var task = new VerifyTask(password, salt, iterations, expectedHash);
 		try {
-			final var spec = new PBEKeySpec(password, salt, iterations, outLenBytes * 8);
-			final var skf = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-			return skf.generateSecret(spec).getEncoded();
-		} catch (final Exception e) {
-			throw new IllegalStateException("PBKDF2 derivation failed", e);
+			executor.execute(task);
+		} catch (final RejectedExecutionException e) {
+			rejected.increment();
+			return CompletableFuture.failedFuture(new PasswordHashingBusyException());
 		}
+		return task.result;
 	}
 
 	/**
@@ -70,6 +148,124 @@ public final class PasswordHasherPBKDF2 {
 		return new HashResult(dk, salt, iterations);
 	}
 
+	/** Derivaciones en cola, sin contar las que están corriendo. */
+	public int queueDepth() {
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+
+	/** Derivaciones corriendo ahora en el pool. */
+	public int active() {
+		return executor == null ? 0 : executor.getActiveCount();
+	}
+
+	public int workers() {
+		return executor == null ? 0 : executor.getMaximumPoolSize();
+	}
+
+	public long completed() {
+		return completed.sum();
+	}
+
+	/** Suma del tiempo de cómputo de las derivaciones completadas (sin espera en cola). */
+	public long nanosTotal() {
+		return nanosTotal.sum();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	@Override
+	public void close() {
+		if (executor != null) {
+			// las verificaciones async que no alcanzaron a correr fallan como busy
+			for (final var pending : executor.shutdownNow()) {
+				if (pending instanceof final VerifyTask task) {
+					task.result.completeExceptionally(new PasswordHashingBusyException());
+				}
+			}
+		}
+	}
+
 	public record HashResult(byte[] hash, byte[] salt, int iterations) {
 	}
-}
\ No newline at end of file
+
+	private final class VerifyTask implements Runnable {
+		private final char[] password;
+		private final byte[] salt;
+		private final int iterations;
+		private final byte[] expectedHash;
+		private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+		VerifyTask(final char[] password, final byte[] salt, final int iterations, final byte[] expectedHash) {
+			this.password = password;
+			this.salt = salt;
+			this.iterations = iterations;
+			this.expectedHash = expectedHash;
+		}
+
+		@Override
+		public void run() {
+			try {
+				final var dk = timedDerive(password, salt, iterations, expectedHash.length);
+				try {
+					result.complete(MessageDigest.isEqual(dk, expectedHash));
+				} finally {
+					Arrays.fill(dk, (byte) 0);
+				}
+			} catch (final RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+
+	private byte[] derive(final char[] password, final byte[] salt, final int iterations, final int outLenBytes) {
+		if (executor == null) {
+			return timedDerive(password, salt, iterations, outLenBytes);
+		}
+		final Callable<byte[]> task = () -> timedDerive(password, salt, iterations, outLenBytes);
+		final Future<byte[]> future;
+		try {
+			future = executor.submit(task);
+		} catch (final RejectedExecutionException e) {
+			rejected.increment();
+			throw new PasswordHashingBusyException();
+		}
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("PBKDF2 derivation interrupted", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof final RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException("PBKDF2 derivation failed", e.getCause());
+		}
+	}
+
+	private byte[] timedDerive(final char[] password, final byte[] salt, final int iterations,
+			final int outLenBytes) {
+		final var start = System.nanoTime();
+		final var dk = derive(FACTORY.get(), password, salt, iterations, outLenBytes);
+		nanosTotal.add(System.nanoTime() - start);
+		completed.increment();
+		return dk;
+	}
+
+	/**
+	 * Deriva PBKDF2WithHmacSHA256. Nota: Java usa "bits" en PBEKeySpec.
+	 */
+	private static byte[] derive(final SecretKeyFactory skf, final char[] password, final byte[] salt,
+			final int iterations, final int outLenBytes) {
+		final var spec = new PBEKeySpec(password, salt, iterations, outLenBytes * 8);
+		try {
+			return skf.generateSecret(spec).getEncoded();
+		} catch (final Exception e) {
+			throw new IllegalStateException("PBKDF2 derivation failed", e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+}
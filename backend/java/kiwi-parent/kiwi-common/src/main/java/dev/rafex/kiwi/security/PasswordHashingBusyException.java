@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.security;
+
+/**
+ * La cola de {@link PasswordHasherPBKDF2} está llena. Se lanza sin stack trace:
+ * en una ráfaga de logins ocurre muchas veces y el llamador solo responde 503.
+ */
+public final class PasswordHashingBusyException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PasswordHashingBusyException() {
+		super("password hashing queue is full", null, false, false);
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.models;
+
+import java.util.UUID;
+
+/**
+ * Resultado de un elemento de un alta por lote; {@code error} es null si el
+ * objeto se creó.
+ */
+public record CreateObjectResult(UUID objectId, String error) {
+
+	public boolean created() {
+		return error == null;
+	}
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.models;
+
+/**
+ * Total de una búsqueda. {@code relation} es {@code "eq"} si es exacto,
+ * {@code "gte"} si el conteo llegó al tope y {@code value} es ese tope, o
+ * {@code "estimate"} si viene de la estadística del planner.
+ */
+public record SearchTotal(long value, String relation) {
+
+	public static final String EQ = "eq";
+	public static final String GTE = "gte";
+	public static final String ESTIMATE = "estimate";
+
+}
@@ -24,21 +24,32 @@ public final class QuerySpecBuilder {
 	private static final int MAX_LIMIT = 200;
 	private static final int MIN_OFFSET = 0;
 	private static final int MAX_OFFSET = 100_000;
+	private static final int MAX_CURSOR_LENGTH = 2048;
+	// por debajo, un *q* no tiene trigramas que lo sirvan desde el índice
+	private static final int MIN_CONTAINS_LENGTH = 3;
 
 	private final RsqlParser parser = new RsqlParser();
 
 	public QuerySpec fromRawParams(final String q, final String tags, final String locationId, final String enabled,
 			final String sort, final String limit, final String offset) {
+		return fromRawParams(q, null, tags, locationId, enabled, sort, limit, offset, null);
+	}
+
+	public QuerySpec fromRawParams(final String q, final String text, final String tags, final String locationId,
+			final String enabled, final String sort, final String limit, final String offset, final String cursor) {
 
 		final RsqlNode rsqlFilter = parseQ(trimToNull(q));
-		final RsqlNode queryFilter = buildClassicFilter(tags, locationId, enabled);
+		final RsqlNode queryFilter = buildClassicFilter(text, tags, locationId, enabled);
 		final RsqlNode finalFilter = mergeWithAnd(rsqlFilter, queryFilter);
 
 		final int finalLimit = parseIntClamp(limit, QuerySpec.DEFAULT_LIMIT, MIN_LIMIT, MAX_LIMIT, "limit");
 		final int finalOffset = parseIntClamp(offset, QuerySpec.DEFAULT_OFFSET, MIN_OFFSET, MAX_OFFSET, "offset");
 		final var sorts = parseSort(sort);
+		final var finalCursor = parseCursor(cursor);
 
-		return new QuerySpec(finalFilter, finalLimit, finalOffset, sorts);
+		// con cursor la posición la da el keyset, no el offset
+		return new QuerySpec(finalFilter, finalLimit, finalCursor == null ? finalOffset : QuerySpec.DEFAULT_OFFSET,
+				sorts, finalCursor);
 	}
 
 	private RsqlNode parseQ(final String q) {
@@ -49,15 +60,22 @@ public final class QuerySpecBuilder {
 			return parser.parse(q);
 		} catch (final IllegalArgumentException e) {
 			if (isFreeTextCandidate(q)) {
-				return new RsqlNode.Comp("name", RsqlOperator.LIKE, List.of("%" + q + "%"));
+				return new RsqlNode.Comp("name", RsqlOperator.LIKE, List.of(freeTextPattern(q)));
 			}
 			throw e;
 		}
 	}
 
-	private RsqlNode buildClassicFilter(final String tagsRaw, final String locationIdRaw, final String enabledRaw) {
+	private RsqlNode buildClassicFilter(final String textRaw, final String tagsRaw, final String locationIdRaw,
+			final String enabledRaw) {
 		final var filters = new ArrayList<RsqlNode>();
 
+		// texto completo contra search_vector; equivale a q=text=="..."
+		final var text = trimToNull(textRaw);
+		if (text != null) {
+			filters.add(new RsqlNode.Comp("text", RsqlOperator.EQ, List.of(text)));
+		}
+
 		final var tags = parseCsv(tagsRaw);
 		if (!tags.isEmpty()) {
 			filters.add(new RsqlNode.Comp("tags", RsqlOperator.IN, tags));
@@ -109,6 +127,17 @@ public final class QuerySpecBuilder {
 		return out;
 	}
 
+	private static String parseCursor(final String cursorRaw) {
+		final var cursor = trimToNull(cursorRaw);
+		if (cursor == null) {
+			return null;
+		}
+		if (cursor.length() > MAX_CURSOR_LENGTH) {
+			throw new IllegalArgumentException("invalid cursor");
+		}
+		return cursor;
+	}
+
 	private static List<String> parseCsv(final String raw) {
 		final var value = trimToNull(raw);
 		if (value == null) {
@@ -162,6 +191,18 @@ public final class QuerySpecBuilder {
 		return trimmed.isEmpty() ? null : trimmed;
 	}
 
+	/**
+	 * Texto libre en {@code q}: {@code *q*} si tiene al menos
+	 * {@value #MIN_CONTAINS_LENGTH} caracteres; más corto, prefijo {@code q*}. Si
+	 * ya trae {@code *} se usa tal cual.
+	 */
+	private static String freeTextPattern(final String q) {
+		if (q.indexOf('*') >= 0) {
+			return q;
+		}
+		return q.length() >= MIN_CONTAINS_LENGTH ? "*" + q + "*" : q + "*";
+	}
+
 	private static boolean isFreeTextCandidate(final String value) {
 		return value.indexOf('=') < 0
 				&& value.indexOf('!') < 0
@@ -17,11 +17,25 @@ package dev.rafex.kiwi.services;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface AppClientAuthService {
 
 	AuthResult authenticate(String clientId, char[] clientSecret) throws Exception;
 
+	/**
+	 * Igual que {@link #authenticate} pero el future se completa cuando termina
+	 * la verificación del hash, sin dejar esperando al hilo que llama. Por
+	 * defecto delega en la versión síncrona.
+	 */
+	default CompletableFuture<AuthResult> authenticateAsync(final String clientId, final char[] clientSecret) {
+		try {
+			return CompletableFuture.completedFuture(authenticate(clientId, clientSecret));
+		} catch (final Exception e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	CreateClientResult createClient(String clientId, String name, char[] clientSecret, List<String> roles)
 			throws Exception;
 
@@ -17,11 +17,25 @@ package dev.rafex.kiwi.services;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthService {
 
 	AuthResult authenticate(String username, char[] password) throws Exception;
 
+	/**
+	 * Igual que {@link #authenticate} pero el future se completa cuando termina
+	 * la verificación del hash, sin dejar esperando al hilo que llama. Por
+	 * defecto delega en la versión síncrona.
+	 */
+	default CompletableFuture<AuthResult> authenticateAsync(final String username, final char[] password) {
+		try {
+			return CompletableFuture.completedFuture(authenticate(username, password));
+		} catch (final Exception e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	public record AuthResult(boolean ok, UUID userId, String username, List<String> roles, String code) {
 		public static AuthResult ok(final UUID userId, final String username, final List<String> roles) {
 			return new AuthResult(true, userId, username, roles, null);
@@ -15,9 +15,22 @@
  */
 package dev.rafex.kiwi.services;
 
+import dev.rafex.kiwi.models.LocationNode;
+
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface LocationService {
 
 	void create(UUID locationId, String name, UUID parentId) throws Exception;
+
+	/** La ubicación y todo su subárbol; vacía si no existe. */
+	List<LocationNode> subtree(UUID locationId) throws Exception;
+
+	/** De la raíz a la ubicación, ambas incluidas; vacía si no existe. */
+	List<LocationNode> path(UUID locationId) throws Exception;
+
+	/** Hijos directos; vacío si la ubicación no existe. */
+	Optional<List<LocationNode>> children(UUID locationId) throws Exception;
 }
@@ -15,14 +15,21 @@
  */
 package dev.rafex.kiwi.services;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import dev.rafex.kiwi.errors.KiwiError;
+import dev.rafex.kiwi.models.CreateObjectResult;
+import dev.rafex.kiwi.models.Facets;
 import dev.rafex.kiwi.models.FuzzyItem;
+import dev.rafex.kiwi.models.NewObject;
 import dev.rafex.kiwi.models.ObjectDetail;
 import dev.rafex.kiwi.models.SearchItem;
+import dev.rafex.kiwi.models.SearchPage;
+import dev.rafex.kiwi.models.SearchTotal;
+import dev.rafex.kiwi.query.CountMode;
 import dev.rafex.kiwi.query.QuerySpec;
 
 public interface ObjectService {
@@ -30,9 +37,33 @@ public interface ObjectService {
     void create(UUID objectId, String name, String description, String type, String[] tags, String metadataJson,
             UUID locationId) throws Exception;
 
+    /**
+     * Crea un lote de objetos en una sola transacción. Regresa un resultado por
+     * elemento, en el mismo orden.
+     */
+    List<CreateObjectResult> createBatch(List<NewObject> objects) throws KiwiError;
+
     void move(UUID objectId, UUID newLocationId) throws KiwiError;
 
-    List<SearchItem> search(QuerySpec querySpec);
+    SearchPage search(QuerySpec querySpec);
+
+    /**
+     * Total de objetos que cumplen el filtro de {@code querySpec} según
+     * {@code mode}; null con {@link CountMode#NONE}.
+     */
+    SearchTotal count(QuerySpec querySpec, CountMode mode) throws KiwiError;
+
+    /**
+     * Recorre todos los resultados de la búsqueda sin paginar; cada item se
+     * entrega a {@code sink} en cuanto llega de la base de datos.
+     */
+    void export(QuerySpec querySpec, ExportSink sink) throws KiwiError, IOException;
+
+    /**
+     * Conteos por type, status, tags y ubicación de los objetos que cumplen el
+     * filtro de {@code querySpec}; a lo más {@code perFacet} valores por faceta.
+     */
+    Facets facets(QuerySpec querySpec, int perFacet) throws KiwiError;
 
     void updateTags(UUID objectId, String[] tags) throws KiwiError;
 
@@ -42,4 +73,9 @@ public interface ObjectService {
 
     Optional<ObjectDetail> getById(UUID objectId) throws Exception;
 
+    @FunctionalInterface
+    interface ExportSink {
+        void accept(SearchItem item) throws IOException;
+    }
+
 }
@@ -18,6 +18,7 @@ package dev.rafex.kiwi.services.impl;
 import dev.rafex.kiwi.logging.Log;
 import dev.rafex.kiwi.repository.AppClientRepository;
 import dev.rafex.kiwi.security.PasswordHasherPBKDF2;
+import dev.rafex.kiwi.security.PasswordHashingBusyException;
 import dev.rafex.kiwi.services.AppClientAuthService;
 
 import java.security.SecureRandom;
@@ -25,24 +26,48 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-
-public final class AppClientAuthServiceImpl implements AppClientAuthService {
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Autenticación de clientes máquina. Opcionalmente recuerda las verificaciones
+ * PBKDF2 exitosas ({@link VerifiedSecretCache}) y agrupa las escrituras de
+ * {@code last_used_at} ({@link LastUsedWriter}); sin ellos cada llamada verifica
+ * y escribe de forma síncrona.
+ */
+public final class AppClientAuthServiceImpl implements AppClientAuthService, AutoCloseable {
 
 	private final AppClientRepository repository;
 	private final PasswordHasherPBKDF2 hasher;
 	private final SecureRandom random;
 	private final int saltBytes;
 	private final int iterations;
+	private final VerifiedSecretCache verifiedSecrets;
+	private final LastUsedWriter lastUsedWriter;
 
 	public AppClientAuthServiceImpl(final AppClientRepository repository, final PasswordHasherPBKDF2 hasher) {
+		this(repository, hasher, null, null);
+	}
+
+	/** {@code verifiedSecrets} y {@code lastUsedWriter} pueden ser null. */
+	public AppClientAuthServiceImpl(final AppClientRepository repository, final PasswordHasherPBKDF2 hasher,
+			final VerifiedSecretCache verifiedSecrets, final LastUsedWriter lastUsedWriter) {
 		this(repository, hasher, new SecureRandom(),
 				Integer.parseInt(System.getenv().getOrDefault("AUTH_SALT_BYTES", "16")),
-				Integer.parseInt(System.getenv().getOrDefault("AUTH_PBKDF2_ITERATIONS", "120000")));
+				Integer.parseInt(System.getenv().getOrDefault("AUTH_PBKDF2_ITERATIONS", "120000")), verifiedSecrets,
+				lastUsedWriter);
 	}
 
 	public AppClientAuthServiceImpl(final AppClientRepository repository, final PasswordHasherPBKDF2 hasher,
 			final SecureRandom random, final int saltBytes, final int iterations) {
+		this(repository, hasher, random, saltBytes, iterations, null, null);
+	}
+
+	public AppClientAuthServiceImpl(final AppClientRepository repository, final PasswordHasherPBKDF2 hasher,
+			final SecureRandom random, final int saltBytes, final int iterations,
+			final VerifiedSecretCache verifiedSecrets, final LastUsedWriter lastUsedWriter) {
 		this.repository = Objects.requireNonNull(repository);
 		this.hasher = Objects.requireNonNull(hasher);
 		this.random = Objects.requireNonNull(random);
@@ -54,38 +79,73 @@ public final class AppClientAuthServiceImpl implements AppClientAuthService {
 		}
 		this.saltBytes = saltBytes;
 		this.iterations = iterations;
+		this.verifiedSecrets = verifiedSecrets;
+		this.lastUsedWriter = lastUsedWriter;
 	}
 
 	@Override
 	public AuthResult authenticate(final String clientId, final char[] clientSecret) throws Exception {
+		return authenticateAsync(clientId, clientSecret).join();
+	}
+
+	/**
+	 * Lee el cliente en el hilo que llama y verifica el secreto en el pool del
+	 * hasher (o en el cache); el future nunca falla, los errores salen como
+	 * {@code AuthResult.bad}.
+	 */
+	@Override
+	public CompletableFuture<AuthResult> authenticateAsync(final String clientId, final char[] clientSecret) {
 		if (clientId == null || clientId.isBlank() || clientSecret == null || clientSecret.length == 0) {
-			return AuthResult.bad("invalid_client");
+			clear(clientSecret);
+			return CompletableFuture.completedFuture(AuthResult.bad("invalid_client"));
 		}
 
+		final Optional<AppClientRepository.AppClientRow> appOpt;
 		try {
-			final var appOpt = repository.findByClientId(clientId);
-			if (appOpt.isEmpty()) {
-				return AuthResult.bad("invalid_client");
-			}
-
-			final var app = appOpt.get();
-			if (app.status() == null || !"active".equalsIgnoreCase(app.status())) {
-				return AuthResult.bad("client_disabled");
-			}
-
-			final var ok = hasher.verify(clientSecret, app.salt(), app.iterations(), app.secretHash());
-			if (!ok) {
-				return AuthResult.bad("invalid_client");
-			}
-
-			repository.touchLastUsed(app.appClientId());
-			return AuthResult.ok(app.appClientId(), app.clientId(), app.roles());
+			appOpt = repository.findByClientId(clientId);
 		} catch (final SQLException e) {
 			Log.error(getClass(), e, "Error authenticating client {}", clientId);
-			return AuthResult.bad("error");
-		} finally {
-			Arrays.fill(clientSecret, '\0');
+			clear(clientSecret);
+			return CompletableFuture.completedFuture(AuthResult.bad("error"));
+		}
+		if (appOpt.isEmpty()) {
+			clear(clientSecret);
+			return CompletableFuture.completedFuture(AuthResult.bad("invalid_client"));
 		}
+
+		final var app = appOpt.get();
+		if (app.status() == null || !"active".equalsIgnoreCase(app.status())) {
+			clear(clientSecret);
+			return CompletableFuture.completedFuture(AuthResult.bad("client_disabled"));
+		}
+
+		// status y secret_hash salen de la fila recién leída; el cache solo evita el PBKDF2
+		if (verifiedSecrets != null && verifiedSecrets.matches(app.appClientId(), app.secretHash(), clientSecret)) {
+			clear(clientSecret);
+			return CompletableFuture.completedFuture(accepted(app));
+		}
+
+		return hasher.verifyAsync(clientSecret, app.salt(), app.iterations(), app.secretHash()).handle((ok, e) -> {
+			try {
+				if (e != null) {
+					final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					if (cause instanceof PasswordHashingBusyException) {
+						return AuthResult.bad("busy");
+					}
+					Log.error(getClass(), cause, "Error authenticating client {}", clientId);
+					return AuthResult.bad("error");
+				}
+				if (!ok) {
+					return AuthResult.bad("invalid_client");
+				}
+				if (verifiedSecrets != null) {
+					verifiedSecrets.remember(app.appClientId(), app.secretHash(), clientSecret);
+				}
+				return accepted(app);
+			} finally {
+				clear(clientSecret);
+			}
+		});
 	}
 
 	@Override
@@ -123,6 +183,38 @@ public final class AppClientAuthServiceImpl implements AppClientAuthService {
 		}
 	}
 
+	@Override
+	public void close() {
+		if (lastUsedWriter != null) {
+			lastUsedWriter.close();
+		}
+	}
+
+	public VerifiedSecretCache verifiedSecrets() {
+		return verifiedSecrets;
+	}
+
+	private AuthResult accepted(final AppClientRepository.AppClientRow app) {
+		if (lastUsedWriter != null) {
+			lastUsedWriter.record(app.appClientId());
+			return AuthResult.ok(app.appClientId(), app.clientId(), app.roles());
+		}
+		// sin writer la escritura es síncrona (y puede correr en un worker del hasher)
+		try {
+			repository.touchLastUsed(app.appClientId());
+		} catch (final SQLException e) {
+			Log.error(getClass(), e, "Error authenticating client {}", app.clientId());
+			return AuthResult.bad("error");
+		}
+		return AuthResult.ok(app.appClientId(), app.clientId(), app.roles());
+	}
+
+	private static void clear(final char[] secret) {
+		if (secret != null) {
+			Arrays.fill(secret, '\0');
+		}
+	}
+
 	private static List<String> normalizeRoles(final List<String> roles) {
 		if (roles == null || roles.isEmpty()) {
 			return List.of();
@@ -17,12 +17,17 @@ package dev.rafex.kiwi.services.impl;
 
 import dev.rafex.kiwi.logging.Log;
 import dev.rafex.kiwi.repository.UserRepository;
+import dev.rafex.kiwi.repository.UserRepository.UserWithRoles;
 import dev.rafex.kiwi.security.PasswordHasherPBKDF2;
+import dev.rafex.kiwi.security.PasswordHashingBusyException;
 import dev.rafex.kiwi.services.AuthService;
 
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class AuthServiceImpl implements AuthService {
 
@@ -36,42 +41,64 @@ public final class AuthServiceImpl implements AuthService {
 
 	@Override
 	public AuthResult authenticate(final String username, final char[] password) throws Exception {
+		return authenticateAsync(username, password).join();
+	}
+
+	/**
+	 * Lee usuario y roles en el hilo que llama y verifica el hash en el pool del
+	 * hasher; el future nunca falla, los errores salen como {@code AuthResult.bad}.
+	 */
+	@Override
+	public CompletableFuture<AuthResult> authenticateAsync(final String username, final char[] password) {
 		if (username == null || username.isBlank() || password == null || password.length == 0) {
-			return AuthResult.bad("bad_credentials");
+			clear(password);
+			return CompletableFuture.completedFuture(AuthResult.bad("bad_credentials"));
 		}
 
+		final Optional<UserWithRoles> found;
 		try {
-			final var userOpt = repository.findByUsername(username);
-			if (userOpt.isEmpty()) {
-				return AuthResult.bad("bad_credentials");
-			}
+			// credenciales y roles en un solo viaje a la base
+			found = repository.findByUsernameWithRoles(username);
+		} catch (final SQLException e) {
+			// loguea arriba (handler) si quieres; aquí regresamos genérico
+			Log.error(getClass(), e, "Error authenticating user {}", username);
+			clear(password);
+			return CompletableFuture.completedFuture(AuthResult.bad("error"));
+		}
+		if (found.isEmpty()) {
+			clear(password);
+			return CompletableFuture.completedFuture(AuthResult.bad("bad_credentials"));
+		}
 
-			final var user = userOpt.get();
+		final var user = found.get().user();
 
-			// status check
-			if (user.status() == null || !"active".equalsIgnoreCase(user.status())) {
-				// aquí sí conviene distinguir, para que el frontend sepa que está bloqueado
-				return AuthResult.bad("user_disabled");
-			}
+		// status check
+		if (user.status() == null || !"active".equalsIgnoreCase(user.status())) {
+			// aquí sí conviene distinguir, para que el frontend sepa que está bloqueado
+			clear(password);
+			return CompletableFuture.completedFuture(AuthResult.bad("user_disabled"));
+		}
 
-			// password verify
-			final var ok = hasher.verify(password, user.salt(), user.iterations(), user.passwordHash());
-			if (!ok) {
-				return AuthResult.bad("bad_credentials");
+		// password verify; el char[] se limpia hasta que el worker termina con él
+		return hasher.verifyAsync(password, user.salt(), user.iterations(), user.passwordHash()).handle((ok, e) -> {
+			clear(password);
+			if (e == null) {
+				return ok ? AuthResult.ok(user.userId(), user.username(), found.get().roles())
+						: AuthResult.bad("bad_credentials");
 			}
-
-			// roles (activos)
-			final var roles = repository.findRoleNamesByUserId(user.userId());
-
-			return AuthResult.ok(user.userId(), user.username(), roles);
-
-		} catch (final SQLException e) {
-			// loguea arriba (handler) si quieres; aquí regresamos genérico
-			Log.error(getClass(), e, "Error authenticating user {}", username);
+			final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof PasswordHashingBusyException) {
+				return AuthResult.bad("busy");
+			}
+			Log.error(getClass(), cause, "Error authenticating user {}", username);
 			return AuthResult.bad("error");
-		} finally {
-			// higiene: borra password
+		});
+	}
+
+	private static void clear(final char[] password) {
+		// higiene: borra password
+		if (password != null) {
 			Arrays.fill(password, '\0');
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.rafex.kiwi.errors.KiwiError;
+import dev.rafex.kiwi.models.CreateObjectResult;
+import dev.rafex.kiwi.models.Facets;
+import dev.rafex.kiwi.models.FuzzyItem;
+import dev.rafex.kiwi.models.NewObject;
+import dev.rafex.kiwi.models.ObjectDetail;
+import dev.rafex.kiwi.models.SearchPage;
+import dev.rafex.kiwi.models.SearchTotal;
+import dev.rafex.kiwi.query.CountMode;
+import dev.rafex.kiwi.query.QuerySpec;
+import dev.rafex.kiwi.repository.InvalidationBus;
+import dev.rafex.kiwi.services.ObjectService;
+
+/**
+ * Decorador de {@link ObjectService} que cachea {@link #getById(UUID)} en
+ * memoria (read-through).
+ *
+ * <p>
+ * El cache está acotado por un peso aproximado en bytes y tiene TTL por
+ * entrada. Un acierto no toma locks: es un {@code get} de
+ * {@link ConcurrentHashMap} y, si hace falta, marcar la entrada como usada. Al
+ * pasarse del peso un solo hilo barre el mapa estilo CLOCK (segunda
+ * oportunidad): descarta vencidas y no usadas desde el barrido anterior, y a
+ * las demás les quita la marca, hasta bajar a 7/8 del máximo. Toda escritura que pasa por este servicio sobre un objeto lo
+ * invalida; las de otras instancias llegan como {@link #evict(UUID)} si está
+ * suscrito a un {@link InvalidationBus}, y el TTL cubre el resto (SQL directo,
+ * avisos perdidos).
+ */
+public class CachingObjectService implements ObjectService, InvalidationBus.Subscriber {
+
+    // Costo fijo aproximado de una entrada: registro, UUIDs, Instants, nodo del
+    // mapa y cabeceras de los Strings.
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final ObjectService delegate;
+    private final long ttlNanos;
+    private final long maxBytes;
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicLong weightBytes = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // Se incrementa en cada evict; una carga que se cruzó con una
+    // escritura no se guarda.
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private static final class Entry {
+        final ObjectDetail value;
+        final long weight;
+        final long expiresAtNanos;
+        // bit de referencia de CLOCK: lo prende cada acierto, lo apaga el barrido
+        volatile boolean referenced;
+
+        Entry(final ObjectDetail value, final long weight, final long expiresAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    public CachingObjectService(final ObjectService delegate, final long ttlSeconds, final long maxBytes) {
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds debe ser > 0");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes debe ser > 0");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public Optional<ObjectDetail> getById(final UUID objectId) throws Exception {
+        final var now = System.nanoTime();
+        final var e = entries.get(objectId);
+        if (e != null) {
+            if (now - e.expiresAtNanos < 0) {
+                // sólo se escribe si cambia, para no ensuciar la línea de cache en cada acierto
+                if (!e.referenced) {
+                    e.referenced = true;
+                }
+                hits.increment();
+                return Optional.of(e.value);
+            }
+            remove(objectId, e);
+        }
+        misses.increment();
+
+        final var generation = writeGeneration.get();
+        final var loaded = delegate.getById(objectId);
+        // No se cachean ausencias: un create posterior no pasa por evict.
+        if (loaded.isPresent()) {
+            put(objectId, loaded.get(), generation, now + ttlNanos);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void move(final UUID objectId, final UUID newLocationId) throws KiwiError {
+        try {
+            delegate.move(objectId, newLocationId);
+        } finally {
+            evict(objectId);
+        }
+    }
+
+    @Override
+    public void updateTags(final UUID objectId, final String[] tags) throws KiwiError {
+        try {
+            delegate.updateTags(objectId, tags);
+        } finally {
+            evict(objectId);
+        }
+    }
+
+    @Override
+    public void updateText(final UUID objectId, final String name, final String description) throws KiwiError {
+        try {
+            delegate.updateText(objectId, name, description);
+        } finally {
+            evict(objectId);
+        }
+    }
+
+    @Override
+    public void create(final UUID objectId, final String name, final String description, final String type,
+            final String[] tags, final String metadataJson, final UUID locationId) throws Exception {
+        delegate.create(objectId, name, description, type, tags, metadataJson, locationId);
+    }
+
+    @Override
+    public List<CreateObjectResult> createBatch(final List<NewObject> objects) throws KiwiError {
+        return delegate.createBatch(objects);
+    }
+
+    @Override
+    public SearchPage search(final QuerySpec querySpec) {
+        return delegate.search(querySpec);
+    }
+
+    @Override
+    public SearchTotal count(final QuerySpec querySpec, final CountMode mode) throws KiwiError {
+        return delegate.count(querySpec, mode);
+    }
+
+    @Override
+    public void export(final QuerySpec querySpec, final ExportSink sink) throws KiwiError, IOException {
+        delegate.export(querySpec, sink);
+    }
+
+    @Override
+    public Facets facets(final QuerySpec querySpec, final int perFacet) throws KiwiError {
+        return delegate.facets(querySpec, perFacet);
+    }
+
+    @Override
+    public List<FuzzyItem> fuzzy(final String text, final int limit, final int offset) throws Exception {
+        return delegate.fuzzy(text, limit, offset);
+    }
+
+    /** Descarta la entrada de {@code objectId}, si existe. */
+    @Override
+    public void evict(final UUID objectId) {
+        writeGeneration.incrementAndGet();
+        final var e = entries.remove(objectId);
+        if (e != null) {
+            weightBytes.addAndGet(-e.weight);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        writeGeneration.incrementAndGet();
+        // entrada por entrada para que el peso quede consistente con puts concurrentes
+        entries.forEach(this::remove);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** Proporción de aciertos en [0, 1]; 0 si aún no hubo lecturas. */
+    public double hitRatio() {
+        final var h = hits.sum();
+        final var total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weightBytes() {
+        return weightBytes.get();
+    }
+
+    private void put(final UUID objectId, final ObjectDetail value, final long generation,
+            final long expiresAtNanos) {
+        final var weight = weigh(value);
+        if (weight > maxBytes) {
+            return;
+        }
+        final var entry = new Entry(value, weight, expiresAtNanos);
+        // compute bloquea sólo la cubeta de la llave, la misma que toma el remove
+        // de evict; como evict incrementa antes, si la generación coincide aquí
+        // ninguna escritura se cruzó con la carga.
+        entries.compute(objectId, (k, previous) -> {
+            if (writeGeneration.get() != generation) {
+                return previous;
+            }
+            weightBytes.addAndGet(previous == null ? weight : weight - previous.weight);
+            return entry;
+        });
+        if (weightBytes.get() > maxBytes) {
+            sweep();
+        }
+    }
+
+    private void remove(final UUID objectId, final Entry e) {
+        if (entries.remove(objectId, e)) {
+            weightBytes.addAndGet(-e.weight);
+        }
+    }
+
+    private void sweep() {
+        // un solo hilo barre; los demás insertan y el peso puede pasarse un poco
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final var target = maxBytes - maxBytes / 8;
+            final var now = System.nanoTime();
+            // primera vuelta: segunda oportunidad a las usadas; segunda: lo que haga falta
+            for (var pass = 0; pass < 2 && weightBytes.get() > target; pass++) {
+                for (final var it = entries.entrySet().iterator(); it.hasNext() && weightBytes.get() > target;) {
+                    final var slot = it.next();
+                    final var e = slot.getValue();
+                    if (pass == 0 && e.referenced && now - e.expiresAtNanos < 0) {
+                        e.referenced = false;
+                    } else {
+                        remove(slot.getKey(), e);
+                    }
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static long weigh(final ObjectDetail o) {
+        var w = ENTRY_OVERHEAD_BYTES + chars(o.name()) + chars(o.description()) + chars(o.type())
+                + chars(o.status()) + chars(o.metadataJson());
+        if (o.tags() != null) {
+            w += 16L + 8L * o.tags().length;
+            for (final var t : o.tags()) {
+                w += chars(t);
+            }
+        }
+        return w;
+    }
+
+    private static long chars(final String s) {
+        // Compact strings: la mayoría de los datos son Latin-1 (1 byte por char).
+        return s == null ? 0 : STRING_OVERHEAD_BYTES + s.length();
+    }
+
+}
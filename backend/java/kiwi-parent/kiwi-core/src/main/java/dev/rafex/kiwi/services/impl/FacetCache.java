@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.rafex.kiwi.models.Facets;
+import dev.rafex.kiwi.query.RsqlNode;
+
+/**
+ * Cache corto de {@code GET /objects/facets}. La llave es el filtro ya
+ * parseado (los nodos RSQL son records, así que dos peticiones con el mismo
+ * {@code q} comparten entrada) más el tope por faceta.
+ *
+ * <p>
+ * No se invalida con las escrituras: un conteo puede tener hasta
+ * {@code ttlSeconds} de atraso, que es el precio de no recalcular las facetas
+ * de una pantalla muy visitada en cada petición. LRU acotado por
+ * {@code maxEntries}.
+ */
+public final class FacetCache {
+
+	private final long ttlNanos;
+	private final int maxEntries;
+
+	// access-order = true: cada get mueve la entrada al final (LRU)
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private record Key(RsqlNode filter, int perFacet) {
+	}
+
+	private record Entry(Facets value, long expiresAtNanos) {
+	}
+
+	public FacetCache(final long ttlSeconds, final int maxEntries) {
+		if (ttlSeconds <= 0) {
+			throw new IllegalArgumentException("ttlSeconds debe ser > 0");
+		}
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries debe ser > 0");
+		}
+		this.ttlNanos = ttlSeconds * 1_000_000_000L;
+		this.maxEntries = maxEntries;
+	}
+
+	/** Conteos vigentes para el filtro, o null. */
+	public Facets get(final RsqlNode filter, final int perFacet) {
+		final var key = new Key(filter, perFacet);
+		synchronized (entries) {
+			final var e = entries.get(key);
+			if (e != null) {
+				if (System.nanoTime() - e.expiresAtNanos() < 0) {
+					hits.increment();
+					return e.value();
+				}
+				entries.remove(key);
+			}
+		}
+		misses.increment();
+		return null;
+	}
+
+	public void put(final RsqlNode filter, final int perFacet, final Facets value) {
+		final var entry = new Entry(value, System.nanoTime() + ttlNanos);
+		synchronized (entries) {
+			entries.put(new Key(filter, perFacet), entry);
+			final var it = entries.values().iterator();
+			while (entries.size() > maxEntries && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+}
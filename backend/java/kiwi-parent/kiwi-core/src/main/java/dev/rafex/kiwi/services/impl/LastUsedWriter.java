@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.AppClientRepository;
+
+/**
+ * Agrupa las actualizaciones de {@code app_clients.last_used_at}: cada
+ * autenticación solo marca el cliente y un hilo de fondo escribe todos los
+ * marcados en un solo UPDATE cada {@code intervalSeconds}. {@code last_used_at}
+ * queda con la hora del volcado, a lo más un intervalo tarde.
+ */
+public final class LastUsedWriter implements AutoCloseable {
+
+	private final AppClientRepository repository;
+	private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService scheduler;
+
+	public LastUsedWriter(final AppClientRepository repository, final long intervalSeconds) {
+		if (intervalSeconds <= 0) {
+			throw new IllegalArgumentException("intervalSeconds debe ser > 0");
+		}
+		this.repository = Objects.requireNonNull(repository, "repository");
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			final var t = new Thread(r, "kiwi-last-used-writer");
+			t.setDaemon(true);
+			return t;
+		});
+		scheduler.scheduleWithFixedDelay(this::flush, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+	}
+
+	public void record(final UUID appClientId) {
+		pending.add(appClientId);
+	}
+
+	void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		final var batch = new ArrayList<UUID>(pending.size());
+		for (final var it = pending.iterator(); it.hasNext();) {
+			batch.add(it.next());
+			it.remove();
+		}
+		try {
+			repository.touchLastUsed(batch);
+		} catch (final SQLException | RuntimeException e) {
+			// se reintenta en el siguiente volcado
+			pending.addAll(batch);
+			Log.warn(getClass(), e, "Error updating last_used_at for {} app clients", batch.size());
+		}
+	}
+
+	/** Detiene el hilo y escribe lo pendiente. */
+	@Override
+	public void close() {
+		scheduler.shutdown();
+		try {
+			scheduler.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.InvalidationBus;
+import dev.rafex.kiwi.repository.LocationRepository;
+
+/**
+ * Índice en memoria del árbol de ubicaciones. Se carga completo al arrancar y
+ * se reemplaza entero (otra {@link LocationTree}) cuando una ubicación cambia:
+ * las ubicaciones cambian poco y se leen en cada búsqueda, así que recargar la
+ * tabla es más barato que mantener la foto incrementalmente.
+ *
+ * <p>
+ * Los lectores toman la foto vigente sin bloquear. Si una recarga falla la
+ * foto se descarta y la siguiente lectura vuelve a intentarlo, en vez de
+ * seguir sirviendo un árbol que ya se sabe viejo.
+ *
+ * <p>
+ * Con {@code ttlSeconds > 0} la foto además vence: sin bus de invalidación
+ * ({@code KIWI_INVALIDATION_LISTEN=false}) o con cambios por SQL directo, otra
+ * réplica no avisa, y así el atraso queda acotado. Al vencer, una sola lectura
+ * recarga; las demás siguen con la foto anterior mientras tanto.
+ */
+public final class LocationIndex implements InvalidationBus.Subscriber {
+
+	private final LocationRepository repository;
+	private final long ttlNanos;
+	private final AtomicBoolean reloading = new AtomicBoolean();
+
+	private volatile Snapshot snapshot;
+
+	public LocationIndex(final LocationRepository repository) {
+		this(repository, 0);
+	}
+
+	/** {@code ttlSeconds} 0: la foto sólo cambia con escrituras locales y el bus. */
+	public LocationIndex(final LocationRepository repository, final long ttlSeconds) {
+		if (ttlSeconds < 0) {
+			throw new IllegalArgumentException("ttlSeconds no puede ser negativo");
+		}
+		this.repository = Objects.requireNonNull(repository, "repository");
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+	}
+
+	/** Foto vigente; la carga si no hay una o si ya venció. */
+	public LocationTree tree() throws SQLException {
+		final var current = snapshot;
+		if (current == null) {
+			return reload();
+		}
+		if (ttlNanos > 0 && System.nanoTime() - current.loadedAt() > ttlNanos
+				&& reloading.compareAndSet(false, true)) {
+			try {
+				return reload();
+			} finally {
+				reloading.set(false);
+			}
+		}
+		return current.tree();
+	}
+
+	/** Lee todas las ubicaciones y publica una foto nueva. */
+	public synchronized LocationTree reload() throws SQLException {
+		// la edad cuenta desde antes de leer: lo que cambie durante la carga puede faltar
+		final var startedAt = System.nanoTime();
+		final var fresh = new LocationTree(repository.findAll());
+		snapshot = new Snapshot(fresh, startedAt);
+		return fresh;
+	}
+
+	@Override
+	public void evict(final UUID locationId) {
+		refresh();
+	}
+
+	@Override
+	public void evictAll() {
+		refresh();
+	}
+
+	/** Recarga sin propagar el error; usado tras escrituras y avisos del bus. */
+	public synchronized void refresh() {
+		try {
+			reload();
+		} catch (final SQLException e) {
+			snapshot = null;
+			Log.warn(getClass(), e, "Could not reload location tree; next read retries: {}", e.getMessage());
+		}
+	}
+
+	private record Snapshot(LocationTree tree, long loadedAt) {
+	}
+
+}
@@ -17,18 +17,27 @@ package dev.rafex.kiwi.services.impl;
 
 import dev.rafex.kiwi.errors.KiwiError;
 import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.models.LocationNode;
 import dev.rafex.kiwi.repository.LocationRepository;
 import dev.rafex.kiwi.services.LocationService;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public class LocationServiceImpl implements LocationService {
 
 	private final LocationRepository repo;
+	private final LocationIndex index;
 
 	public LocationServiceImpl(final LocationRepository repo) {
+		this(repo, new LocationIndex(repo));
+	}
+
+	public LocationServiceImpl(final LocationRepository repo, final LocationIndex index) {
 		this.repo = repo;
+		this.index = index;
 	}
 
 	@Override
@@ -42,5 +51,30 @@ public class LocationServiceImpl implements LocationService {
 			}
 			throw new KiwiError("E-002", "DB error creating location", e);
 		}
+		// el aviso del bus también llega aquí, pero este proceso no debe esperarlo
+		index.refresh();
+	}
+
+	@Override
+	public List<LocationNode> subtree(final UUID locationId) throws KiwiError {
+		return tree().subtree(locationId);
+	}
+
+	@Override
+	public List<LocationNode> path(final UUID locationId) throws KiwiError {
+		return tree().path(locationId);
+	}
+
+	@Override
+	public Optional<List<LocationNode>> children(final UUID locationId) throws KiwiError {
+		return Optional.ofNullable(tree().children(locationId));
+	}
+
+	private LocationTree tree() throws KiwiError {
+		try {
+			return index.tree();
+		} catch (final SQLException e) {
+			throw new KiwiError("E-002", "DB error loading location tree", e);
+		}
 	}
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import dev.rafex.kiwi.models.LocationNode;
+import dev.rafex.kiwi.repository.LocationRepository.LocationRow;
+
+/**
+ * Foto inmutable del árbol de ubicaciones. Cada ubicación ocupa una posición
+ * densa {@code 0..n-1}, y todo lo demás son arreglos indexados por esa
+ * posición: padre, profundidad, hijos (en formato CSR, ordenados por nombre) y
+ * el intervalo {@code [tin, tout]} de un recorrido en preorden (Euler).
+ *
+ * <p>
+ * {@code a} es ancestro de {@code b} si y solo si
+ * {@code tin[a] <= tin[b] && tout[b] <= tout[a]}, y el subárbol de {@code a}
+ * es el tramo {@code order[tin[a]..tout[a]]}: ninguna consulta recorre la
+ * jerarquía ni toca la base.
+ *
+ * <p>
+ * Las búsquedas por {@code location_id} y por llave interna usan tablas de
+ * direccionamiento abierto sobre {@code long} para no crear un objeto por
+ * llave.
+ */
+public final class LocationTree {
+
+	private final long[] ids;
+	private final UUID[] locationIds;
+	private final String[] names;
+	private final int[] parent;
+	private final int[] depth;
+	private final int[] childStart;
+	private final int[] children;
+	private final int[] tin;
+	private final int[] tout;
+	private final int[] order;
+
+	private final LongPairIndex byLocationId;
+
+	public LocationTree(final List<LocationRow> rows) {
+		final var n = rows.size();
+		ids = new long[n];
+		locationIds = new UUID[n];
+		names = new String[n];
+		parent = new int[n];
+		depth = new int[n];
+		byLocationId = new LongPairIndex(n);
+		final var byId = new LongPairIndex(n);
+
+		for (var i = 0; i < n; i++) {
+			final var r = rows.get(i);
+			ids[i] = r.id();
+			locationIds[i] = r.locationId();
+			names[i] = r.name();
+			byLocationId.put(r.locationId().getMostSignificantBits(), r.locationId().getLeastSignificantBits(), i);
+			byId.put(r.id(), 0L, i);
+		}
+
+		// un padre que no está en la foto convierte al nodo en raíz
+		final var childCount = new int[n + 1];
+		for (var i = 0; i < n; i++) {
+			final var parentId = rows.get(i).parentId();
+			parent[i] = parentId == 0 ? -1 : byId.get(parentId, 0L);
+			if (parent[i] >= 0) {
+				childCount[parent[i] + 1]++;
+			}
+		}
+
+		childStart = new int[n + 1];
+		for (var i = 0; i < n; i++) {
+			childStart[i + 1] = childStart[i] + childCount[i + 1];
+		}
+		children = new int[childStart[n]];
+		final var fill = Arrays.copyOf(childStart, n);
+		final var roots = new ArrayList<Integer>();
+		for (var i = 0; i < n; i++) {
+			if (parent[i] >= 0) {
+				children[fill[parent[i]]++] = i;
+			} else {
+				roots.add(i);
+			}
+		}
+		final Comparator<Integer> byName = Comparator.comparing(i -> names[i]);
+		for (var i = 0; i < n; i++) {
+			sortRange(children, childStart[i], childStart[i + 1], byName);
+		}
+		roots.sort(byName);
+
+		tin = new int[n];
+		tout = new int[n];
+		order = new int[n];
+		final var next = new int[n];
+		final var stack = new int[n];
+		var clock = 0;
+		for (final int root : roots) {
+			var top = 0;
+			stack[top++] = root;
+			depth[root] = 0;
+			tin[root] = clock;
+			order[clock++] = root;
+			next[root] = childStart[root];
+			while (top > 0) {
+				final var v = stack[top - 1];
+				if (next[v] < childStart[v + 1]) {
+					final var c = children[next[v]++];
+					depth[c] = depth[v] + 1;
+					tin[c] = clock;
+					order[clock++] = c;
+					next[c] = childStart[c];
+					stack[top++] = c;
+				} else {
+					tout[v] = clock - 1;
+					top--;
+				}
+			}
+		}
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	public boolean contains(final UUID locationId) {
+		return indexOf(locationId) >= 0;
+	}
+
+	/** Llave interna ({@code locations.id}) o -1 si no existe. */
+	public long internalId(final UUID locationId) {
+		final var i = indexOf(locationId);
+		return i < 0 ? -1 : ids[i];
+	}
+
+	/** true si {@code ancestor} es {@code descendant} o lo contiene. */
+	public boolean isAncestor(final UUID ancestor, final UUID descendant) {
+		final var a = indexOf(ancestor);
+		final var d = indexOf(descendant);
+		return a >= 0 && d >= 0 && tin[a] <= tin[d] && tout[d] <= tout[a];
+	}
+
+	/**
+	 * Ruta de la raíz a {@code locationId}, ambas incluidas; {@code depth} es la
+	 * distancia a la raíz. Vacía si no existe.
+	 */
+	public List<LocationNode> path(final UUID locationId) {
+		var i = indexOf(locationId);
+		if (i < 0) {
+			return List.of();
+		}
+		final var out = new LocationNode[depth[i] + 1];
+		for (; i >= 0; i = parent[i]) {
+			out[depth[i]] = node(i, depth[i]);
+		}
+		return List.of(out);
+	}
+
+	/** Hijos directos por nombre; null si {@code locationId} no existe. */
+	public List<LocationNode> children(final UUID locationId) {
+		final var i = indexOf(locationId);
+		if (i < 0) {
+			return null;
+		}
+		final var out = new ArrayList<LocationNode>(childStart[i + 1] - childStart[i]);
+		for (var k = childStart[i]; k < childStart[i + 1]; k++) {
+			out.add(node(children[k], 1));
+		}
+		return out;
+	}
+
+	/**
+	 * La ubicación y todos sus descendientes por profundidad (relativa a ella) y
+	 * nombre. Vacía si no existe.
+	 */
+	public List<LocationNode> subtree(final UUID locationId) {
+		final var root = indexOf(locationId);
+		if (root < 0) {
+			return List.of();
+		}
+		final var out = new ArrayList<LocationNode>(tout[root] - tin[root] + 1);
+		for (var k = tin[root]; k <= tout[root]; k++) {
+			out.add(node(order[k], depth[order[k]] - depth[root]));
+		}
+		out.sort(Comparator.comparingInt(LocationNode::depth).thenComparing(LocationNode::name));
+		return out;
+	}
+
+	private int indexOf(final UUID locationId) {
+		if (locationId == null) {
+			return -1;
+		}
+		return byLocationId.get(locationId.getMostSignificantBits(), locationId.getLeastSignificantBits());
+	}
+
+	private LocationNode node(final int i, final int d) {
+		return new LocationNode(locationIds[i], names[i], parent[i] < 0 ? null : locationIds[parent[i]], d);
+	}
+
+	private static void sortRange(final int[] a, final int from, final int to, final Comparator<Integer> cmp) {
+		if (to - from < 2) {
+			return;
+		}
+		final var boxed = new Integer[to - from];
+		for (var k = from; k < to; k++) {
+			boxed[k - from] = a[k];
+		}
+		Arrays.sort(boxed, cmp);
+		for (var k = from; k < to; k++) {
+			a[k] = boxed[k - from];
+		}
+	}
+
+	/**
+	 * Tabla hash de solo inserción de (long, long) a posición, con sondeo lineal.
+	 * Un UUID son sus dos mitades; una llave interna usa {@code lo = 0}.
+	 */
+	private static final class LongPairIndex {
+
+		private final long[] his;
+		private final long[] los;
+		private final int[] values;
+		private final int mask;
+
+		LongPairIndex(final int expected) {
+			final var capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+			his = new long[capacity];
+			los = new long[capacity];
+			values = new int[capacity];
+			Arrays.fill(values, -1);
+			mask = capacity - 1;
+		}
+
+		void put(final long hi, final long lo, final int value) {
+			var slot = slot(hi, lo);
+			while (values[slot] >= 0 && (his[slot] != hi || los[slot] != lo)) {
+				slot = (slot + 1) & mask;
+			}
+			his[slot] = hi;
+			los[slot] = lo;
+			values[slot] = value;
+		}
+
+		int get(final long hi, final long lo) {
+			for (var slot = slot(hi, lo);; slot = (slot + 1) & mask) {
+				final var v = values[slot];
+				if (v < 0 || his[slot] == hi && los[slot] == lo) {
+					return v;
+				}
+			}
+		}
+
+		private int slot(final long hi, final long lo) {
+			// mezcla de murmur3 (fmix64) para no depender de cómo se generaron las llaves
+			var h = hi * 0x9E3779B97F4A7C15L ^ lo;
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			return (int) h & mask;
+		}
+	}
+
+}
@@ -15,27 +15,64 @@
  */
 package dev.rafex.kiwi.services.impl;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 
 import dev.rafex.kiwi.errors.KiwiError;
+import dev.rafex.kiwi.models.CreateObjectResult;
+import dev.rafex.kiwi.models.FacetValue;
+import dev.rafex.kiwi.models.Facets;
 import dev.rafex.kiwi.logging.Log;
 import dev.rafex.kiwi.models.FuzzyItem;
+import dev.rafex.kiwi.models.NewObject;
 import dev.rafex.kiwi.models.ObjectDetail;
 import dev.rafex.kiwi.models.SearchItem;
+import dev.rafex.kiwi.models.SearchPage;
+import dev.rafex.kiwi.models.SearchTotal;
+import dev.rafex.kiwi.query.CountMode;
 import dev.rafex.kiwi.query.QuerySpec;
 import dev.rafex.kiwi.repository.ObjectRepository;
 import dev.rafex.kiwi.services.ObjectService;
 
 public class ObjectServiceImpl implements ObjectService {
 
+    private static final List<String> FACETS = List.of("type", "status", "tags", "locationId");
+
+    public static final long DEFAULT_COUNT_CAP = 10_000;
+
     private final ObjectRepository repo;
+    private final FacetCache facetCache;
+    private final long countCap;
+    private final Semaphore exportPermits;
 
     public ObjectServiceImpl(final ObjectRepository repo) {
+        this(repo, null, DEFAULT_COUNT_CAP, 0);
+    }
+
+    /**
+     * {@code facetCache} puede ser null para no cachear facetas;
+     * {@code countCap} es el tope de {@code count=exact};
+     * {@code maxConcurrentExports} limita {@link #export} (0 no limita).
+     */
+    public ObjectServiceImpl(final ObjectRepository repo, final FacetCache facetCache, final long countCap,
+            final int maxConcurrentExports) {
+        if (countCap <= 0) {
+            throw new IllegalArgumentException("countCap debe ser > 0");
+        }
+        if (maxConcurrentExports < 0) {
+            throw new IllegalArgumentException("maxConcurrentExports no puede ser negativo");
+        }
         this.repo = repo;
+        this.facetCache = facetCache;
+        this.countCap = countCap;
+        this.exportPermits = maxConcurrentExports == 0 ? null : new Semaphore(maxConcurrentExports);
     }
 
     @Override
@@ -49,6 +86,26 @@ public class ObjectServiceImpl implements ObjectService {
         }
     }
 
+    @Override
+    public List<CreateObjectResult> createBatch(final List<NewObject> objects) throws KiwiError {
+        final var rows = new ArrayList<ObjectRepository.NewObjectRow>(objects.size());
+        for (final var o : objects) {
+            rows.add(new ObjectRepository.NewObjectRow(o.objectId(), o.name(), o.description(), o.type(), o.tags(),
+                    o.metadataJson(), o.locationId()));
+        }
+        try {
+            final var created = repo.createObjects(rows);
+            final var result = new ArrayList<CreateObjectResult>(created.size());
+            for (final var r : created) {
+                result.add(new CreateObjectResult(r.objectId(), r.error()));
+            }
+            return result;
+        } catch (final SQLException e) {
+            Log.error(getClass(), "Error creating object batch in DB", e);
+            throw new KiwiError("E-008", "Error creating object batch in DB", e);
+        }
+    }
+
     @Override
     public void move(final UUID objectId, final UUID newLocationId) throws KiwiError {
         try {
@@ -64,19 +121,93 @@ public class ObjectServiceImpl implements ObjectService {
     }
 
     @Override
-    public List<SearchItem> search(final QuerySpec querySpec) {
+    public SearchPage search(final QuerySpec querySpec) {
         try {
-            final var rows = repo.search(querySpec);
+            final var page = repo.search(querySpec);
+            final var rows = page.rows();
             // Si SearchRow y SearchItem comparten campos, usar view directa
             final var result = new ArrayList<SearchItem>(rows.size());
             for (final var r : rows) {
                 result.add(new SearchItem(r.objectId(), r.name(), r.rank()));
             }
-            return result;
+            return new SearchPage(result, page.nextCursor());
         } catch (final SQLException e) {
             Log.error(getClass(), "Error searching for objects", e);
-            return List.of(); // immutable empty, zero-alloc
+            return new SearchPage(List.of(), null);
+        }
+    }
+
+    @Override
+    public SearchTotal count(final QuerySpec querySpec, final CountMode mode) throws KiwiError {
+        try {
+            if (mode == CountMode.ESTIMATE) {
+                final var estimate = repo.estimateSearch(querySpec);
+                // sin estadística todavía: el conteo acotado sigue siendo barato
+                if (estimate >= 0) {
+                    return new SearchTotal(estimate, SearchTotal.ESTIMATE);
+                }
+            } else if (mode != CountMode.EXACT) {
+                return null;
+            }
+            final var n = repo.countSearch(querySpec, countCap);
+            return n > countCap ? new SearchTotal(countCap, SearchTotal.GTE) : new SearchTotal(n, SearchTotal.EQ);
+        } catch (final SQLException e) {
+            Log.error(getClass(), "Error counting objects", e);
+            throw new KiwiError("E-010", "Error counting objects", e);
+        }
+    }
+
+    /**
+     * Cada export retiene una conexión del pool mientras el cliente lee; HTTP y
+     * gRPC comparten el mismo límite y al agotarse se rechaza de inmediato
+     * (E-011) en lugar de esperar.
+     */
+    @Override
+    public void export(final QuerySpec querySpec, final ExportSink sink) throws KiwiError, IOException {
+        if (exportPermits != null && !exportPermits.tryAcquire()) {
+            throw new KiwiError("E-011", "Too many concurrent exports");
+        }
+        try {
+            repo.exportSearch(querySpec, r -> sink.accept(new SearchItem(r.objectId(), r.name(), r.rank())));
+        } catch (final SQLException e) {
+            Log.error(getClass(), "Error exporting objects", e);
+            throw new KiwiError("E-007", "Error exporting objects", e);
+        } finally {
+            if (exportPermits != null) {
+                exportPermits.release();
+            }
+        }
+    }
+
+    @Override
+    public Facets facets(final QuerySpec querySpec, final int perFacet) throws KiwiError {
+        if (facetCache != null) {
+            final var cached = facetCache.get(querySpec.filter(), perFacet);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final ObjectRepository.FacetCounts counts;
+        try {
+            counts = repo.facets(querySpec, perFacet);
+        } catch (final SQLException e) {
+            Log.error(getClass(), "Error counting facets", e);
+            throw new KiwiError("E-009", "Error counting facets", e);
+        }
+        final var byFacet = new LinkedHashMap<String, List<FacetValue>>();
+        for (final var facet : FACETS) {
+            byFacet.put(facet, new ArrayList<>());
+        }
+        for (final var row : counts.rows()) {
+            byFacet.get(row.facet()).add(new FacetValue(row.value(), row.count()));
+        }
+        // la misma instancia puede servirse desde el cache a varias peticiones
+        byFacet.replaceAll((facet, values) -> List.copyOf(values));
+        final var facets = new Facets(counts.total(), Collections.unmodifiableMap(byFacet));
+        if (facetCache != null) {
+            facetCache.put(querySpec.filter(), perFacet, facets);
         }
+        return facets;
     }
 
     @Override
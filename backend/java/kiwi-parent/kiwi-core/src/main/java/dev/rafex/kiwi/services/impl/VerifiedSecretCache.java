@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.services.impl;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import dev.rafex.kiwi.repository.InvalidationBus;
+
+/**
+ * Recuerda, por cliente, que un secreto ya pasó la verificación PBKDF2 para no
+ * repetirla en cada {@code POST /auth/token}.
+ *
+ * <p>
+ * No guarda el secreto: guarda un HMAC-SHA256 de él con una llave aleatoria
+ * que solo vive en este proceso, junto con el {@code secret_hash} que estaba
+ * en la base al verificarlo. Un acierto exige que ambos coincidan (comparados
+ * en tiempo constante), así que rotar el secreto invalida la entrada aunque se
+ * pierda el aviso del {@link InvalidationBus}. Lo almacenado en la base no
+ * cambia.
+ *
+ * <p>
+ * LRU acotado por {@code maxEntries} y con TTL por entrada.
+ */
+public final class VerifiedSecretCache implements InvalidationBus.Subscriber {
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final SecretKeySpec key;
+	private final long ttlNanos;
+	private final int maxEntries;
+
+	// access-order = true: cada get mueve la entrada al final (LRU)
+	private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private record Entry(byte[] storedHash, byte[] mac, long expiresAtNanos) {
+	}
+
+	public VerifiedSecretCache(final long ttlSeconds, final int maxEntries) {
+		if (ttlSeconds <= 0) {
+			throw new IllegalArgumentException("ttlSeconds debe ser > 0");
+		}
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries debe ser > 0");
+		}
+		final var keyBytes = new byte[32];
+		new SecureRandom().nextBytes(keyBytes);
+		this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+		Arrays.fill(keyBytes, (byte) 0);
+		this.ttlNanos = ttlSeconds * 1_000_000_000L;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * true si {@code secret} ya se verificó para este cliente contra el mismo
+	 * {@code storedHash} y la entrada no ha vencido.
+	 */
+	public boolean matches(final UUID appClientId, final byte[] storedHash, final char[] secret) {
+		final Entry e;
+		synchronized (entries) {
+			e = entries.get(appClientId);
+			if (e != null && System.nanoTime() - e.expiresAtNanos() >= 0) {
+				entries.remove(appClientId);
+				misses.increment();
+				return false;
+			}
+		}
+		if (e == null || !MessageDigest.isEqual(e.storedHash(), storedHash)
+				|| !MessageDigest.isEqual(e.mac(), mac(secret))) {
+			misses.increment();
+			return false;
+		}
+		hits.increment();
+		return true;
+	}
+
+	/** Registra una verificación PBKDF2 exitosa. */
+	public void remember(final UUID appClientId, final byte[] storedHash, final char[] secret) {
+		final var entry = new Entry(storedHash.clone(), mac(secret), System.nanoTime() + ttlNanos);
+		synchronized (entries) {
+			entries.put(Objects.requireNonNull(appClientId, "appClientId"), entry);
+			final var it = entries.values().iterator();
+			while (entries.size() > maxEntries && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	@Override
+	public void evict(final UUID appClientId) {
+		synchronized (entries) {
+			entries.remove(appClientId);
+		}
+	}
+
+	@Override
+	public void evictAll() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private byte[] mac(final char[] secret) {
+		final var encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(secret));
+		final var bytes = new byte[encoded.remaining()];
+		encoded.get(bytes);
+		try {
+			final var mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(bytes);
+		} catch (final GeneralSecurityException e) {
+			// HmacSHA256 es obligatorio en toda JVM
+			throw new IllegalStateException(e);
+		} finally {
+			Arrays.fill(bytes, (byte) 0);
+			if (encoded.hasArray()) {
+				Arrays.fill(encoded.array(), (byte) 0);
+			}
+		}
+	}
+
+}
@@ -18,6 +18,10 @@ package dev.rafex.kiwi.db;
 import dev.rafex.kiwi.logging.Log;
 
 import java.net.URI;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
 
 import javax.sql.DataSource;
 
@@ -83,6 +87,27 @@ public final class Db {
 		return DS;
 	}
 
+	/**
+	 * Conexión fuera del pool, para quien la retiene indefinidamente (LISTEN). Usa
+	 * las mismas credenciales que el pool; cerrarla es responsabilidad de quien la
+	 * abre.
+	 */
+	public static Connection openDedicatedConnection(final String applicationName) throws SQLException {
+		final var props = new Properties();
+		final var dbUser = System.getenv("DB_USER");
+		final var dbPassword = System.getenv("DB_PASSWORD");
+		if (dbUser != null && !dbUser.isBlank()) {
+			props.setProperty("user", dbUser);
+		}
+		if (dbPassword != null && !dbPassword.isBlank()) {
+			props.setProperty("password", dbPassword);
+		}
+		props.setProperty("ApplicationName", applicationName);
+		// Detecta conexiones muertas aunque no haya tráfico
+		props.setProperty("tcpKeepAlive", "true");
+		return DriverManager.getConnection(System.getenv("DB_URL"), props);
+	}
+
 	private static int parseIntEnv(final String name, final int def) {
 		final var v = System.getenv(name);
 		if (v == null || v.isBlank()) {
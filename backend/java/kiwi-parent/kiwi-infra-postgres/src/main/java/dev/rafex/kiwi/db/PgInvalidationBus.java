@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.db;
+
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.InvalidationBus;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.postgresql.PGConnection;
+
+/**
+ * {@link InvalidationBus} sobre LISTEN/NOTIFY de PostgreSQL.
+ *
+ * <p>
+ * Un hilo daemon mantiene una conexión dedicada (fuera del pool) escuchando el
+ * canal {@value #CHANNEL}; las funciones {@code api_*} publican ahí
+ * {@code '<entidad>:<uuid>'} al confirmar la transacción. Si la conexión se cae
+ * se reconecta con backoff y, como los avisos de ese intervalo se pierden, pide
+ * a todos los suscriptores {@code evictAll()}.
+ */
+public final class PgInvalidationBus implements InvalidationBus, AutoCloseable {
+
+	public static final String CHANNEL = "kiwi_invalidation";
+
+	private static final int POLL_MILLIS = 10_000;
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+	private static final long MIN_BACKOFF_MILLIS = 500;
+	private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+	@FunctionalInterface
+	public interface ConnectionSource {
+		Connection open() throws SQLException;
+	}
+
+	private final ConnectionSource connections;
+	private final ConcurrentHashMap<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final Thread listener;
+
+	private volatile boolean running = true;
+	private volatile Connection connection;
+
+	private PgInvalidationBus(final ConnectionSource connections) {
+		this.connections = Objects.requireNonNull(connections, "connections");
+		listener = new Thread(this::listen, "kiwi-invalidation-listener");
+		listener.setDaemon(true);
+	}
+
+	public static PgInvalidationBus start(final ConnectionSource connections) {
+		final var bus = new PgInvalidationBus(connections);
+		bus.listener.start();
+		return bus;
+	}
+
+	@Override
+	public void subscribe(final String entity, final Subscriber subscriber) {
+		Objects.requireNonNull(entity, "entity");
+		Objects.requireNonNull(subscriber, "subscriber");
+		subscribers.computeIfAbsent(entity, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		final var c = connection;
+		if (c != null) {
+			try {
+				// desbloquea getNotifications
+				c.close();
+			} catch (final SQLException e) {
+				Log.debug(getClass(), e, "Error closing LISTEN connection");
+			}
+		}
+		listener.interrupt();
+		try {
+			listener.join(2_000);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void listen() {
+		var backoff = MIN_BACKOFF_MILLIS;
+		while (running) {
+			try (var c = connections.open()) {
+				connection = c;
+				c.setAutoCommit(true);
+				try (var st = c.createStatement()) {
+					st.execute("LISTEN " + CHANNEL);
+				}
+				// Lo que cambió antes de escuchar ya no va a llegar
+				evictAll();
+				backoff = MIN_BACKOFF_MILLIS;
+				Log.info(getClass(), "Listening for cache invalidations on channel {}", CHANNEL);
+
+				final var pg = c.unwrap(PGConnection.class);
+				while (running) {
+					final var notifications = pg.getNotifications(POLL_MILLIS);
+					if (notifications == null || notifications.length == 0) {
+						// Sin tráfico: confirma que la conexión sigue viva
+						if (!c.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+							throw new SQLException("LISTEN connection is no longer valid");
+						}
+						continue;
+					}
+					for (final var n : notifications) {
+						dispatch(n.getParameter());
+					}
+				}
+			} catch (final SQLException e) {
+				if (!running) {
+					break;
+				}
+				Log.warn(getClass(), e, "LISTEN {} interrupted, reconnecting in {} ms", CHANNEL, backoff);
+				try {
+					Thread.sleep(backoff);
+				} catch (final InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+			} finally {
+				connection = null;
+			}
+		}
+	}
+
+	private void dispatch(final String payload) {
+		final var sep = payload == null ? -1 : payload.indexOf(':');
+		if (sep <= 0) {
+			Log.warn(getClass(), "Ignoring invalidation payload '{}'", payload);
+			return;
+		}
+		final UUID id;
+		try {
+			id = UUID.fromString(payload.substring(sep + 1));
+		} catch (final IllegalArgumentException e) {
+			Log.warn(getClass(), "Ignoring invalidation payload '{}'", payload);
+			return;
+		}
+		final var list = subscribers.get(payload.substring(0, sep));
+		if (list == null) {
+			return;
+		}
+		for (final var s : list) {
+			try {
+				s.evict(id);
+			} catch (final RuntimeException e) {
+				Log.warn(getClass(), e, "Invalidation subscriber failed for {}", payload);
+			}
+		}
+	}
+
+	private void evictAll() {
+		for (final var list : subscribers.values()) {
+			for (final var s : list) {
+				try {
+					s.evictAll();
+				} catch (final RuntimeException e) {
+					Log.warn(getClass(), e, "Invalidation subscriber failed on evictAll");
+				}
+			}
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ package dev.rafex.kiwi.repository.impl;
 import dev.rafex.kiwi.repository.AppClientRepository;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -92,6 +93,24 @@ public final class AppClientRepositoryImpl implements AppClientRepository {
 		}
 	}
 
+	@Override
+	public void touchLastUsed(final Collection<UUID> appClientIds) throws SQLException {
+		if (appClientIds.isEmpty()) {
+			return;
+		}
+		final var sql = """
+				UPDATE app_clients
+				SET last_used_at = NOW(),
+				    updated_at = NOW()
+				WHERE app_client_id = ANY(?)
+				""";
+
+		try (var c = ds.getConnection(); var ps = c.prepareStatement(sql)) {
+			ps.setArray(1, c.createArrayOf("uuid", appClientIds.toArray()));
+			ps.executeUpdate();
+		}
+	}
+
 	private static List<String> normalizeRoles(final List<String> roles) {
 		if (roles == null || roles.isEmpty()) {
 			return List.of();
@@ -19,6 +19,8 @@ import dev.rafex.kiwi.repository.LocationRepository;
 
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -62,4 +64,19 @@ public class LocationRepositoryImpl implements LocationRepository {
 		}
 	}
 
+	@Override
+	public List<LocationRow> findAll() throws SQLException {
+		try (var c = ds.getConnection();
+				var ps = c.prepareStatement("SELECT id, location_id, name, parent_id FROM locations");
+				var rs = ps.executeQuery()) {
+			final var out = new ArrayList<LocationRow>();
+			while (rs.next()) {
+				// getLong regresa 0 para parent_id NULL
+				out.add(new LocationRow(rs.getLong("id"), rs.getObject("location_id", UUID.class),
+						rs.getString("name"), rs.getLong("parent_id")));
+			}
+			return out;
+		}
+	}
+
 }
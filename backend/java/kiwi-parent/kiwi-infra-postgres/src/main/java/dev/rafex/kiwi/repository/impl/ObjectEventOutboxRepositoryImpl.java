@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository.impl;
+
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+public final class ObjectEventOutboxRepositoryImpl implements ObjectEventOutboxRepository {
+
+	private final DataSource ds;
+
+	public ObjectEventOutboxRepositoryImpl(final DataSource ds) {
+		this.ds = ds;
+	}
+
+	@Override
+	public int relayBatch(final int limit, final BatchPublisher publisher) throws SQLException, IOException {
+		final var claimSql = """
+				SELECT id, event_id, event_type::text AS event_type, object_id, from_location_id, to_location_id,
+				       payload::text AS payload, occurred_at
+				FROM api_outbox_claim_object_events(?)
+				""";
+
+		try (var c = ds.getConnection()) {
+			// Los bloqueos de FOR UPDATE SKIP LOCKED duran lo que la transacción: deben
+			// cubrir la publicación completa
+			c.setAutoCommit(false);
+			try {
+				final var events = new ArrayList<ObjectEventRow>(limit);
+				try (var ps = c.prepareStatement(claimSql)) {
+					ps.setInt(1, limit);
+					try (var rs = ps.executeQuery()) {
+						while (rs.next()) {
+							events.add(new ObjectEventRow(rs.getLong("id"), (UUID) rs.getObject("event_id"),
+									rs.getString("event_type"), (UUID) rs.getObject("object_id"),
+									(UUID) rs.getObject("from_location_id"), (UUID) rs.getObject("to_location_id"),
+									rs.getString("payload"), ResultSets.asInstant(rs, "occurred_at")));
+						}
+					}
+				}
+				if (events.isEmpty()) {
+					c.commit();
+					return 0;
+				}
+
+				publisher.publish(events);
+
+				final var ids = new Long[events.size()];
+				for (var i = 0; i < ids.length; i++) {
+					ids[i] = events.get(i).id();
+				}
+				try (var ps = c.prepareStatement("SELECT api_outbox_mark_object_events(?)")) {
+					ps.setArray(1, c.createArrayOf("bigint", ids));
+					ps.execute();
+				}
+				c.commit();
+				return events.size();
+			} catch (final SQLException | IOException | RuntimeException e) {
+				c.rollback();
+				throw e;
+			} finally {
+				c.setAutoCommit(true);
+			}
+		}
+	}
+
+}
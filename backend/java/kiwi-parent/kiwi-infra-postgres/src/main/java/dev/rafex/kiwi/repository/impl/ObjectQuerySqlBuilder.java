@@ -21,23 +21,50 @@ import dev.rafex.kiwi.query.RsqlOperator;
 import dev.rafex.kiwi.query.Sort;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 final class ObjectQuerySqlBuilder {
 
-	record BuiltQuery(String sql, List<SqlParam> params) {
+	record BuiltQuery(String sql, List<SqlParam> params, List<SortKey> sortKeys, String cursorSignature) {
 	}
 
 	record SqlParam(Object value, Integer sqlType) {
 	}
 
+	/** SQL ya generado para una forma de consulta; entre peticiones sólo cambian los parámetros. */
+	private record SqlTemplate(String sql, List<SortKey> sortKeys, String cursorSignature) {
+	}
+
+	/**
+	 * Llave de ordenamiento ya resuelta a columna SQL. {@code cast} es el tipo al
+	 * que se convierte el valor del cursor para compararlo contra la columna.
+	 */
+	record SortKey(String field, String column, String cast, boolean desc) {
+	}
+
+	// object_id, name, rank y después las llaves del cursor
+	private static final int CURSOR_FIRST_COLUMN = 4;
+
+	// pg_trgm no puede usar el índice si ningún tramo literal tiene 3 caracteres
+	private static final int TRIGRAM_MIN_LENGTH = 3;
+
+	private static final int TEMPLATE_CACHE_SIZE = 512;
+
+	// primer "Plan Rows" del EXPLAIN (FORMAT JSON): el nodo raíz del plan
+	private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*([0-9.eE+]+)");
+
 	private static final Map<String, String> SORT_MAPPER = new HashMap<>();
+	private static final Map<String, String> SORT_CASTS = new HashMap<>();
 	private static final Map<String, String> FIELD_MAPPER = new HashMap<>();
 
 	static {
@@ -46,6 +73,11 @@ final class ObjectQuerySqlBuilder {
 		SORT_MAPPER.put("createdAt", "o.created_at");
 		SORT_MAPPER.put("updatedAt", "o.updated_at");
 
+		SORT_CASTS.put("name", "text");
+		SORT_CASTS.put("status", "object_status");
+		SORT_CASTS.put("createdAt", "timestamptz");
+		SORT_CASTS.put("updatedAt", "timestamptz");
+
 		FIELD_MAPPER.put("name", "o.name");
 		FIELD_MAPPER.put("status", "o.status::text");
 		FIELD_MAPPER.put("type", "o.type");
@@ -53,24 +85,282 @@ final class ObjectQuerySqlBuilder {
 		FIELD_MAPPER.put("locationId", "l.location_id");
 	}
 
+	private final SqlTemplateCache<SqlTemplate> templates = new SqlTemplateCache<>(TEMPLATE_CACHE_SIZE);
+
 	BuiltQuery build(final QuerySpec spec) {
-		final var sql = new StringBuilder();
-		sql.append("SELECT o.object_id, o.name, 0::real AS rank ")
-				.append("FROM objects o ")
-				.append("LEFT JOIN locations l ON l.id = o.current_location_fk");
+		return build(spec, false);
+	}
+
+	/**
+	 * Misma consulta que {@link #build} pero sin tope de filas ({@code LIMIT NULL})
+	 * y sin offset, para recorrerla completa con un cursor del servidor.
+	 */
+	BuiltQuery buildExport(final QuerySpec spec) {
+		return build(new QuerySpec(spec.filter(), spec.limit(), QuerySpec.DEFAULT_OFFSET, spec.sorts(), spec.cursor()),
+				true);
+	}
+
+	private BuiltQuery build(final QuerySpec spec, final boolean unbounded) {
+		final var template = templates.get(shapeOf(spec), shape -> compile(spec));
+
+		// mismo orden que los placeholders: tsquery del FROM, filtro, keyset, LIMIT/OFFSET
+		final var params = filterParams(spec);
+		if (spec.cursor() != null) {
+			final var values = ObjectSearchCursor.decode(spec.cursor(), template.cursorSignature(),
+					template.sortKeys().size());
+			bindKeyset(template.sortKeys(), values, params);
+		}
+		if (unbounded) {
+			params.add(new SqlParam(null, Types.BIGINT));
+		} else {
+			// una fila extra para saber si existe página siguiente
+			params.add(new SqlParam(spec.limit() + 1, null));
+		}
+		params.add(new SqlParam(spec.offset(), null));
+
+		return new BuiltQuery(template.sql(), params, template.sortKeys(), template.cursorSignature());
+	}
+
+	/**
+	 * Conteos por {@code type}, {@code status}, {@code locationId} y cada tag
+	 * sobre las filas que cumplen el filtro de {@code spec}, más el total, en una
+	 * sola sentencia; sort, cursor, limit y offset se ignoran. Regresa a lo más
+	 * {@code perFacet} valores por faceta, de mayor a menor conteo.
+	 */
+	BuiltQuery buildFacets(final QuerySpec spec, final int perFacet) {
+		final var template = templates.get(filterShape("facets|", spec), key -> compileFacets(spec));
+		final var params = filterParams(spec);
+		params.add(new SqlParam(perFacet, null));
+		return new BuiltQuery(template.sql(), params, List.of(), null);
+	}
 
-		final var params = new ArrayList<SqlParam>();
+	/**
+	 * Cuenta las filas que cumplen el filtro de {@code spec}, leyendo a lo más
+	 * {@code cap + 1} para que un filtro poco selectivo no recorra la tabla
+	 * entera; un resultado mayor que {@code cap} significa "más de cap".
+	 */
+	BuiltQuery buildCount(final QuerySpec spec, final long cap) {
+		final var template = templates.get(filterShape("count|", spec),
+				key -> new SqlTemplate("SELECT count(*) FROM (" + filterOnlySql(spec) + " LIMIT ?) c", List.of(), null));
+		final var params = filterParams(spec);
+		params.add(new SqlParam(cap + 1, null));
+		return new BuiltQuery(template.sql(), params, List.of(), null);
+	}
+
+	/**
+	 * EXPLAIN del mismo filtro; el número de filas estimado por el planner se lee
+	 * con {@link #planRows(String)}. No ejecuta la consulta.
+	 */
+	BuiltQuery buildEstimate(final QuerySpec spec) {
+		final var template = templates.get(filterShape("estimate|", spec),
+				key -> new SqlTemplate("EXPLAIN (FORMAT JSON) " + filterOnlySql(spec), List.of(), null));
+		return new BuiltQuery(template.sql(), filterParams(spec), List.of(), null);
+	}
+
+	static long planRows(final String explainJson) {
+		final var m = PLAN_ROWS.matcher(explainJson);
+		if (!m.find()) {
+			throw new IllegalStateException("EXPLAIN output without Plan Rows");
+		}
+		return Math.round(Double.parseDouble(m.group(1)));
+	}
+
+	long templateCacheHits() {
+		return templates.hits();
+	}
+
+	long templateCacheMisses() {
+		return templates.misses();
+	}
+
+	/**
+	 * Llave del cache: todo lo que cambia el texto SQL (árbol, selectores,
+	 * operadores, número de argumentos, variante de name=like= y enabled, sort y
+	 * si hay cursor) y ninguno de los valores que viajan como parámetros. El
+	 * selector lleva su longitud para que dos árboles distintos no colisionen.
+	 */
+	private static String shapeOf(final QuerySpec spec) {
+		final var shape = new StringBuilder(64);
 		if (spec.filter() != null) {
-			final var where = toSql(spec.filter(), params);
-			sql.append(" WHERE ").append(where);
+			appendShape(spec.filter(), shape);
+		}
+		shape.append('|');
+		if (spec.sorts() != null) {
+			for (final var sort : spec.sorts()) {
+				shape.append(sort.direction() == Sort.Direction.DESC ? '-' : '+').append(sort.field()).append(',');
+			}
+		}
+		if (spec.cursor() != null) {
+			shape.append("|cursor");
+		}
+		return shape.toString();
+	}
+
+	private static void appendShape(final RsqlNode node, final StringBuilder shape) {
+		if (node instanceof RsqlNode.And and) {
+			appendShapeChildren("and(", and.nodes(), shape);
+		} else if (node instanceof RsqlNode.Or or) {
+			appendShapeChildren("or(", or.nodes(), shape);
+		} else if (node instanceof RsqlNode.Comp comp) {
+			final var selector = comp.selector();
+			shape.append(selector.length()).append(':').append(selector).append(' ').append(comp.operator()).append(' ')
+					.append(comp.args() == null ? 0 : comp.args().size());
+			if ("enabled".equals(selector)) {
+				shape.append(wantsActive(comp) ? " active" : " inactive");
+			} else if (comp.operator() == RsqlOperator.LIKE && comp.args() != null && !comp.args().isEmpty()) {
+				shape.append(' ').append(likeFormOf(selector, comp.args().get(0)));
+			}
+		} else {
+			throw new IllegalArgumentException("unsupported rsql node");
+		}
+	}
+
+	private static void appendShapeChildren(final String open, final List<RsqlNode> nodes,
+			final StringBuilder shape) {
+		shape.append(open);
+		if (nodes != null) {
+			for (final var child : nodes) {
+				appendShape(child, shape);
+				shape.append(',');
+			}
+		}
+		shape.append(')');
+	}
+
+	/**
+	 * Genera el SQL de una forma de consulta. Sólo corre cuando la forma no está
+	 * en cache; los valores de {@code spec} se ignoran salvo los que determinan la
+	 * forma.
+	 */
+	private static SqlTemplate compile(final QuerySpec spec) {
+		// el filtro se traduce primero: cada selector text aporta un tsquery al FROM
+		final var textCount = new int[1];
+		final String filterSql = spec.filter() == null ? null : toSql(spec.filter(), textCount);
+
+		final var rank = rankSql(textCount[0]);
+		final var sortKeys = resolveSortKeys(spec.sorts(), textCount[0] == 0 ? null : rank);
+		final var signature = signatureOf(sortKeys);
+
+		final var sql = new StringBuilder(256);
+		sql.append("SELECT o.object_id, o.name, ").append(rank).append(" AS rank");
+		for (int i = 0; i < sortKeys.size(); i++) {
+			sql.append(", ").append(sortKeys.get(i).column()).append("::text AS cursor_k").append(i);
 		}
+		appendFrom(textCount[0], sql);
 
-		appendOrderBy(spec.sorts(), sql);
+		final var predicates = new ArrayList<String>(2);
+		if (filterSql != null) {
+			predicates.add(filterSql);
+		}
+		if (spec.cursor() != null) {
+			predicates.add(keysetSql(sortKeys));
+		}
+		if (predicates.size() == 1) {
+			sql.append(" WHERE ").append(predicates.get(0));
+		} else if (predicates.size() == 2) {
+			sql.append(" WHERE (").append(predicates.get(0)).append(") AND (").append(predicates.get(1)).append(")");
+		}
+
+		appendOrderBy(sortKeys, sql);
 		sql.append(" LIMIT ? OFFSET ?");
-		params.add(new SqlParam(spec.limit(), null));
-		params.add(new SqlParam(spec.offset(), null));
 
-		return new BuiltQuery(sql.toString(), params);
+		return new SqlTemplate(sql.toString(), List.copyOf(sortKeys), signature);
+	}
+
+	/** Llave del cache para consultas que solo dependen del filtro. */
+	private static String filterShape(final String prefix, final QuerySpec spec) {
+		final var shape = new StringBuilder(64).append(prefix);
+		if (spec.filter() != null) {
+			appendShape(spec.filter(), shape);
+		}
+		return shape.toString();
+	}
+
+	/** {@code SELECT 1} sobre las filas que cumplen el filtro, sin orden ni tope. */
+	private static String filterOnlySql(final QuerySpec spec) {
+		final var textCount = new int[1];
+		final String filterSql = spec.filter() == null ? null : toSql(spec.filter(), textCount);
+		final var sql = new StringBuilder(256).append("SELECT 1");
+		appendFrom(textCount[0], sql);
+		if (filterSql != null) {
+			sql.append(" WHERE ").append(filterSql);
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Las filas filtradas se materializan una vez. GROUPING SETS cuenta
+	 * {@code type}, {@code status}, {@code location_id} y el total {@code ()} en
+	 * una sola pasada; {@code GROUPING()} dice a qué conjunto pertenece cada fila
+	 * (bit en 0 = columna agrupada). Los tags van en un UNION ALL aparte porque
+	 * {@code unnest} multiplicaría las filas de los demás conteos.
+	 */
+	private static SqlTemplate compileFacets(final QuerySpec spec) {
+		final var textCount = new int[1];
+		final String filterSql = spec.filter() == null ? null : toSql(spec.filter(), textCount);
+
+		final var sql = new StringBuilder(1024);
+		sql.append("WITH m AS MATERIALIZED (SELECT o.type, o.status::text AS status, o.tags, l.location_id");
+		appendFrom(textCount[0], sql);
+		if (filterSql != null) {
+			sql.append(" WHERE ").append(filterSql);
+		}
+		sql.append("), counts AS (SELECT CASE GROUPING(m.type, m.status, m.location_id)")
+				.append(" WHEN 3 THEN 'type' WHEN 5 THEN 'status' WHEN 6 THEN 'locationId' ELSE 'total' END AS facet,")
+				.append(" CASE GROUPING(m.type, m.status, m.location_id)")
+				.append(" WHEN 3 THEN m.type WHEN 5 THEN m.status WHEN 6 THEN m.location_id::text END AS value,")
+				.append(" count(*) AS n FROM m")
+				.append(" GROUP BY GROUPING SETS ((m.type), (m.status), (m.location_id), ())")
+				.append(" UNION ALL SELECT 'tags', t.tag, count(*) FROM m CROSS JOIN LATERAL unnest(m.tags) AS t(tag)")
+				.append(" GROUP BY t.tag), ranked AS (SELECT facet, value, n,")
+				.append(" row_number() OVER (PARTITION BY facet ORDER BY n DESC, value) AS pos FROM counts)")
+				.append(" SELECT facet, value, n FROM ranked WHERE pos <= ? ORDER BY facet, pos");
+
+		return new SqlTemplate(sql.toString(), List.of(), null);
+	}
+
+	/**
+	 * {@code FROM objects o}, un tsquery por selector text y la ubicación
+	 * actual, comunes a la búsqueda y a las facetas.
+	 */
+	private static void appendFrom(final int textTerms, final StringBuilder sql) {
+		sql.append(" FROM objects o");
+		// subconsulta sin FROM: PostgreSQL la aplana y el @@ queda contra el índice GIN
+		for (int i = 0; i < textTerms; i++) {
+			sql.append(" CROSS JOIN (SELECT websearch_to_tsquery('spanish', ?) AS q) tsq").append(i);
+		}
+		sql.append(" LEFT JOIN locations l ON l.id = o.current_location_fk");
+	}
+
+	/** Términos de texto (placeholders del FROM) seguidos de los valores del filtro. */
+	private static List<SqlParam> filterParams(final QuerySpec spec) {
+		final var filterParams = new ArrayList<SqlParam>();
+		final var textTerms = new ArrayList<String>();
+		if (spec.filter() != null) {
+			bindFilter(spec.filter(), filterParams, textTerms);
+		}
+		final var params = new ArrayList<SqlParam>(textTerms.size() + filterParams.size() + 8);
+		for (final var term : textTerms) {
+			params.add(new SqlParam(term, null));
+		}
+		params.addAll(filterParams);
+		return params;
+	}
+
+	/**
+	 * Lee los valores de las llaves de ordenamiento de la fila actual, en el orden
+	 * de {@link BuiltQuery#sortKeys()}.
+	 */
+	String[] readCursorKeys(final ResultSet rs, final BuiltQuery query) throws SQLException {
+		final var values = new String[query.sortKeys().size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rs.getString(CURSOR_FIRST_COLUMN + i);
+		}
+		return values;
+	}
+
+	String cursorOf(final BuiltQuery query, final String[] keys) {
+		return ObjectSearchCursor.encode(query.cursorSignature(), keys);
 	}
 
 	void bind(final Connection connection, final java.sql.PreparedStatement ps, final List<SqlParam> params)
@@ -92,133 +382,390 @@ final class ObjectQuerySqlBuilder {
 		}
 	}
 
-	private static void appendOrderBy(final List<Sort> sorts, final StringBuilder sql) {
+	/**
+	 * {@code rank} es la expresión ts_rank cuando hay búsqueda de texto, o
+	 * {@code null} si no la hay; en ese caso ordenar por rank no tiene sentido.
+	 */
+	private static List<SortKey> resolveSortKeys(final List<Sort> sorts, final String rank) {
+		final var keys = new ArrayList<SortKey>();
 		if (sorts == null || sorts.isEmpty()) {
-			sql.append(" ORDER BY o.created_at DESC");
+			if (rank != null) {
+				keys.add(new SortKey("rank", rank, "real", true));
+			} else {
+				keys.add(new SortKey("createdAt", "o.created_at", "timestamptz", true));
+			}
+		} else {
+			for (final var sort : sorts) {
+				final var desc = sort.direction() == Sort.Direction.DESC;
+				if ("rank".equals(sort.field())) {
+					if (rank == null) {
+						throw new IllegalArgumentException("sort by rank requires a text filter");
+					}
+					keys.add(new SortKey("rank", rank, "real", desc));
+					continue;
+				}
+				final var column = SORT_MAPPER.get(sort.field());
+				if (column == null) {
+					throw new IllegalArgumentException("unknown sort field: " + sort.field());
+				}
+				keys.add(new SortKey(sort.field(), column, SORT_CASTS.get(sort.field()), desc));
+			}
+		}
+		// desempate por o.id para que el orden sea total y el keyset no salte filas
+		keys.add(new SortKey("id", "o.id", "bigint", keys.get(keys.size() - 1).desc()));
+		return keys;
+	}
+
+	/**
+	 * Relevancia de la fila: si hay varios selectores text se combinan sus
+	 * tsquery con {@code ||} para calcular un único ts_rank.
+	 */
+	private static String rankSql(final int textTerms) {
+		if (textTerms == 0) {
+			return "0::real";
+		}
+		final var queries = new ArrayList<String>(textTerms);
+		for (int i = 0; i < textTerms; i++) {
+			queries.add("tsq" + i + ".q");
+		}
+		return "ts_rank(o.search_vector, " + String.join(" || ", queries) + ")";
+	}
+
+	private static String signatureOf(final List<SortKey> keys) {
+		final var chunks = new ArrayList<String>(keys.size());
+		for (final var key : keys) {
+			chunks.add(key.field() + (key.desc() ? ":desc" : ":asc"));
+		}
+		return String.join(",", chunks);
+	}
+
+	private static void appendOrderBy(final List<SortKey> keys, final StringBuilder sql) {
+		final var chunks = new ArrayList<String>(keys.size());
+		for (final var key : keys) {
+			chunks.add(key.column() + (key.desc() ? " DESC" : " ASC"));
+		}
+		sql.append(" ORDER BY ").append(String.join(", ", chunks));
+	}
+
+	/**
+	 * Predicado keyset "después del cursor". Si todas las llaves comparten
+	 * dirección se usa comparación de filas, que PostgreSQL resuelve con un solo
+	 * rango sobre el índice compuesto; con direcciones mixtas se expande a la
+	 * forma {@code (a > ?) OR (a = ? AND b < ?) ...}.
+	 */
+	private static String keysetSql(final List<SortKey> keys) {
+		if (sameDirection(keys)) {
+			final var columns = new ArrayList<String>(keys.size());
+			final var placeholders = new ArrayList<String>(keys.size());
+			for (final var key : keys) {
+				columns.add(key.column());
+				placeholders.add("?::" + key.cast());
+			}
+			return "(" + String.join(", ", columns) + (keys.get(0).desc() ? ") < (" : ") > (")
+					+ String.join(", ", placeholders) + ")";
+		}
+
+		final var disjuncts = new ArrayList<String>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			final var conjuncts = new ArrayList<String>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conjuncts.add(keys.get(j).column() + " = ?::" + keys.get(j).cast());
+			}
+			final var key = keys.get(i);
+			conjuncts.add(key.column() + (key.desc() ? " < ?::" : " > ?::") + key.cast());
+			disjuncts.add("(" + String.join(" AND ", conjuncts) + ")");
+		}
+		return String.join(" OR ", disjuncts);
+	}
+
+	private static void bindKeyset(final List<SortKey> keys, final String[] values, final List<SqlParam> params) {
+		if (sameDirection(keys)) {
+			for (final var value : values) {
+				params.add(new SqlParam(value, null));
+			}
 			return;
 		}
-		final var chunks = new ArrayList<String>();
-		for (final var sort : sorts) {
-			final var field = SORT_MAPPER.get(sort.field());
-			if (field == null) {
-				throw new IllegalArgumentException("unknown sort field: " + sort.field());
+		for (int i = 0; i < keys.size(); i++) {
+			for (int j = 0; j <= i; j++) {
+				params.add(new SqlParam(values[j], null));
 			}
-			final var direction = sort.direction() == Sort.Direction.DESC ? "DESC" : "ASC";
-			chunks.add(field + " " + direction);
 		}
-		sql.append(" ORDER BY ").append(String.join(", ", chunks));
 	}
 
-	private static String toSql(final RsqlNode node, final List<SqlParam> params) {
+	private static boolean sameDirection(final List<SortKey> keys) {
+		final var desc = keys.get(0).desc();
+		for (final var key : keys) {
+			if (key.desc() != desc) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String toSql(final RsqlNode node, final int[] textCount) {
 		if (node instanceof RsqlNode.And and) {
-			return joinChildren(and.nodes(), " AND ", params);
+			return joinChildren(and.nodes(), " AND ", textCount);
 		}
 		if (node instanceof RsqlNode.Or or) {
-			return joinChildren(or.nodes(), " OR ", params);
+			return joinChildren(or.nodes(), " OR ", textCount);
 		}
 		if (node instanceof RsqlNode.Comp comp) {
-			return toSqlComp(comp, params);
+			return toSqlComp(comp, textCount);
 		}
 		throw new IllegalArgumentException("unsupported rsql node");
 	}
 
-	private static String joinChildren(final List<RsqlNode> nodes, final String op, final List<SqlParam> params) {
+	private static String joinChildren(final List<RsqlNode> nodes, final String op, final int[] textCount) {
 		if (nodes == null || nodes.isEmpty()) {
 			throw new IllegalArgumentException("empty rsql node list");
 		}
 		final var chunks = new ArrayList<String>();
 		for (final var child : nodes) {
-			chunks.add("(" + toSql(child, params) + ")");
+			chunks.add("(" + toSql(child, textCount) + ")");
 		}
 		return String.join(op, chunks);
 	}
 
-	private static String toSqlComp(final RsqlNode.Comp comp, final List<SqlParam> params) {
+	private static String toSqlComp(final RsqlNode.Comp comp, final int[] textCount) {
 		final var selector = comp.selector();
+		if ("text".equals(selector)) {
+			requireOperator(comp, "text only supports ==", RsqlOperator.EQ);
+			return "o.search_vector @@ tsq" + textCount[0]++ + ".q";
+		}
 		if ("tags".equals(selector)) {
-			return toTagsSql(comp, params);
+			return toTagsSql(comp);
 		}
 		if ("enabled".equals(selector)) {
-			return toEnabledSql(comp, params);
+			return wantsActive(comp) ? "o.status::text = ?" : "o.status::text <> ?";
 		}
-
-		final var field = FIELD_MAPPER.get(selector);
-		if (field == null) {
-			throw new IllegalArgumentException("unknown selector: " + selector);
+		if ("locationTree".equals(selector)) {
+			return toLocationTreeSql(comp);
 		}
+
+		final var field = requireField(selector);
 		return switch (comp.operator()) {
-			case EQ -> {
-				params.add(new SqlParam(castArg(selector, comp.args().get(0)), null));
-				yield field + " = ?";
+			case EQ -> field + " = ?";
+			case NEQ -> field + " <> ?";
+			case LIKE -> switch (likeFormOf(selector, comp.args().get(0))) {
+				case ILIKE -> field + " ILIKE ?";
+				case LOWER_EQ -> "lower(o.name) = ?";
+				case LOWER_PREFIX -> "(lower(o.name) ~>=~ ? AND lower(o.name) ~<~ ?)";
+			};
+			case IN -> field + " IN (" + placeholders(comp.args()) + ")";
+			case OUT -> field + " NOT IN (" + placeholders(comp.args()) + ")";
+		};
+	}
+
+	/**
+	 * Recorre el filtro en el mismo orden que {@link #toSql} y agrega los valores
+	 * de cada comparación. Los términos de texto van aparte porque sus
+	 * placeholders están en el FROM, antes del WHERE.
+	 */
+	private static void bindFilter(final RsqlNode node, final List<SqlParam> params, final List<String> textTerms) {
+		if (node instanceof RsqlNode.And and) {
+			for (final var child : and.nodes()) {
+				bindFilter(child, params, textTerms);
 			}
-			case NEQ -> {
-				params.add(new SqlParam(castArg(selector, comp.args().get(0)), null));
-				yield field + " <> ?";
+		} else if (node instanceof RsqlNode.Or or) {
+			for (final var child : or.nodes()) {
+				bindFilter(child, params, textTerms);
 			}
-			case LIKE -> {
+		} else if (node instanceof RsqlNode.Comp comp) {
+			bindComp(comp, params, textTerms);
+		} else {
+			throw new IllegalArgumentException("unsupported rsql node");
+		}
+	}
+
+	private static void bindComp(final RsqlNode.Comp comp, final List<SqlParam> params, final List<String> textTerms) {
+		final var selector = comp.selector();
+		if ("text".equals(selector)) {
+			// websearch_to_tsquery admite comillas, "or" y -palabra dentro del término
+			final var term = comp.args().get(0);
+			if (term == null || term.isBlank()) {
+				throw new IllegalArgumentException("text must not be blank");
+			}
+			textTerms.add(term);
+			return;
+		}
+		if ("tags".equals(selector)) {
+			if (comp.operator() == RsqlOperator.IN || comp.operator() == RsqlOperator.OUT) {
+				params.add(new SqlParam(comp.args().toArray(new String[0]), null));
+			} else {
 				params.add(new SqlParam(comp.args().get(0), null));
-				yield field + " ILIKE ?";
 			}
-			case IN -> {
-				final var placeholders = addArgs(selector, comp.args(), params);
-				yield field + " IN (" + placeholders + ")";
+			return;
+		}
+		if ("enabled".equals(selector)) {
+			params.add(new SqlParam("active", Types.VARCHAR));
+			return;
+		}
+		if ("locationTree".equals(selector)) {
+			for (final var arg : comp.args()) {
+				params.add(new SqlParam(castArg(selector, arg), null));
 			}
-			case OUT -> {
-				final var placeholders = addArgs(selector, comp.args(), params);
-				yield field + " NOT IN (" + placeholders + ")";
+			return;
+		}
+
+		requireField(selector);
+		switch (comp.operator()) {
+			case EQ, NEQ -> params.add(new SqlParam(castArg(selector, comp.args().get(0)), null));
+			case LIKE -> bindLike(selector, comp.args().get(0), params);
+			case IN, OUT -> {
+				for (final var arg : comp.args()) {
+					params.add(new SqlParam(castArg(selector, arg), null));
+				}
 			}
-		};
+		}
+	}
+
+	private static String requireField(final String selector) {
+		final var field = FIELD_MAPPER.get(selector);
+		if (field == null) {
+			throw new IllegalArgumentException("unknown selector: " + selector);
+		}
+		return field;
 	}
 
-	private static String toTagsSql(final RsqlNode.Comp comp, final List<SqlParam> params) {
-		if (comp.operator() != RsqlOperator.IN && comp.operator() != RsqlOperator.OUT && comp.operator() != RsqlOperator.EQ
-				&& comp.operator() != RsqlOperator.NEQ) {
-			throw new IllegalArgumentException("operator not supported for tags: " + comp.operator());
+	private static void requireOperator(final RsqlNode.Comp comp, final String message,
+			final RsqlOperator... allowed) {
+		for (final var op : allowed) {
+			if (comp.operator() == op) {
+				return;
+			}
 		}
+		throw new IllegalArgumentException(message);
+	}
 
-		if (comp.operator() == RsqlOperator.IN) {
-			params.add(new SqlParam(comp.args().toArray(new String[0]), null));
-			return "o.tags && ?";
+	/**
+	 * Forma SQL de un {@code =like=}. RSQL usa {@code *} como comodín. Para
+	 * {@code name} el patrón debe tener un tramo literal de al menos 3 caracteres
+	 * para que idx_objects_name_trgm sirva; si es más corto, un prefijo
+	 * ({@code ab*}) o un valor exacto se resuelven con
+	 * idx_objects_name_lower_prefix y cualquier otra forma se rechaza en lugar de
+	 * terminar en un seq scan.
+	 */
+	private enum LikeForm {
+		ILIKE, LOWER_EQ, LOWER_PREFIX
+	}
+
+	private static LikeForm likeFormOf(final String selector, final String raw) {
+		if (raw == null || raw.isEmpty()) {
+			throw new IllegalArgumentException("like pattern must not be empty");
 		}
-		if (comp.operator() == RsqlOperator.OUT) {
-			params.add(new SqlParam(comp.args().toArray(new String[0]), null));
-			return "NOT (o.tags && ?)";
+		var wildcards = 0;
+		var longestLiteral = 0;
+		var run = 0;
+		for (int i = 0; i < raw.length(); i++) {
+			if (raw.charAt(i) == '*') {
+				wildcards++;
+				run = 0;
+			} else {
+				longestLiteral = Math.max(longestLiteral, ++run);
+			}
+		}
+
+		if (!"name".equals(selector) || longestLiteral >= TRIGRAM_MIN_LENGTH) {
+			return LikeForm.ILIKE;
 		}
-		params.add(new SqlParam(comp.args().get(0), null));
-		if (comp.operator() == RsqlOperator.EQ) {
-			return "? = ANY(o.tags)";
+		if (wildcards == 0) {
+			return LikeForm.LOWER_EQ;
 		}
-		return "NOT (? = ANY(o.tags))";
+		if (wildcards == 1 && raw.length() > 1 && raw.charAt(raw.length() - 1) == '*') {
+			return LikeForm.LOWER_PREFIX;
+		}
+		throw new IllegalArgumentException("like pattern for name needs " + TRIGRAM_MIN_LENGTH
+				+ " consecutive characters or must be a prefix like ab*");
+	}
+
+	private static void bindLike(final String selector, final String raw, final List<SqlParam> params) {
+		switch (likeFormOf(selector, raw)) {
+			case ILIKE -> params.add(new SqlParam(toIlikePattern(raw), null));
+			case LOWER_EQ -> params.add(new SqlParam(raw.toLowerCase(Locale.ROOT), null));
+			case LOWER_PREFIX -> {
+				// rango [prefijo, siguiente) en orden de bytes, igual que text_pattern_ops
+				final var prefix = raw.substring(0, raw.length() - 1).toLowerCase(Locale.ROOT);
+				params.add(new SqlParam(prefix, null));
+				params.add(new SqlParam(nextPrefix(prefix), null));
+			}
+		}
+	}
+
+	/**
+	 * Traduce {@code *} a {@code %} y escapa los {@code %}, {@code _} y
+	 * {@code \} literales.
+	 */
+	private static String toIlikePattern(final String raw) {
+		final var pattern = new StringBuilder(raw.length() + 4);
+		for (int i = 0; i < raw.length(); i++) {
+			final char c = raw.charAt(i);
+			if (c == '*') {
+				pattern.append('%');
+				continue;
+			}
+			if (c == '%' || c == '_' || c == '\\') {
+				pattern.append('\\');
+			}
+			pattern.append(c);
+		}
+		return pattern.toString();
 	}
 
-	private static String toEnabledSql(final RsqlNode.Comp comp, final List<SqlParam> params) {
-		if (comp.operator() != RsqlOperator.EQ && comp.operator() != RsqlOperator.NEQ) {
-			throw new IllegalArgumentException("enabled only supports == and !=");
+	private static String nextPrefix(final String prefix) {
+		final int last = prefix.codePointBefore(prefix.length());
+		if (last == Character.MAX_CODE_POINT) {
+			throw new IllegalArgumentException("invalid like pattern");
 		}
+		var next = last + 1;
+		if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+			next = Character.MAX_SURROGATE + 1;
+		}
+		return prefix.substring(0, prefix.length() - Character.charCount(last)) + Character.toString(next);
+	}
+
+	private static String toTagsSql(final RsqlNode.Comp comp) {
+		requireOperator(comp, "operator not supported for tags: " + comp.operator(), RsqlOperator.IN,
+				RsqlOperator.OUT, RsqlOperator.EQ, RsqlOperator.NEQ);
+		return switch (comp.operator()) {
+			case IN -> "o.tags && ?";
+			case OUT -> "NOT (o.tags && ?)";
+			case EQ -> "? = ANY(o.tags)";
+			default -> "NOT (? = ANY(o.tags))";
+		};
+	}
+
+	/**
+	 * Objetos en el subárbol de una o varias ubicaciones (incluidas ellas mismas):
+	 * un rango sobre la llave primaria de location_closure y después
+	 * idx_objects_location por cada descendiente.
+	 */
+	private static String toLocationTreeSql(final RsqlNode.Comp comp) {
+		requireOperator(comp, "locationTree only supports == and =in=", RsqlOperator.EQ, RsqlOperator.IN);
+		final var roots = comp.operator() == RsqlOperator.EQ ? "la.location_id = ?"
+				: "la.location_id IN (" + placeholders(comp.args()) + ")";
+		return "o.current_location_fk IN (SELECT lc.descendant_fk FROM location_closure lc"
+				+ " JOIN locations la ON la.id = lc.ancestor_fk WHERE " + roots + ")";
+	}
+
+	private static boolean wantsActive(final RsqlNode.Comp comp) {
+		requireOperator(comp, "enabled only supports == and !=", RsqlOperator.EQ, RsqlOperator.NEQ);
 		final var v = comp.args().get(0).toLowerCase(Locale.ROOT);
 		if (!"true".equals(v) && !"false".equals(v)) {
 			throw new IllegalArgumentException("enabled must be true or false");
 		}
 		final boolean enabled = Boolean.parseBoolean(v);
-		final boolean wantActive = comp.operator() == RsqlOperator.EQ ? enabled : !enabled;
-		params.add(new SqlParam("active", Types.VARCHAR));
-		return wantActive ? "o.status::text = ?" : "o.status::text <> ?";
+		return comp.operator() == RsqlOperator.EQ ? enabled : !enabled;
 	}
 
-	private static String addArgs(final String selector, final List<String> args, final List<SqlParam> params) {
+	private static String placeholders(final List<String> args) {
 		if (args == null || args.isEmpty()) {
 			throw new IllegalArgumentException("operator requires arguments");
 		}
-		final var placeholders = new ArrayList<String>();
-		for (final var arg : args) {
-			params.add(new SqlParam(castArg(selector, arg), null));
-			placeholders.add("?");
-		}
-		return String.join(",", placeholders);
+		return String.join(",", Collections.nCopies(args.size(), "?"));
 	}
 
 	private static Object castArg(final String selector, final String arg) {
-		if ("objectId".equals(selector) || "locationId".equals(selector)) {
+		if ("objectId".equals(selector) || "locationId".equals(selector) || "locationTree".equals(selector)) {
 			try {
 				return UUID.fromString(arg);
 			} catch (final IllegalArgumentException e) {
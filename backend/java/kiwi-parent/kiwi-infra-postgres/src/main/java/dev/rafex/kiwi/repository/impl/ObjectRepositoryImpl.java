@@ -18,6 +18,8 @@ package dev.rafex.kiwi.repository.impl;
 import dev.rafex.kiwi.query.QuerySpec;
 import dev.rafex.kiwi.repository.ObjectRepository;
 
+import java.io.IOException;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
@@ -30,11 +32,43 @@ import javax.sql.DataSource;
 
 public class ObjectRepositoryImpl implements ObjectRepository {
 
+	// filas por viaje al servidor durante un export; el resto queda en el cursor de PostgreSQL
+	private static final int EXPORT_FETCH_SIZE = 500;
+
 	private final DataSource ds;
 	private final ObjectQuerySqlBuilder querySqlBuilder = new ObjectQuerySqlBuilder();
+	private final long exportStatementTimeoutMs;
+	private final long exportIdleTimeoutMs;
 
 	public ObjectRepositoryImpl(final DataSource ds) {
+		this(ds, 0, 0);
+	}
+
+	/**
+	 * {@code exportStatementTimeoutMs} y {@code exportIdleTimeoutMs} se aplican
+	 * con {@code SET LOCAL} a la transacción de {@link #exportSearch}; 0 deja el
+	 * valor del servidor.
+	 */
+	public ObjectRepositoryImpl(final DataSource ds, final long exportStatementTimeoutMs,
+			final long exportIdleTimeoutMs) {
+		if (exportStatementTimeoutMs < 0 || exportIdleTimeoutMs < 0) {
+			throw new IllegalArgumentException("export timeouts no pueden ser negativos");
+		}
 		this.ds = ds;
+		this.exportStatementTimeoutMs = exportStatementTimeoutMs;
+		this.exportIdleTimeoutMs = exportIdleTimeoutMs;
+	}
+
+	/** Búsquedas cuyo SQL salió del cache de plantillas por forma de consulta. */
+	@Override
+	public long sqlTemplateCacheHits() {
+		return querySqlBuilder.templateCacheHits();
+	}
+
+	/** Búsquedas que tuvieron que generar SQL (forma nueva o desalojada). */
+	@Override
+	public long sqlTemplateCacheMisses() {
+		return querySqlBuilder.templateCacheMisses();
 	}
 
 	// --- Commands (RETURNS void) ---
@@ -69,6 +103,51 @@ public class ObjectRepositoryImpl implements ObjectRepository {
 		}
 	}
 
+	@Override
+	public List<CreateObjectResult> createObjects(final List<NewObjectRow> objects) throws SQLException {
+		if (objects.isEmpty()) {
+			return List.of();
+		}
+		final var n = objects.size();
+		final var objectIds = new UUID[n];
+		final var names = new String[n];
+		final var descriptions = new String[n];
+		final var types = new String[n];
+		final var tags = new String[n];
+		final var metadata = new String[n];
+		final var locationIds = new UUID[n];
+		for (int i = 0; i < n; i++) {
+			final var o = objects.get(i);
+			objectIds[i] = o.objectId();
+			names[i] = o.name();
+			descriptions[i] = o.description();
+			types[i] = o.type();
+			tags[i] = toArrayLiteral(o.tags());
+			metadata[i] = o.metadataJson();
+			locationIds[i] = o.locationId();
+		}
+
+		try (var c = ds.getConnection();
+				var ps = c.prepareStatement("SELECT object_id, error FROM api_create_objects(?::uuid[], ?::text[], "
+						+ "?::text[], ?::text[], ?::text[], ?::text[], ?::uuid[])")) {
+			ps.setArray(1, c.createArrayOf("uuid", objectIds));
+			ps.setArray(2, c.createArrayOf("text", names));
+			ps.setArray(3, c.createArrayOf("text", descriptions));
+			ps.setArray(4, c.createArrayOf("text", types));
+			ps.setArray(5, c.createArrayOf("text", tags));
+			ps.setArray(6, c.createArrayOf("text", metadata));
+			ps.setArray(7, c.createArrayOf("uuid", locationIds));
+
+			try (var rs = ps.executeQuery()) {
+				final var out = new ArrayList<CreateObjectResult>(n);
+				while (rs.next()) {
+					out.add(new CreateObjectResult((UUID) rs.getObject("object_id"), rs.getString("error")));
+				}
+				return out;
+			}
+		}
+	}
+
 	@Override
 	public void moveObject(final UUID objectId, final UUID newLocationId) throws SQLException {
 		try (var c = ds.getConnection(); var ps = c.prepareStatement("SELECT api_move_object(?::uuid, ?::uuid)")) {
@@ -118,16 +197,141 @@ public class ObjectRepositoryImpl implements ObjectRepository {
 	// --- Queries (RETURNS TABLE) ---
 
 	@Override
-	public List<SearchRow> search(final QuerySpec querySpec) throws SQLException {
+	public SearchPage search(final QuerySpec querySpec) throws SQLException {
 		final var built = querySqlBuilder.build(querySpec);
 		try (var c = ds.getConnection(); var ps = c.prepareStatement(built.sql())) {
 			querySqlBuilder.bind(c, ps, built.params());
 			try (var rs = ps.executeQuery()) {
-				final List<SearchRow> out = new ArrayList<>();
+				final List<SearchRow> out = new ArrayList<>(querySpec.limit());
+				String[] lastKeys = null;
+				var hasMore = false;
 				while (rs.next()) {
+					if (out.size() == querySpec.limit()) {
+						// la fila extra solo confirma que hay otra página
+						hasMore = true;
+						break;
+					}
 					out.add(new SearchRow((UUID) rs.getObject("object_id"), rs.getString("name"), rs.getFloat("rank")));
+					if (out.size() == querySpec.limit()) {
+						lastKeys = querySqlBuilder.readCursorKeys(rs, built);
+					}
 				}
-				return out;
+				return new SearchPage(out, hasMore ? querySqlBuilder.cursorOf(built, lastKeys) : null);
+			}
+		}
+	}
+
+	@Override
+	public void exportSearch(final QuerySpec querySpec, final RowSink<SearchRow> sink)
+			throws SQLException, IOException {
+		final var built = querySqlBuilder.buildExport(querySpec);
+		try (var c = ds.getConnection()) {
+			// pgjdbc sólo abre un cursor del lado del servidor con autocommit apagado y fetchSize > 0;
+			// con autocommit lee el resultado completo a memoria
+			c.setAutoCommit(false);
+			try {
+				setExportTimeouts(c);
+				try (var ps = c.prepareStatement(built.sql())) {
+					ps.setFetchSize(EXPORT_FETCH_SIZE);
+					querySqlBuilder.bind(c, ps, built.params());
+					try (var rs = ps.executeQuery()) {
+						while (rs.next()) {
+							sink.accept(new SearchRow((UUID) rs.getObject("object_id"), rs.getString("name"),
+									rs.getFloat("rank")));
+						}
+					}
+				}
+				c.commit();
+			} catch (final SQLException | IOException | RuntimeException e) {
+				try {
+					c.rollback();
+				} catch (final SQLException re) {
+					// el servidor pudo cerrar la sesión (idle timeout); el pool la descarta
+					e.addSuppressed(re);
+				}
+				throw e;
+			} finally {
+				try {
+					c.setAutoCommit(true);
+				} catch (final SQLException ignored) {
+					// conexión rota: Hikari la desaloja al devolverla
+				}
+			}
+		}
+	}
+
+	/**
+	 * Un export retiene conexión y transacción mientras el cliente lee: el
+	 * statement timeout acota la consulta y el idle timeout corta la sesión si el
+	 * cursor queda esperando a un cliente que dejó de leer.
+	 */
+	private void setExportTimeouts(final Connection c) throws SQLException {
+		if (exportStatementTimeoutMs > 0) {
+			setLocal(c, "statement_timeout", exportStatementTimeoutMs);
+		}
+		if (exportIdleTimeoutMs > 0) {
+			setLocal(c, "idle_in_transaction_session_timeout", exportIdleTimeoutMs);
+		}
+	}
+
+	// SET LOCAL no acepta parámetros; set_config(..., true) es el equivalente
+	private static void setLocal(final Connection c, final String name, final long millis) throws SQLException {
+		try (var ps = c.prepareStatement("SELECT set_config(?, ?, true)")) {
+			ps.setString(1, name);
+			ps.setString(2, Long.toString(millis));
+			ps.execute();
+		}
+	}
+
+	@Override
+	public FacetCounts facets(final QuerySpec querySpec, final int perFacet) throws SQLException {
+		final var built = querySqlBuilder.buildFacets(querySpec, perFacet);
+		try (var c = ds.getConnection(); var ps = c.prepareStatement(built.sql())) {
+			querySqlBuilder.bind(c, ps, built.params());
+			try (var rs = ps.executeQuery()) {
+				final var rows = new ArrayList<FacetRow>();
+				long total = 0;
+				while (rs.next()) {
+					final var facet = rs.getString("facet");
+					if ("total".equals(facet)) {
+						total = rs.getLong("n");
+					} else {
+						rows.add(new FacetRow(facet, rs.getString("value"), rs.getLong("n")));
+					}
+				}
+				return new FacetCounts(total, rows);
+			}
+		}
+	}
+
+	@Override
+	public long countSearch(final QuerySpec querySpec, final long cap) throws SQLException {
+		final var built = querySqlBuilder.buildCount(querySpec, cap);
+		try (var c = ds.getConnection(); var ps = c.prepareStatement(built.sql())) {
+			querySqlBuilder.bind(c, ps, built.params());
+			try (var rs = ps.executeQuery()) {
+				rs.next();
+				return rs.getLong(1);
+			}
+		}
+	}
+
+	@Override
+	public long estimateSearch(final QuerySpec querySpec) throws SQLException {
+		if (querySpec.filter() == null) {
+			// reltuples es -1 mientras la tabla no se haya analizado (PostgreSQL 14+)
+			try (var c = ds.getConnection();
+					var ps = c.prepareStatement("SELECT reltuples::bigint FROM pg_class WHERE oid = 'objects'::regclass");
+					var rs = ps.executeQuery()) {
+				return rs.next() ? rs.getLong(1) : -1;
+			}
+		}
+		final var built = querySqlBuilder.buildEstimate(querySpec);
+		try (var c = ds.getConnection(); var ps = c.prepareStatement(built.sql())) {
+			querySqlBuilder.bind(c, ps, built.params());
+			try (var rs = ps.executeQuery()) {
+				rs.next();
+				return ObjectQuerySqlBuilder.planRows(rs.getString(1));
 			}
 		}
 	}
@@ -175,4 +379,35 @@ public class ObjectRepositoryImpl implements ObjectRepository {
 		}
 	}
 
+	/**
+	 * Literal de arreglo de PostgreSQL ({@code {"a","b"}}); api_create_objects lo
+	 * recibe como texto porque los tags de cada objeto tienen distinto largo.
+	 */
+	private static String toArrayLiteral(final String[] values) {
+		if (values == null) {
+			return null;
+		}
+		final var sb = new StringBuilder(2 + values.length * 12).append('{');
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			final var v = values[i];
+			if (v == null) {
+				sb.append("NULL");
+				continue;
+			}
+			sb.append('"');
+			for (int k = 0; k < v.length(); k++) {
+				final char ch = v.charAt(k);
+				if (ch == '"' || ch == '\\') {
+					sb.append('\\');
+				}
+				sb.append(ch);
+			}
+			sb.append('"');
+		}
+		return sb.append('}').toString();
+	}
+
 }
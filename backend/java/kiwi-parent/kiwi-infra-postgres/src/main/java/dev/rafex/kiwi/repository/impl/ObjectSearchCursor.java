@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica/decodifica el cursor opaco de paginación keyset.
+ *
+ * El cursor lleva la firma del ORDER BY activo, los valores de las llaves de
+ * ordenamiento de la última fila devuelta y su {@code o.id} como desempate. Se
+ * separan con NUL porque PostgreSQL no admite ese carácter en {@code text}.
+ */
+final class ObjectSearchCursor {
+
+	private static final String VERSION = "v1";
+	private static final char SEPARATOR = '\u0000';
+
+	private ObjectSearchCursor() {
+	}
+
+	static String encode(final String signature, final String[] values) {
+		final var sb = new StringBuilder(64);
+		sb.append(VERSION).append(SEPARATOR).append(signature);
+		for (final var value : values) {
+			sb.append(SEPARATOR).append(value);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Regresa los valores del cursor en el mismo orden que las llaves de la firma.
+	 * Lanza {@link IllegalArgumentException} si el cursor está mal formado o fue
+	 * emitido con otro ordenamiento.
+	 */
+	static String[] decode(final String cursor, final String signature, final int expectedValues) {
+		final String raw;
+		try {
+			raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (final IllegalArgumentException e) {
+			throw new IllegalArgumentException("invalid cursor");
+		}
+
+		final var parts = raw.split(String.valueOf(SEPARATOR), -1);
+		if (parts.length != expectedValues + 2 || !VERSION.equals(parts[0])) {
+			throw new IllegalArgumentException("invalid cursor");
+		}
+		if (!signature.equals(parts[1])) {
+			throw new IllegalArgumentException("cursor does not match sort");
+		}
+
+		final var values = new String[expectedValues];
+		System.arraycopy(parts, 2, values, 0, expectedValues);
+		return values;
+	}
+
+}
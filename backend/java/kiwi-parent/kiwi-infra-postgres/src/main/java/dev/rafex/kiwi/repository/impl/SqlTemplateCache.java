@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache acotado de plantillas SQL indexado por la forma de la consulta. Cuando
+ * se llena se descarta una entrada cualquiera: las formas que se repiten
+ * vuelven a entrar en la siguiente petición, las raras no desplazan a nadie por
+ * mucho tiempo.
+ */
+final class SqlTemplateCache<T> {
+
+	private final int maxSize;
+	private final ConcurrentHashMap<String, T> entries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	SqlTemplateCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be > 0");
+		}
+		this.maxSize = maxSize;
+		this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+	}
+
+	/**
+	 * Devuelve la plantilla de {@code shape} o la genera con {@code loader}. Si
+	 * {@code loader} lanza excepción no se guarda nada.
+	 */
+	T get(final String shape, final Function<String, T> loader) {
+		final var cached = entries.get(shape);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		final var created = loader.apply(shape);
+		if (entries.size() >= maxSize) {
+			final var it = entries.keySet().iterator();
+			if (it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+		final var previous = entries.putIfAbsent(shape, created);
+		return previous != null ? previous : created;
+	}
+
+	long hits() {
+		return hits.sum();
+	}
+
+	long misses() {
+		return misses.sum();
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+}
@@ -103,17 +103,41 @@ public class UserRepositoryImpl implements UserRepository {
 		}
 	}
 
-	/** Útil si quieres obtener todo (usuario + roles) en una sola llamada */
+	/**
+	 * Para login: credenciales y roles activos en una sola consulta (y un solo
+	 * checkout del pool). Un usuario sin roles trae una lista vacía.
+	 */
 	@Override
 	public Optional<UserWithRoles> findByUsernameWithRoles(final String username) throws SQLException {
-		final var userOpt = findByUsername(username);
-		if (userOpt.isEmpty()) {
-			return Optional.empty();
-		}
+		final var sql = """
+				SELECT u.user_id, u.username, u.password_hash, u.salt, u.iterations, u.status,
+				       u.created_at, u.updated_at,
+				       coalesce(array_agg(r.name ORDER BY r.name) FILTER (WHERE r.name IS NOT NULL), '{}') AS roles
+				FROM users u
+				LEFT JOIN user_roles ur ON ur.user_fk = u.id
+				LEFT JOIN roles r ON r.id = ur.role_fk AND r.status = 'active'
+				WHERE u.username = ?
+				GROUP BY u.id
+				""";
+
+		try (var c = ds.getConnection(); var ps = c.prepareStatement(sql)) {
+
+			ps.setString(1, username);
+
+			try (var rs = ps.executeQuery()) {
+				if (!rs.next()) {
+					return Optional.empty();
+				}
 
-		final var user = userOpt.get();
-		final var roles = findRoleNamesByUserId(user.userId());
-		return Optional.of(new UserWithRoles(user, roles));
+				final var user = new UserRow(rs.getObject("user_id", UUID.class), rs.getString("username"),
+						rs.getBytes("password_hash"), rs.getBytes("salt"), rs.getInt("iterations"),
+						rs.getString("status"), ResultSets.asInstant(rs, "created_at"),
+						ResultSets.asInstant(rs, "updated_at"));
+				final var array = rs.getArray("roles");
+				final var roles = array == null ? List.<String>of() : List.of((String[]) array.getArray());
+				return Optional.of(new UserWithRoles(user, roles));
+			}
+		}
 	}
 
 	@Override
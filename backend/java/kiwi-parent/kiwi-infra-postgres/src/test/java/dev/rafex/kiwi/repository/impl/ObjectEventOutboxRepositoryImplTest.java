@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository.ObjectEventRow;
+
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Transacción de {@link ObjectEventOutboxRepositoryImpl#relayBatch}: las filas
+ * reclamadas sólo se marcan si el publicador regresa, y en la misma transacción.
+ */
+class ObjectEventOutboxRepositoryImplTest {
+
+	private final DataSource ds = mock(DataSource.class);
+	private final Connection c = mock(Connection.class);
+	private final PreparedStatement claim = mock(PreparedStatement.class);
+	private final PreparedStatement mark = mock(PreparedStatement.class);
+	private final ResultSet rs = mock(ResultSet.class);
+
+	private final ObjectEventOutboxRepositoryImpl repo = new ObjectEventOutboxRepositoryImpl(ds);
+
+	@BeforeEach
+	void claimTwoRows() throws Exception {
+		when(ds.getConnection()).thenReturn(c);
+		when(c.prepareStatement(contains("api_outbox_claim_object_events"))).thenReturn(claim);
+		when(c.prepareStatement(contains("api_outbox_mark_object_events"))).thenReturn(mark);
+		when(c.createArrayOf(any(), any())).thenReturn(mock(Array.class));
+		when(claim.executeQuery()).thenReturn(rs);
+		when(rs.next()).thenReturn(true, true, false);
+		when(rs.getLong("id")).thenReturn(1L, 2L);
+		when(rs.getObject("event_id")).thenReturn(UUID.randomUUID(), UUID.randomUUID());
+		when(rs.getString("event_type")).thenReturn("MOVED");
+		when(rs.getObject("object_id")).thenReturn(UUID.randomUUID());
+		when(rs.getString("payload")).thenReturn("{}");
+		when(rs.getTimestamp("occurred_at")).thenReturn(Timestamp.from(Instant.parse("2026-01-01T00:00:00Z")));
+	}
+
+	@Test
+	void confirmedBatchIsMarkedBeforeCommit() throws Exception {
+		final var published = new ArrayList<ObjectEventRow>();
+
+		assertEquals(2, repo.relayBatch(10, published::addAll));
+
+		assertEquals(List.of(1L, 2L), published.stream().map(ObjectEventRow::id).toList());
+		final var tx = inOrder(c, claim, mark);
+		tx.verify(c).setAutoCommit(false);
+		tx.verify(claim).executeQuery();
+		tx.verify(c).createArrayOf("bigint", new Long[] { 1L, 2L });
+		tx.verify(mark).execute();
+		tx.verify(c).commit();
+		tx.verify(c).setAutoCommit(true);
+		verify(c, never()).rollback();
+	}
+
+	@Test
+	void publisherFailureRollsBackWithoutMarking() throws Exception {
+		assertThrows(IOException.class, () -> repo.relayBatch(10, events -> {
+			throw new IOException("nacks received");
+		}));
+
+		verify(c, never()).prepareStatement(contains("api_outbox_mark_object_events"));
+		verify(c, never()).commit();
+		final var tx = inOrder(c);
+		tx.verify(c).setAutoCommit(false);
+		tx.verify(c).rollback();
+		tx.verify(c).setAutoCommit(true);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP mínimo contra la API. Las llamadas son síncronas: cada
+ * trabajador es un hilo virtual, así que bloquear es barato.
+ */
+final class KiwiClient implements AutoCloseable {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final HttpClient http;
+	private final String baseUrl;
+	private final String authorization;
+
+	KiwiClient(final String baseUrl, final String token) {
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.authorization = "Bearer " + token;
+		this.http = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(executor)
+				.build();
+	}
+
+	HttpResponse<String> get(final String pathAndQuery) throws IOException, InterruptedException {
+		final var request = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+				.timeout(TIMEOUT)
+				.header("Authorization", authorization)
+				.header("Accept", "application/json")
+				.GET()
+				.build();
+		return http.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	HttpResponse<String> post(final String path, final String json) throws IOException, InterruptedException {
+		final var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(TIMEOUT)
+				.header("Authorization", authorization)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+		return http.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	/** Espera a que {@code /health} responda 200. */
+	void awaitHealthy(final Duration timeout) throws InterruptedException {
+		final var deadline = System.nanoTime() + timeout.toNanos();
+		while (System.nanoTime() < deadline) {
+			try {
+				final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/health")).timeout(TIMEOUT).build();
+				if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+					return;
+				}
+			} catch (final IOException e) {
+				// todavía no escucha
+			}
+			Thread.sleep(200);
+		}
+		throw new IllegalStateException("server at " + baseUrl + " not healthy after " + timeout);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+}
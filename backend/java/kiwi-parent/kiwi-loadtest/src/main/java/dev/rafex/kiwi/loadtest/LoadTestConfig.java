@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opciones de la corrida. {@code target == null} significa levantar Kiwi en el
+ * mismo proceso (con {@code PORT} y {@code DB_*} del entorno).
+ */
+record LoadTestConfig(String target, String token, boolean migrate, String migrations, int locations, int objects,
+		int concurrency, int durationSeconds, int warmupSeconds, Map<Operation, Integer> mix, long seed,
+		boolean help) {
+
+	static LoadTestConfig parse(final String[] args) {
+		String target = null;
+		String token = null;
+		var migrate = false;
+		var migrations = "filesystem:../../db/sql";
+		var locations = 20;
+		var objects = 10_000;
+		var concurrency = 64;
+		var duration = 30;
+		var warmup = 5;
+		var mix = parseMix("search:70,get:25,create:5");
+		var seed = 42L;
+
+		for (var i = 0; i < args.length; i++) {
+			final var k = args[i];
+			if ("-h".equals(k) || "--help".equals(k)) {
+				return new LoadTestConfig(null, null, false, null, 0, 0, 0, 0, 0, Map.of(), 0, true);
+			}
+			if (!k.startsWith("--")) {
+				throw new IllegalArgumentException("unexpected arg: " + k);
+			}
+			final var key = k.substring(2).toLowerCase(Locale.ROOT);
+			if ("migrate".equals(key)) {
+				migrate = true;
+				continue;
+			}
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("missing value for " + k);
+			}
+			final var val = args[++i];
+			switch (key) {
+				case "target" -> target = val;
+				case "token" -> token = val;
+				case "migrations" -> migrations = val;
+				case "locations" -> locations = positive(key, val);
+				case "objects" -> objects = positive(key, val);
+				case "concurrency" -> concurrency = positive(key, val);
+				case "duration" -> duration = positive(key, val);
+				case "warmup" -> warmup = Integer.parseInt(val);
+				case "mix" -> mix = parseMix(val);
+				case "seed" -> seed = Long.parseLong(val);
+				default -> throw new IllegalArgumentException("unknown option: " + k);
+			}
+		}
+		return new LoadTestConfig(target, token, migrate, migrations, locations, objects, concurrency, duration,
+				warmup, mix, seed, false);
+	}
+
+	/** {@code search:70,get:25,create:5}; las operaciones omitidas pesan 0. */
+	static Map<Operation, Integer> parseMix(final String raw) {
+		final var mix = new EnumMap<Operation, Integer>(Operation.class);
+		for (final var part : raw.split(",")) {
+			final var kv = part.trim().split(":");
+			if (kv.length != 2) {
+				throw new IllegalArgumentException("invalid --mix entry: " + part);
+			}
+			final var op = Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT));
+			final var weight = Integer.parseInt(kv[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("negative weight in --mix: " + part);
+			}
+			mix.put(op, weight);
+		}
+		if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+			throw new IllegalArgumentException("--mix must have at least one positive weight");
+		}
+		return mix;
+	}
+
+	private static int positive(final String key, final String val) {
+		final var v = Integer.parseInt(val);
+		if (v <= 0) {
+			throw new IllegalArgumentException("--" + key + " must be > 0");
+		}
+		return v;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import dev.rafex.kiwi.bootstrap.KiwiBootstrap;
+import dev.rafex.kiwi.security.KiwiJwtService;
+import dev.rafex.kiwi.server.KiwiServer;
+import dev.rafex.kiwi.server.ServerConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Prueba de carga de punta a punta: migra (opcional), levanta Kiwi en el mismo
+ * proceso si no se da {@code --target}, siembra datos y mide una mezcla de
+ * búsquedas, lecturas y altas.
+ */
+public final class LoadTestMain {
+
+	private static final long TOKEN_TTL_SECONDS = 3_600;
+
+	private LoadTestMain() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		Locale.setDefault(Locale.ROOT);
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+		final LoadTestConfig cfg;
+		try {
+			cfg = LoadTestConfig.parse(args);
+		} catch (final IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			usage();
+			System.exit(2);
+			return;
+		}
+		if (cfg.help()) {
+			usage();
+			return;
+		}
+
+		if (cfg.migrate()) {
+			Migrations.migrate(cfg.migrations());
+		}
+
+		final var target = cfg.target() != null ? cfg.target() : startEmbedded();
+		final var token = cfg.token() != null ? cfg.token() : mintToken();
+
+		try (var client = new KiwiClient(target, token)) {
+			client.awaitHealthy(Duration.ofSeconds(60));
+
+			System.out.printf("seeding %d locations and %d objects into %s%n", cfg.locations(), cfg.objects(), target);
+			final var seedStart = System.nanoTime();
+			final var seed = Seeder.seed(client, cfg);
+			System.out.printf("seeded %d objects in %.1f s%n", seed.objectIds().size(),
+					(System.nanoTime() - seedStart) / 1e9);
+			if (seed.objectIds().isEmpty()) {
+				throw new IllegalStateException("no objects were created");
+			}
+
+			System.out.printf("running %s with %d workers for %d s (+%d s warmup)%n", cfg.mix(), cfg.concurrency(),
+					cfg.durationSeconds(), cfg.warmupSeconds());
+			final var result = new Workload(client, seed, cfg).run();
+			Report.print(result, System.out);
+		}
+		// el servidor embebido corre en un hilo daemon y no tiene stop
+		System.exit(0);
+	}
+
+	/** Levanta Kiwi con la configuración del entorno y regresa su URL base. */
+	private static String startEmbedded() {
+		final var config = ServerConfig.fromEnv();
+		final var server = Thread.ofPlatform().name("kiwi-embedded").daemon(true).unstarted(() -> {
+			try (var runtime = KiwiBootstrap.start()) {
+				KiwiServer.start(runtime.container());
+			} catch (final Exception e) {
+				System.err.println("embedded server failed: " + e);
+				e.printStackTrace();
+				System.exit(1);
+			}
+		});
+		server.start();
+		return "http://localhost:" + config.port();
+	}
+
+	/** Token de acceso firmado con {@code JWT_*} del entorno, como lo haría /auth/login. */
+	private static String mintToken() {
+		final var config = ServerConfig.fromEnv();
+		final var jwt = new KiwiJwtService(config.jwtIssuer(), config.jwtAudience(), config.jwtSecret());
+		return jwt.mint("loadtest", List.of("user"), TOKEN_TTL_SECONDS);
+	}
+
+	private static void usage() {
+		System.err.println("""
+				Uso: kiwi-loadtest [opciones]
+
+				  --target URL          Servidor ya levantado; si se omite se levanta Kiwi
+				                        en este proceso con PORT/DB_*/JWT_* del entorno
+				  --token TOKEN         Bearer; si se omite se firma uno con JWT_SECRET
+				  --migrate             Aplica las migraciones antes (FLYWAY_URL/USER/PASSWORD)
+				  --migrations LOC      Ubicación Flyway (default filesystem:../../db/sql)
+				  --locations N         Ubicaciones a sembrar (default 20)
+				  --objects N           Objetos a sembrar (default 10000)
+				  --concurrency N       Trabajadores concurrentes (default 64)
+				  --duration S          Segundos medidos (default 30)
+				  --warmup S            Segundos de calentamiento sin medir (default 5)
+				  --mix SPEC            Pesos por operación (default search:70,get:25,create:5)
+				  --seed N              Semilla de datos y de la mezcla (default 42)
+				""");
+	}
+
+}
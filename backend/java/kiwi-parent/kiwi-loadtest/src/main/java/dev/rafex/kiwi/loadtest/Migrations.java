@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import org.flywaydb.core.Flyway;
+
+/**
+ * Aplica {@code db/sql} con Flyway, igual que {@code script/db/flyway_migrate.sh}:
+ * usa {@code FLYWAY_URL}, {@code FLYWAY_USER} y {@code FLYWAY_PASSWORD}. Los
+ * roles ({@code kiwi_app}, ...) deben existir antes; ver {@code db/README.md}.
+ */
+final class Migrations {
+
+	private Migrations() {
+	}
+
+	static void migrate(final String locations) {
+		final var url = required("FLYWAY_URL");
+		final var result = Flyway.configure()
+				.dataSource(url, required("FLYWAY_USER"), System.getenv("FLYWAY_PASSWORD"))
+				.locations(locations)
+				.schemas("public")
+				.baselineOnMigrate(true)
+				.load()
+				.migrate();
+		System.out.printf("migrations: %d applied, schema at %s%n", result.migrationsExecuted, result.targetSchemaVersion);
+	}
+
+	private static String required(final String name) {
+		final var v = System.getenv(name);
+		if (v == null || v.isBlank()) {
+			throw new IllegalStateException(name + " is required for --migrate");
+		}
+		return v;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import dev.rafex.kiwi.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/** Tabla de resultados: throughput y percentiles por operación. */
+final class Report {
+
+	private static final String ROW = "%-8s %10s %8s %10s %9s %9s %9s %9s%n";
+
+	private Report() {
+	}
+
+	static void print(final Workload.Result result, final PrintStream out) {
+		out.println();
+		out.printf(ROW, "op", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+		for (final var e : result.byOperation().entrySet()) {
+			row(out, e.getKey().name().toLowerCase(Locale.ROOT), e.getValue(), result.measuredSeconds());
+		}
+		row(out, "total", result.total(), result.measuredSeconds());
+
+		final var statuses = new TreeMap<Integer, Long>();
+		result.total().statuses.forEach((status, n) -> statuses.put(status, n.sum()));
+		out.println();
+		out.println("status: " + statuses + (statuses.containsKey(-1) ? "  (-1 = error de E/S)" : ""));
+	}
+
+	private static void row(final PrintStream out, final String name, final Workload.Stats stats,
+			final double seconds) {
+		final LatencyHistogram.Snapshot s = stats.latency.snapshot();
+		out.printf(ROW, name, s.count(), stats.errors.sum(), String.format("%.1f", s.count() / seconds), ms(s, 0.50),
+				ms(s, 0.99), ms(s, 0.999), ms(s, 1.0));
+	}
+
+	private static String ms(final LatencyHistogram.Snapshot s, final double q) {
+		return s.count() == 0 ? "-" : String.format("%.2f", s.quantileMicros(q) / 1_000.0);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Siembra ubicaciones y objetos por la misma API HTTP que luego se mide, para
+ * que sirva igual contra un servidor embebido que contra uno remoto.
+ */
+final class Seeder {
+
+	static final String[] TYPES = { "laptop", "monitor", "teclado", "mouse", "cable", "router", "silla", "impresora",
+			"telefono", "proyector" };
+	static final String[] BRANDS = { "dell", "lenovo", "hp", "logitech", "cisco", "samsung", "apple", "epson" };
+	private static final String[] ADJECTIVES = { "nuevo", "usado", "reparado", "prestado", "portatil", "inalambrico" };
+
+	// ObjectBatchHandler acepta hasta 1000 elementos por lote
+	private static final int BATCH_SIZE = 1_000;
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	record SeedData(List<UUID> locationIds, List<UUID> objectIds) {
+	}
+
+	private Seeder() {
+	}
+
+	static SeedData seed(final KiwiClient client, final LoadTestConfig cfg)
+			throws IOException, InterruptedException {
+		final var random = new SplittableRandom(cfg.seed());
+
+		final var locationIds = new ArrayList<UUID>(cfg.locations());
+		for (var i = 0; i < cfg.locations(); i++) {
+			final var body = new HashMap<String, Object>();
+			body.put("name", "loadtest-" + i);
+			body.put("parentLocationId", null);
+			final var response = client.post("/locations", MAPPER.writeValueAsString(body));
+			expect(response.statusCode(), 201, "POST /locations", response.body());
+			locationIds.add(UUID.fromString(MAPPER.readTree(response.body()).get("location_id").asText()));
+		}
+
+		final var objectIds = new ArrayList<UUID>(cfg.objects());
+		for (var offset = 0; offset < cfg.objects(); offset += BATCH_SIZE) {
+			final var size = Math.min(BATCH_SIZE, cfg.objects() - offset);
+			final var items = new ArrayList<Map<String, Object>>(size);
+			for (var i = 0; i < size; i++) {
+				items.add(newObject(random, locationIds));
+			}
+			final var response = client.post("/objects:batch", MAPPER.writeValueAsString(Map.of("items", items)));
+			if (response.statusCode() != 200 && response.statusCode() != 201 && response.statusCode() != 207) {
+				throw new IllegalStateException(
+						"POST /objects:batch returned " + response.statusCode() + ": " + response.body());
+			}
+			for (final var result : MAPPER.readTree(response.body()).get("results")) {
+				final var id = result.get("object_id");
+				if (id != null && !id.isNull()) {
+					objectIds.add(UUID.fromString(id.asText()));
+				}
+			}
+		}
+		return new SeedData(List.copyOf(locationIds), List.copyOf(objectIds));
+	}
+
+	/** Cuerpo de {@code POST /objects} (y elemento de {@code /objects:batch}). */
+	static Map<String, Object> newObject(final SplittableRandom random, final List<UUID> locationIds) {
+		final var type = TYPES[random.nextInt(TYPES.length)];
+		final var brand = BRANDS[random.nextInt(BRANDS.length)];
+		final var item = new LinkedHashMap<String, Object>();
+		item.put("name", type + " " + brand + " " + random.nextInt(10_000));
+		item.put("description", ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + type + " de " + brand);
+		item.put("type", type);
+		item.put("tags", List.of(brand, type));
+		item.put("metadata", Map.of("serial", Long.toHexString(random.nextLong())));
+		item.put("locationId", locationIds.get(random.nextInt(locationIds.size())).toString());
+		return item;
+	}
+
+	static String toJson(final Object value) throws IOException {
+		return MAPPER.writeValueAsString(value);
+	}
+
+	private static void expect(final int actual, final int expected, final String what, final String body) {
+		if (actual != expected) {
+			throw new IllegalStateException(what + " returned " + actual + ": " + body);
+		}
+	}
+
+}
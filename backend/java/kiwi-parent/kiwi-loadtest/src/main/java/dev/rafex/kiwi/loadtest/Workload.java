@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.loadtest;
+
+import dev.rafex.kiwi.metrics.LatencyHistogram;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Carga de lazo cerrado: {@code concurrency} hilos virtuales, cada uno envía una
+ * petición, espera la respuesta y envía la siguiente, eligiendo la operación
+ * según los pesos de {@code --mix}. Lo que ocurre durante el calentamiento no se
+ * registra.
+ */
+final class Workload {
+
+	/** Resultados de una operación (o del total). */
+	static final class Stats {
+		final LatencyHistogram latency = new LatencyHistogram();
+		final LongAdder errors = new LongAdder();
+		// código HTTP -> cuenta; -1 para errores de E/S
+		final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+		void record(final int status, final long nanos) {
+			latency.recordNanos(nanos);
+			if (status < 200 || status >= 400) {
+				errors.increment();
+			}
+			statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+		}
+	}
+
+	record Result(Map<Operation, Stats> byOperation, Stats total, double measuredSeconds) {
+	}
+
+	private final KiwiClient client;
+	private final Seeder.SeedData seed;
+	private final LoadTestConfig cfg;
+	private final Operation[] operations;
+	private final int[] cumulativeWeights;
+
+	Workload(final KiwiClient client, final Seeder.SeedData seed, final LoadTestConfig cfg) {
+		this.client = client;
+		this.seed = seed;
+		this.cfg = cfg;
+		final var ops = new ArrayList<Operation>();
+		final var weights = new ArrayList<Integer>();
+		var sum = 0;
+		for (final var e : cfg.mix().entrySet()) {
+			if (e.getValue() > 0) {
+				sum += e.getValue();
+				ops.add(e.getKey());
+				weights.add(sum);
+			}
+		}
+		this.operations = ops.toArray(Operation[]::new);
+		this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	Result run() throws InterruptedException {
+		final var byOperation = new EnumMap<Operation, Stats>(Operation.class);
+		for (final var op : operations) {
+			byOperation.put(op, new Stats());
+		}
+		final var total = new Stats();
+
+		final var start = System.nanoTime();
+		final var measureFrom = start + TimeUnit.SECONDS.toNanos(cfg.warmupSeconds());
+		final var end = measureFrom + TimeUnit.SECONDS.toNanos(cfg.durationSeconds());
+
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (var w = 0; w < cfg.concurrency(); w++) {
+				final var random = new SplittableRandom(cfg.seed() + 1 + w);
+				executor.submit(() -> {
+					while (true) {
+						final var before = System.nanoTime();
+						if (before >= end) {
+							return null;
+						}
+						final var op = pick(random);
+						final var status = execute(op, random);
+						final var after = System.nanoTime();
+						if (before >= measureFrom && after <= end) {
+							byOperation.get(op).record(status, after - before);
+							total.record(status, after - before);
+						}
+					}
+				});
+			}
+		}
+		return new Result(byOperation, total, cfg.durationSeconds());
+	}
+
+	private Operation pick(final SplittableRandom random) {
+		final var r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		for (var i = 0; i < cumulativeWeights.length; i++) {
+			if (r < cumulativeWeights[i]) {
+				return operations[i];
+			}
+		}
+		return operations[operations.length - 1];
+	}
+
+	/** Regresa el código HTTP, o -1 si la petición falló antes de tener uno. */
+	private int execute(final Operation op, final SplittableRandom random) throws InterruptedException {
+		try {
+			return switch (op) {
+				case SEARCH -> {
+					final var word = random.nextBoolean() ? Seeder.TYPES[random.nextInt(Seeder.TYPES.length)]
+							: Seeder.BRANDS[random.nextInt(Seeder.BRANDS.length)];
+					yield client.get("/objects/search?limit=20&text=" + URLEncoder.encode(word, StandardCharsets.UTF_8))
+							.statusCode();
+				}
+				case GET -> {
+					final var ids = seed.objectIds();
+					yield client.get("/objects/" + ids.get(random.nextInt(ids.size()))).statusCode();
+				}
+				case CREATE -> client.post("/objects",
+						Seeder.toJson(Seeder.newObject(random, seed.locationIds()))).statusCode();
+			};
+		} catch (final InterruptedException e) {
+			throw e;
+		} catch (final Exception e) {
+			return -1;
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.query;
+
+import java.util.Locale;
+
+/**
+ * Cómo calcular el total de una búsqueda: {@code NONE} no lo calcula,
+ * {@code ESTIMATE} usa la estadística del planner y {@code EXACT} cuenta las
+ * filas hasta un tope.
+ */
+public enum CountMode {
+	NONE,
+	ESTIMATE,
+	EXACT;
+
+	/** Valor del parámetro {@code count}; null o vacío es {@link #NONE}. */
+	public static CountMode fromParam(final String raw) {
+		if (raw == null || raw.isBlank()) {
+			return NONE;
+		}
+		return switch (raw.trim().toLowerCase(Locale.ROOT)) {
+			case "none" -> NONE;
+			case "estimate" -> ESTIMATE;
+			case "exact" -> EXACT;
+			default -> throw new IllegalArgumentException("count must be none, estimate or exact");
+		};
+	}
+}
@@ -17,7 +17,7 @@ package dev.rafex.kiwi.query;
 
 import java.util.List;
 
-public record QuerySpec(RsqlNode filter, int limit, int offset, List<Sort> sorts) {
+public record QuerySpec(RsqlNode filter, int limit, int offset, List<Sort> sorts, String cursor) {
 
 	public static final int DEFAULT_LIMIT = 20;
 	public static final int DEFAULT_OFFSET = 0;
@@ -26,4 +26,8 @@ public record QuerySpec(RsqlNode filter, int limit, int offset, List<Sort> sorts
 		sorts = sorts == null ? List.of() : List.copyOf(sorts);
 	}
 
+	public QuerySpec(final RsqlNode filter, final int limit, final int offset, final List<Sort> sorts) {
+		this(filter, limit, offset, sorts, null);
+	}
+
 }
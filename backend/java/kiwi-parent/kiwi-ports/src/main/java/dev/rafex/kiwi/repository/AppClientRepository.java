@@ -17,6 +17,7 @@ package dev.rafex.kiwi.repository;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +31,9 @@ public interface AppClientRepository {
 
 	void touchLastUsed(UUID appClientId) throws SQLException;
 
+	/** Igual que {@link #touchLastUsed(UUID)} para varios clientes en una sola sentencia. */
+	void touchLastUsed(Collection<UUID> appClientIds) throws SQLException;
+
 	public record AppClientRow(UUID appClientId, String clientId, String name, byte[] secretHash, byte[] salt,
 			int iterations, List<String> roles, String status, Instant lastUsedAt, Instant createdAt, Instant updatedAt) {
 	}
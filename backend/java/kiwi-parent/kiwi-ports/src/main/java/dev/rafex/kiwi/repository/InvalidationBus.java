@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository;
+
+import java.util.UUID;
+
+/**
+ * Avisos de que una entidad cambió en la base de datos, publicados por
+ * cualquier instancia. Los caches en memoria se suscriben para descartar llaves
+ * concretas en vez de esperar a que venza su TTL.
+ */
+public interface InvalidationBus {
+
+	String OBJECT = "object";
+	String LOCATION = "location";
+	String APP_CLIENT = "app_client";
+
+	/** Registra {@code subscriber} para los avisos de {@code entity}. */
+	void subscribe(String entity, Subscriber subscriber);
+
+	interface Subscriber {
+
+		void evict(UUID id);
+
+		/**
+		 * Se pudieron perder avisos (arranque, reconexión); hay que descartar todo lo
+		 * cacheado.
+		 */
+		void evictAll();
+	}
+
+	/** Bus que nunca entrega avisos; los caches dependen solo de su TTL. */
+	InvalidationBus NOOP = (entity, subscriber) -> {
+	};
+
+}
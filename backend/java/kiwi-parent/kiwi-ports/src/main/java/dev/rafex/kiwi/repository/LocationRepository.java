@@ -16,6 +16,7 @@
 package dev.rafex.kiwi.repository;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.UUID;
 
 public interface LocationRepository {
@@ -24,4 +25,14 @@ public interface LocationRepository {
 
 	boolean locationExists(UUID locationId) throws SQLException;
 
+	/**
+	 * Todas las ubicaciones con su llave interna; alimenta el índice en memoria
+	 * del árbol.
+	 */
+	List<LocationRow> findAll() throws SQLException;
+
+	/** {@code id} y {@code parentId} son llaves internas; {@code parentId} es 0 en una raíz. */
+	record LocationRow(long id, UUID locationId, String name, long parentId) {
+	}
+
 }
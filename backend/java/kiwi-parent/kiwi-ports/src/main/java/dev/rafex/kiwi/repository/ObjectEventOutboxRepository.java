@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.repository;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lectura de {@code object_events} como outbox: cada evento se entrega al
+ * menos una vez a un publicador externo.
+ */
+public interface ObjectEventOutboxRepository {
+
+	/**
+	 * Reclama hasta {@code limit} eventos pendientes que ninguna otra instancia
+	 * tenga tomados, se los pasa a {@code publisher} en orden de id y, si no lanza,
+	 * los marca como publicados en la misma transacción. Si {@code publisher}
+	 * falla, la transacción se revierte y los eventos quedan pendientes.
+	 *
+	 * @return cuántos eventos se publicaron
+	 */
+	int relayBatch(int limit, BatchPublisher publisher) throws SQLException, IOException;
+
+	@FunctionalInterface
+	interface BatchPublisher {
+		/** Debe regresar sólo cuando el broker confirmó todos los eventos. */
+		void publish(List<ObjectEventRow> events) throws IOException;
+	}
+
+	record ObjectEventRow(long id, UUID eventId, String eventType, UUID objectId, UUID fromLocationId,
+			UUID toLocationId, String payloadJson, Instant occurredAt) {
+	}
+
+}
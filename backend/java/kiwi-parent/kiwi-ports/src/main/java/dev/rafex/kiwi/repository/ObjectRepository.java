@@ -17,6 +17,7 @@ package dev.rafex.kiwi.repository;
 
 import dev.rafex.kiwi.query.QuerySpec;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
@@ -28,6 +29,12 @@ public interface ObjectRepository {
 	void createObject(UUID objectId, String name, String description, String type, String[] tags, String metadataJson,
 			UUID locationId) throws SQLException;
 
+	/**
+	 * Crea todos los objetos en una sola sentencia (y transacción). Regresa un
+	 * resultado por elemento, en el mismo orden de {@code objects}.
+	 */
+	List<CreateObjectResult> createObjects(List<NewObjectRow> objects) throws SQLException;
+
 	void moveObject(UUID objectId, UUID newLocationId) throws SQLException;
 
 	void updateTags(UUID objectId, String[] tags) throws SQLException;
@@ -38,16 +45,75 @@ public interface ObjectRepository {
 
 	Optional<ObjectDetailRow> findById(UUID objectId) throws SQLException;
 
-	List<SearchRow> search(QuerySpec querySpec) throws SQLException;
+	SearchPage search(QuerySpec querySpec) throws SQLException;
+
+	/**
+	 * Entrega a {@code sink}, una por una, todas las filas que cumplen el filtro
+	 * de {@code querySpec} en su orden; {@code limit} y {@code offset} se ignoran.
+	 */
+	void exportSearch(QuerySpec querySpec, RowSink<SearchRow> sink) throws SQLException, IOException;
 
 	List<FuzzyRow> fuzzy(String text, int limit, int offset) throws SQLException;
 
+	/**
+	 * Conteos por faceta ({@code type}, {@code status}, {@code locationId},
+	 * {@code tags}) de las filas que cumplen el filtro de {@code querySpec}, a lo
+	 * más {@code perFacet} valores por faceta, y el total.
+	 */
+	FacetCounts facets(QuerySpec querySpec, int perFacet) throws SQLException;
+
+	/**
+	 * Filas que cumplen el filtro de {@code querySpec}, contando a lo más
+	 * {@code cap + 1}; un valor mayor que {@code cap} significa "más de cap".
+	 */
+	long countSearch(QuerySpec querySpec, long cap) throws SQLException;
+
+	/**
+	 * Estimado del planner de las filas que cumplen el filtro, sin ejecutar la
+	 * consulta; sin filtro es {@code pg_class.reltuples}. Negativo si la tabla
+	 * nunca se ha analizado.
+	 */
+	long estimateSearch(QuerySpec querySpec) throws SQLException;
+
+	/** Búsquedas cuyo SQL salió de un cache de plantillas; 0 si no hay cache. */
+	default long sqlTemplateCacheHits() {
+		return 0;
+	}
+
+	/** Búsquedas que tuvieron que generar SQL; 0 si no hay cache. */
+	default long sqlTemplateCacheMisses() {
+		return 0;
+	}
+
+	@FunctionalInterface
+	interface RowSink<T> {
+		void accept(T row) throws IOException;
+	}
+
+	record NewObjectRow(UUID objectId, String name, String description, String type, String[] tags,
+			String metadataJson, UUID locationId) {
+	}
+
+	/** {@code error} es null si el objeto se creó. */
+	record CreateObjectResult(UUID objectId, String error) {
+	}
+
 	record SearchRow(UUID objectId, String name, float rank) {
 	}
 
+	record SearchPage(List<SearchRow> rows, String nextCursor) {
+	}
+
 	record FuzzyRow(UUID objectId, String name, float score) {
 	}
 
+	/** {@code value} es null para el grupo de objetos sin ese campo. */
+	record FacetRow(String facet, String value, long count) {
+	}
+
+	record FacetCounts(long total, List<FacetRow> rows) {
+	}
+
 	record ObjectDetailRow(UUID objectId, String name, String description, String type, String status,
 			UUID currentLocationId, String[] tags, String metadataJson, Instant createdAt, Instant updatedAt) {
 	}
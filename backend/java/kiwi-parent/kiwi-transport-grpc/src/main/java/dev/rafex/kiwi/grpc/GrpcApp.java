@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.grpc;
+
+import dev.rafex.kiwi.App;
+import dev.rafex.kiwi.bootstrap.KiwiBootstrap;
+import dev.rafex.kiwi.security.KiwiJwtService;
+import dev.rafex.kiwi.server.DefaultKiwiModule;
+import dev.rafex.kiwi.server.KiwiServer;
+import dev.rafex.kiwi.server.ServerConfig;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.logging.Logger;
+
+/**
+ * Levanta en el mismo proceso la API HTTP (Jetty, {@code PORT}) y la API gRPC
+ * ({@code GRPC_PORT}) sobre un único {@code KiwiContainer}: mismo pool de
+ * conexiones, mismos caches, mismo secreto JWT.
+ */
+public final class GrpcApp {
+
+	private static final Logger LOG = Logger.getLogger(GrpcApp.class.getName());
+
+	private GrpcApp() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		Locale.setDefault(Locale.ROOT);
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+		App.configureLogging(args);
+
+		LOG.info("Starting Kiwi backend (HTTP + gRPC)...");
+
+		try (var runtime = KiwiBootstrap.start()) {
+			final var container = runtime.container();
+			final var serverConfig = ServerConfig.fromEnv();
+			final var jwt = new KiwiJwtService(serverConfig.jwtIssuer(), serverConfig.jwtAudience(),
+					serverConfig.jwtSecret());
+
+			runtime.closer().register(KiwiGrpcServer.start(container, jwt, GrpcConfig.fromEnv()));
+
+			// bloquea hasta que Jetty se detenga
+			KiwiServer.start(container, serverConfig, List.of(new DefaultKiwiModule()));
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.grpc;
+
+public record GrpcConfig(int port, int maxInboundMessageBytes, int maxConcurrentSearches,
+		int searchIdleTimeoutMillis) {
+
+	public static GrpcConfig fromEnv() {
+		final var env = System.getenv();
+		return new GrpcConfig(
+				parseInt(env.get("GRPC_PORT"), 9090),
+				parseInt(env.get("GRPC_MAX_INBOUND_MESSAGE_BYTES"), 4 * 1024 * 1024),
+				parseInt(env.get("GRPC_MAX_CONCURRENT_SEARCHES"), ObjectGrpcService.DEFAULT_MAX_CONCURRENT_SEARCHES),
+				parseInt(env.get("GRPC_SEARCH_IDLE_TIMEOUT_MS"),
+						(int) ObjectGrpcService.DEFAULT_SEARCH_IDLE_TIMEOUT_MILLIS));
+	}
+
+	private static int parseInt(final String raw, final int def) {
+		if (raw == null || raw.isBlank()) {
+			return def;
+		}
+		try {
+			return Integer.parseInt(raw.trim());
+		} catch (final NumberFormatException e) {
+			return def;
+		}
+	}
+
+}
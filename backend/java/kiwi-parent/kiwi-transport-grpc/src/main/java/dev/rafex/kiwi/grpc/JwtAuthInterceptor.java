@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.grpc;
+
+import dev.rafex.kiwi.security.KiwiJwtService;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * Exige {@code authorization: Bearer <jwt>} en cada llamada; mismo contrato que
+ * el {@code JettyAuthHandler} de la API HTTP. El contexto autenticado queda en
+ * {@link #AUTH} para los servicios.
+ */
+public final class JwtAuthInterceptor implements ServerInterceptor {
+
+	public static final Context.Key<KiwiJwtService.AuthContext> AUTH = Context.key("kiwi-auth");
+
+	private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization",
+			Metadata.ASCII_STRING_MARSHALLER);
+	private static final String BEARER = "Bearer ";
+
+	private final KiwiJwtService jwt;
+
+	public JwtAuthInterceptor(final KiwiJwtService jwt) {
+		this.jwt = Objects.requireNonNull(jwt, "jwt");
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(final ServerCall<ReqT, RespT> call,
+			final Metadata headers, final ServerCallHandler<ReqT, RespT> next) {
+		final var raw = headers.get(AUTHORIZATION);
+		if (raw == null || !raw.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+			return reject(call, "missing_token");
+		}
+		final var token = raw.substring(BEARER.length()).trim();
+		if (token.isEmpty()) {
+			return reject(call, "missing_token");
+		}
+
+		final var verification = jwt.verify(token, Instant.now().getEpochSecond());
+		if (!verification.ok()) {
+			return reject(call, verification.code());
+		}
+		final var ctx = Context.current().withValue(AUTH, verification.ctx());
+		return Contexts.interceptCall(ctx, call, headers, next);
+	}
+
+	private static <ReqT, RespT> ServerCall.Listener<ReqT> reject(final ServerCall<ReqT, RespT> call,
+			final String code) {
+		call.close(Status.UNAUTHENTICATED.withDescription(code), new Metadata());
+		return new ServerCall.Listener<>() {
+		};
+	}
+
+}
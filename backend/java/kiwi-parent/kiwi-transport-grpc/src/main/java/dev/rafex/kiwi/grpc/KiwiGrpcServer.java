@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.grpc;
+
+import dev.rafex.kiwi.bootstrap.KiwiContainer;
+import dev.rafex.kiwi.security.KiwiJwtService;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Servidor gRPC sobre Netty. Los event loops de Netty sólo hacen I/O; cada
+ * llamada corre en un hilo virtual, así que los servicios pueden bloquear en
+ * JDBC igual que los handlers HTTP.
+ */
+public final class KiwiGrpcServer implements AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger(KiwiGrpcServer.class.getName());
+
+	private final Server server;
+	private final ExecutorService executor;
+
+	private KiwiGrpcServer(final Server server, final ExecutorService executor) {
+		this.server = server;
+		this.executor = executor;
+	}
+
+	public static KiwiGrpcServer start(final KiwiContainer container, final KiwiJwtService jwt,
+			final GrpcConfig config) throws IOException {
+		Objects.requireNonNull(container, "container");
+		Objects.requireNonNull(jwt, "jwt");
+		Objects.requireNonNull(config, "config");
+
+		final var executor = Executors.newVirtualThreadPerTaskExecutor();
+		final var objects = ServerInterceptors.intercept(new ObjectGrpcService(container.objectService(),
+				config.maxConcurrentSearches(), config.searchIdleTimeoutMillis()),
+				new JwtAuthInterceptor(jwt));
+		final var server = NettyServerBuilder.forPort(config.port())
+				.executor(executor)
+				.maxInboundMessageSize(config.maxInboundMessageBytes())
+				.addService(objects)
+				.build()
+				.start();
+		LOG.info("Kiwi gRPC listening on port " + server.getPort());
+		return new KiwiGrpcServer(server, executor);
+	}
+
+	public int port() {
+		return server.getPort();
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		server.shutdown();
+		if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+			server.shutdownNow();
+		}
+		executor.close();
+	}
+
+}
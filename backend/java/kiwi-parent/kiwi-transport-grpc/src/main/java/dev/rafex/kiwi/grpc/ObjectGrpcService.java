@@ -0,0 +1,512 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.grpc;
+
+import dev.rafex.kiwi.errors.KiwiError;
+import dev.rafex.kiwi.grpc.v1.CreateObjectRequest;
+import dev.rafex.kiwi.grpc.v1.CreateObjectResponse;
+import dev.rafex.kiwi.grpc.v1.CreateObjectResult;
+import dev.rafex.kiwi.grpc.v1.CreateObjectsResponse;
+import dev.rafex.kiwi.grpc.v1.GetObjectRequest;
+import dev.rafex.kiwi.grpc.v1.KiwiObject;
+import dev.rafex.kiwi.grpc.v1.MoveObjectRequest;
+import dev.rafex.kiwi.grpc.v1.MoveObjectResponse;
+import dev.rafex.kiwi.grpc.v1.ObjectApiGrpc;
+import dev.rafex.kiwi.grpc.v1.SearchHit;
+import dev.rafex.kiwi.grpc.v1.SearchRequest;
+import dev.rafex.kiwi.http.KiwiErrorHttpMapper;
+import dev.rafex.kiwi.http.MappedHttpError;
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.models.NewObject;
+import dev.rafex.kiwi.models.ObjectDetail;
+import dev.rafex.kiwi.query.QuerySpec;
+import dev.rafex.kiwi.query.QuerySpecBuilder;
+import dev.rafex.kiwi.services.ObjectService;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.protobuf.Timestamp;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * {@link ObjectService} por gRPC. Valida y mapea errores igual que
+ * {@code ObjectHandler}/{@code ObjectBatchHandler}: los {@link KiwiError} pasan
+ * por {@link KiwiErrorHttpMapper} y el status HTTP se traduce al código gRPC
+ * equivalente.
+ */
+public final class ObjectGrpcService extends ObjectApiGrpc.ObjectApiImplBase {
+
+	// Tamaño de cada createBatch mientras llega el stream de CreateObjects
+	private static final int BATCH_CHUNK = 500;
+	// Los resultados se acumulan hasta el final del stream
+	private static final int MAX_STREAM_ITEMS = 100_000;
+
+	public static final int DEFAULT_MAX_CONCURRENT_SEARCHES = 16;
+	public static final long DEFAULT_SEARCH_IDLE_TIMEOUT_MILLIS = 30_000;
+
+	private final ObjectService service;
+	private final QuerySpecBuilder querySpecBuilder = new QuerySpecBuilder();
+	private final Semaphore searchPermits;
+	private final long searchIdleTimeoutNanos;
+
+	public ObjectGrpcService(final ObjectService service) {
+		this(service, DEFAULT_MAX_CONCURRENT_SEARCHES, DEFAULT_SEARCH_IDLE_TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * {@code maxConcurrentSearches} acota los streams de {@code Search} abiertos
+	 * (además del límite de exports de {@link ObjectService}, compartido con
+	 * HTTP); {@code searchIdleTimeoutMillis} es cuánto puede el cliente dejar de
+	 * leer antes de cortar el stream (0 no corta).
+	 */
+	public ObjectGrpcService(final ObjectService service, final int maxConcurrentSearches,
+			final long searchIdleTimeoutMillis) {
+		if (maxConcurrentSearches <= 0) {
+			throw new IllegalArgumentException("maxConcurrentSearches debe ser > 0");
+		}
+		if (searchIdleTimeoutMillis < 0) {
+			throw new IllegalArgumentException("searchIdleTimeoutMillis no puede ser negativo");
+		}
+		this.service = Objects.requireNonNull(service);
+		this.searchPermits = new Semaphore(maxConcurrentSearches);
+		this.searchIdleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(searchIdleTimeoutMillis);
+	}
+
+	@Override
+	public void getObject(final GetObjectRequest request, final StreamObserver<KiwiObject> responseObserver) {
+		final UUID objectId;
+		try {
+			objectId = UUID.fromString(request.getObjectId());
+		} catch (final IllegalArgumentException e) {
+			responseObserver.onError(invalidArgument("invalid UUID"));
+			return;
+		}
+
+		try {
+			final var objectOpt = service.getById(objectId);
+			if (objectOpt.isEmpty()) {
+				responseObserver.onError(Status.NOT_FOUND.withDescription("not_found").asRuntimeException());
+				return;
+			}
+			responseObserver.onNext(toProto(objectOpt.get()));
+			responseObserver.onCompleted();
+		} catch (final Exception e) {
+			Log.error(getClass(), "Error getting object by id", e);
+			responseObserver.onError(internal());
+		}
+	}
+
+	@Override
+	public void createObject(final CreateObjectRequest request,
+			final StreamObserver<CreateObjectResponse> responseObserver) {
+		final var error = validate(request);
+		if (error != null) {
+			responseObserver.onError(invalidArgument(error));
+			return;
+		}
+
+		try {
+			final var o = toNewObject(request);
+			service.create(o.objectId(), o.name(), o.description(), o.type(), o.tags(), o.metadataJson(),
+					o.locationId());
+			responseObserver.onNext(CreateObjectResponse.newBuilder().setObjectId(o.objectId().toString()).build());
+			responseObserver.onCompleted();
+		} catch (final KiwiError e) {
+			Log.error(getClass(), "KiwiError creating object", e);
+			responseObserver.onError(toStatus(KiwiErrorHttpMapper.map(e, "object.create")));
+		} catch (final Exception e) {
+			Log.error(getClass(), "Error creating object", e);
+			responseObserver.onError(internal());
+		}
+	}
+
+	@Override
+	public void move(final MoveObjectRequest request, final StreamObserver<MoveObjectResponse> responseObserver) {
+		final UUID objectId;
+		final UUID newLocationId;
+		if (request.getNewLocationId().isBlank()) {
+			responseObserver.onError(invalidArgument("newLocationId is required"));
+			return;
+		}
+		try {
+			objectId = UUID.fromString(request.getObjectId());
+			newLocationId = UUID.fromString(request.getNewLocationId());
+		} catch (final IllegalArgumentException e) {
+			responseObserver.onError(invalidArgument("invalid UUID"));
+			return;
+		}
+
+		try {
+			service.move(objectId, newLocationId);
+			responseObserver.onNext(MoveObjectResponse.getDefaultInstance());
+			responseObserver.onCompleted();
+		} catch (final KiwiError e) {
+			Log.error(getClass(), "KiwiError moving object", e);
+			responseObserver.onError(toStatus(KiwiErrorHttpMapper.map(e, "object.move")));
+		} catch (final RuntimeException e) {
+			Log.error(getClass(), "Error moving object", e);
+			responseObserver.onError(internal());
+		}
+	}
+
+	/**
+	 * Recorre el cursor de {@link ObjectService#export} en un hilo virtual propio
+	 * y manda cada fila cuando el transporte la acepta. gRPC entrega
+	 * {@code onReady}/{@code onCancel} por el mismo ejecutor serializado de la
+	 * llamada, así que este método debe regresar para que lleguen: el hilo del
+	 * cursor duerme hasta esa señal. Mientras el cliente no lea la base de datos
+	 * no avanza y nada se acumula en memoria; si no lee en
+	 * {@code searchIdleTimeoutMillis} el stream se corta con
+	 * {@code DEADLINE_EXCEEDED} y la transacción se revierte.
+	 */
+	@Override
+	public void search(final SearchRequest request, final StreamObserver<SearchHit> responseObserver) {
+		final QuerySpec spec;
+		try {
+			spec = querySpecBuilder.fromRawParams(
+					emptyToNull(request.getQ()),
+					emptyToNull(request.getText()),
+					emptyToNull(request.getTags()),
+					emptyToNull(request.getLocationId()),
+					emptyToNull(request.getEnabled()),
+					emptyToNull(request.getSort()),
+					null,
+					null,
+					emptyToNull(request.getCursor()));
+		} catch (final IllegalArgumentException e) {
+			responseObserver.onError(invalidArgument(e.getMessage()));
+			return;
+		}
+
+		if (!searchPermits.tryAcquire()) {
+			responseObserver.onError(
+					Status.UNAVAILABLE.withDescription("busy: too many concurrent searches").asRuntimeException());
+			return;
+		}
+		final var call = (ServerCallStreamObserver<SearchHit>) responseObserver;
+		final var ready = new ReadySignal(call, searchIdleTimeoutNanos);
+		// los dos handlers deben registrarse antes de que este método regrese
+		call.setOnReadyHandler(ready::signal);
+		call.setOnCancelHandler(ready::signal);
+		try {
+			Thread.ofVirtual().name("kiwi-grpc-search").start(() -> {
+				try {
+					streamSearch(spec, call, ready);
+				} finally {
+					searchPermits.release();
+				}
+			});
+		} catch (final RuntimeException e) {
+			searchPermits.release();
+			Log.error(getClass(), "Could not start search stream", e);
+			call.onError(internal());
+		}
+	}
+
+	private void streamSearch(final QuerySpec spec, final ServerCallStreamObserver<SearchHit> call,
+			final ReadySignal ready) {
+		final var hit = SearchHit.newBuilder();
+		try {
+			service.export(spec, item -> {
+				ready.await();
+				call.onNext(hit.clear()
+						.setObjectId(item.objectId().toString())
+						.setName(item.name() == null ? "" : item.name())
+						.setRank(item.rank())
+						.build());
+			});
+			call.onCompleted();
+		} catch (final KiwiError e) {
+			Log.error(getClass(), "KiwiError searching objects", e);
+			call.onError(toStatus(KiwiErrorHttpMapper.map(e, "object.export")));
+		} catch (final IllegalArgumentException e) {
+			call.onError(invalidArgument(e.getMessage()));
+		} catch (final SearchIdleException e) {
+			Log.debug(getClass(), "Search stream idle for too long; closing: {}", e.getMessage());
+			call.onError(Status.DEADLINE_EXCEEDED.withDescription("client stopped reading").asRuntimeException());
+		} catch (final Exception e) {
+			if (call.isCancelled()) {
+				// el cliente se fue; no hay a quién responder
+				Log.debug(getClass(), "Search stream cancelled by client");
+				return;
+			}
+			Log.error(getClass(), "Error searching objects", e);
+			call.onError(internal());
+		}
+	}
+
+	/**
+	 * Crea los objetos por tramos de {@value #BATCH_CHUNK} mientras llegan. Los
+	 * tramos ya creados se conservan aunque uno posterior falle.
+	 */
+	@Override
+	public StreamObserver<CreateObjectRequest> createObjects(
+			final StreamObserver<CreateObjectsResponse> responseObserver) {
+		return new StreamObserver<>() {
+
+			private final List<CreateObjectResult> results = new ArrayList<>();
+			private final List<NewObject> pending = new ArrayList<>(BATCH_CHUNK);
+			private final List<Integer> pendingIndexes = new ArrayList<>(BATCH_CHUNK);
+			private int index;
+			private boolean done;
+
+			@Override
+			public void onNext(final CreateObjectRequest request) {
+				if (done) {
+					return;
+				}
+				if (index >= MAX_STREAM_ITEMS) {
+					fail(invalidArgument("too many items (max " + MAX_STREAM_ITEMS + ")"));
+					return;
+				}
+				final var error = validate(request);
+				if (error != null) {
+					results.add(result(index, null, error));
+				} else {
+					pending.add(toNewObject(request));
+					pendingIndexes.add(index);
+				}
+				index++;
+				if (pending.size() >= BATCH_CHUNK) {
+					flush();
+				}
+			}
+
+			@Override
+			public void onError(final Throwable t) {
+				done = true;
+				Log.debug(getClass(), "CreateObjects stream aborted by client: {}", t.getMessage());
+			}
+
+			@Override
+			public void onCompleted() {
+				if (done) {
+					return;
+				}
+				flush();
+				if (done) {
+					return;
+				}
+				done = true;
+				results.sort(Comparator.comparingInt(CreateObjectResult::getIndex));
+				responseObserver.onNext(CreateObjectsResponse.newBuilder().addAllResults(results).build());
+				responseObserver.onCompleted();
+			}
+
+			private void flush() {
+				if (pending.isEmpty()) {
+					return;
+				}
+				try {
+					final var created = service.createBatch(pending);
+					for (var k = 0; k < created.size(); k++) {
+						final var c = created.get(k);
+						results.add(result(pendingIndexes.get(k), c.created() ? c.objectId() : null, c.error()));
+					}
+				} catch (final KiwiError e) {
+					Log.error(getClass(), "KiwiError creating object batch", e);
+					fail(toStatus(KiwiErrorHttpMapper.map(e, "object.batch")));
+				} catch (final RuntimeException e) {
+					Log.error(getClass(), "Error creating object batch", e);
+					fail(internal());
+				} finally {
+					pending.clear();
+					pendingIndexes.clear();
+				}
+			}
+
+			private void fail(final StatusRuntimeException status) {
+				done = true;
+				responseObserver.onError(status);
+			}
+		};
+	}
+
+	private static String validate(final CreateObjectRequest request) {
+		if (request.getName().isBlank()) {
+			return "name is required";
+		}
+		if (request.getLocationId().isBlank()) {
+			return "locationId is required";
+		}
+		try {
+			UUID.fromString(request.getLocationId());
+		} catch (final IllegalArgumentException e) {
+			return "invalid UUID";
+		}
+		return null;
+	}
+
+	private static NewObject toNewObject(final CreateObjectRequest r) {
+		final var tags = r.getTagsCount() == 0 ? null : r.getTagsList().toArray(new String[0]);
+		return new NewObject(UUID.randomUUID(), r.getName(), emptyToNull(r.getDescription()),
+				emptyToNull(r.getType()), tags, emptyToNull(r.getMetadataJson()), UUID.fromString(r.getLocationId()));
+	}
+
+	private static KiwiObject toProto(final ObjectDetail o) {
+		final var b = KiwiObject.newBuilder().setObjectId(o.objectId().toString());
+		if (o.name() != null) {
+			b.setName(o.name());
+		}
+		if (o.description() != null) {
+			b.setDescription(o.description());
+		}
+		if (o.type() != null) {
+			b.setType(o.type());
+		}
+		if (o.status() != null) {
+			b.setStatus(o.status());
+		}
+		if (o.currentLocationId() != null) {
+			b.setCurrentLocationId(o.currentLocationId().toString());
+		}
+		if (o.tags() != null) {
+			b.addAllTags(Arrays.asList(o.tags()));
+		}
+		if (o.metadataJson() != null) {
+			b.setMetadataJson(o.metadataJson());
+		}
+		if (o.createdAt() != null) {
+			b.setCreatedAt(timestamp(o.createdAt()));
+		}
+		if (o.updatedAt() != null) {
+			b.setUpdatedAt(timestamp(o.updatedAt()));
+		}
+		return b.build();
+	}
+
+	private static CreateObjectResult result(final int index, final UUID objectId, final String error) {
+		final var b = CreateObjectResult.newBuilder().setIndex(index);
+		if (objectId != null) {
+			b.setObjectId(objectId.toString());
+		}
+		if (error != null) {
+			b.setError(error);
+		}
+		return b.build();
+	}
+
+	private static Timestamp timestamp(final Instant i) {
+		return Timestamp.newBuilder().setSeconds(i.getEpochSecond()).setNanos(i.getNano()).build();
+	}
+
+	private static String emptyToNull(final String s) {
+		return s == null || s.isEmpty() ? null : s;
+	}
+
+	private static StatusRuntimeException toStatus(final MappedHttpError mapped) {
+		final var status = switch (mapped.status()) {
+			case 400 -> Status.INVALID_ARGUMENT;
+			case 401 -> Status.UNAUTHENTICATED;
+			case 403 -> Status.PERMISSION_DENIED;
+			case 404 -> Status.NOT_FOUND;
+			case 503 -> Status.UNAVAILABLE;
+			default -> Status.INTERNAL;
+		};
+		return status.withDescription(mapped.code() + ": " + mapped.message()).asRuntimeException();
+	}
+
+	private static StatusRuntimeException invalidArgument(final String message) {
+		return Status.INVALID_ARGUMENT.withDescription(message).asRuntimeException();
+	}
+
+	private static StatusRuntimeException internal() {
+		return Status.INTERNAL.withDescription("internal_error").asRuntimeException();
+	}
+
+	/**
+	 * Espera a que el transporte acepte otro mensaje. {@link #signal} lo llaman
+	 * los handlers de listo y de cancelación; revisar {@code isReady} y dormir
+	 * bajo el mismo lock evita perder una señal entre ambos.
+	 */
+	private static final class ReadySignal {
+
+		private final ServerCallStreamObserver<?> call;
+		private final long idleNanos;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition changed = lock.newCondition();
+
+		ReadySignal(final ServerCallStreamObserver<?> call, final long idleNanos) {
+			this.call = call;
+			this.idleNanos = idleNanos;
+		}
+
+		void signal() {
+			lock.lock();
+			try {
+				changed.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void await() throws IOException {
+			if (call.isCancelled()) {
+				throw new InterruptedIOException("search stream cancelled");
+			}
+			if (call.isReady()) {
+				return;
+			}
+			lock.lock();
+			try {
+				var remaining = idleNanos;
+				while (!call.isReady()) {
+					if (call.isCancelled()) {
+						throw new InterruptedIOException("search stream cancelled");
+					}
+					if (idleNanos == 0) {
+						changed.await();
+					} else if (remaining <= 0) {
+						throw new SearchIdleException(TimeUnit.NANOSECONDS.toMillis(idleNanos));
+					} else {
+						remaining = changed.awaitNanos(remaining);
+					}
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("search stream interrupted");
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static final class SearchIdleException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		SearchIdleException(final long idleMillis) {
+			super("client did not read for " + idleMillis + " ms");
+		}
+	}
+
+}
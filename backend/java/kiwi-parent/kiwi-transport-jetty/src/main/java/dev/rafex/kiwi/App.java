@@ -50,7 +50,7 @@ public class App {
 		}
 	}
 
-	private static void configureLogging(final String[] args) {
+	public static void configureLogging(final String[] args) {
 
 		// 1) Fuente: env var LOG_LEVEL (default INFO)
 		var levelStr = System.getenv().getOrDefault("LOG_LEVEL", "INFO");
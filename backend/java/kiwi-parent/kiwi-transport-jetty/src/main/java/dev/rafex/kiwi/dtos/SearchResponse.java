@@ -16,9 +16,18 @@
 package dev.rafex.kiwi.dtos;
 
 import dev.rafex.kiwi.models.SearchItem;
+import dev.rafex.kiwi.models.SearchTotal;
 
 import java.util.List;
 
-public record SearchResponse(List<SearchItem> items, int limit, int offset) {
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** {@code total} es null salvo que la petición pida {@code count=estimate|exact}. */
+public record SearchResponse(List<SearchItem> items, int limit, int offset,
+		@JsonProperty("next_cursor") String nextCursor, SearchTotal total) {
+
+	public SearchResponse(final List<SearchItem> items, final int limit, final int offset, final String nextCursor) {
+		this(items, limit, offset, nextCursor, null);
+	}
 
 }
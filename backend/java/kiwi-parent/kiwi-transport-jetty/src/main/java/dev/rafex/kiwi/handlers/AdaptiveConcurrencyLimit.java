@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite de concurrencia adaptativo estilo AIMD.
+ *
+ * <p>
+ * Mientras las peticiones terminan por debajo de {@code latencyTargetNanos} y el
+ * límite se está usando, crece en {@code 1/limit} por petición (≈ +1 por cada
+ * "ronda" completa). Cuando una petición tarda más que el objetivo, el límite se
+ * multiplica por {@value #BACKOFF_RATIO}, como mucho una vez por ventana de
+ * {@code latencyTargetNanos} para que una ráfaga de respuestas lentas no lo
+ * desplome hasta el mínimo de golpe.
+ *
+ * <p>
+ * {@link #tryAcquire()} es lock-free; solo el ajuste del límite, al liberar,
+ * toma el monitor.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+	static final double BACKOFF_RATIO = 0.9;
+
+	private final String name;
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyTargetNanos;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+
+	private volatile double limit;
+	private long lastDecreaseNanos;
+
+	public AdaptiveConcurrencyLimit(final String name, final int initialLimit, final int minLimit, final int maxLimit,
+			final long latencyTargetNanos) {
+		if (minLimit < 1 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("invalid limits: min=" + minLimit + " max=" + maxLimit);
+		}
+		this.name = name;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyTargetNanos = latencyTargetNanos;
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+		this.lastDecreaseNanos = System.nanoTime() - latencyTargetNanos;
+	}
+
+	/**
+	 * Reserva un lugar si hay cupo. Si regresa {@code true}, el llamador debe
+	 * invocar {@link #release(long)} exactamente una vez.
+	 */
+	public boolean tryAcquire() {
+		for (;;) {
+			final var current = inFlight.get();
+			if (current >= (int) limit) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	public void release(final long latencyNanos) {
+		final var wasInFlight = inFlight.getAndDecrement();
+		synchronized (this) {
+			final var current = limit;
+			if (latencyNanos > latencyTargetNanos) {
+				final var now = System.nanoTime();
+				if (now - lastDecreaseNanos >= latencyTargetNanos) {
+					lastDecreaseNanos = now;
+					limit = Math.max(minLimit, current * BACKOFF_RATIO);
+				}
+			} else if (wasInFlight * 2 >= current) {
+				// solo crece si el límite actual se está usando
+				limit = Math.min(maxLimit, current + 1.0 / current);
+			}
+		}
+	}
+
+	public String name() {
+		return name;
+	}
+
+	public int limit() {
+		return (int) limit;
+	}
+
+	public int inFlight() {
+		return inFlight.get();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+}
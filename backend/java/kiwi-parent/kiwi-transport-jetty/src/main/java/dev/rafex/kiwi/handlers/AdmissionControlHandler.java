@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import dev.rafex.ether.http.jetty12.JettyApiErrorResponses;
+import dev.rafex.ether.json.JsonUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Control de admisión por clase de ruta (lecturas, escrituras, autenticación).
+ *
+ * <p>
+ * Cuando PostgreSQL se vuelve lento, las peticiones se acumulan esperando una
+ * conexión de Hikari y todas las rutas acaban en timeout a la vez. Aquí cada
+ * clase tiene su propio {@link AdaptiveConcurrencyLimit}: al subir la latencia el
+ * límite baja, y lo que excede se rechaza de inmediato con {@code 503} y
+ * {@code Retry-After} en vez de ocupar un hilo hasta el timeout.
+ *
+ * <p>
+ * La latencia se mide hasta que el handler completa el {@link Callback}, así que
+ * también cubre handlers asíncronos y el modo de hilos virtuales. Rutas fuera de
+ * estas clases ({@code /health}, {@code /hello}, 404) no se limitan.
+ *
+ * <p>
+ * {@code GET /objects/export} tampoco: su latencia es la de toda la descarga y
+ * retiene el turno mientras el cliente lee, así que bajaría el límite de
+ * lecturas sin que la base esté lenta. Ya lo acota
+ * {@code KIWI_EXPORT_MAX_CONCURRENT}.
+ */
+public final class AdmissionControlHandler extends Handler.Wrapper {
+
+	public enum RouteClass {
+		READ, WRITE, AUTH
+	}
+
+	private static final JettyApiErrorResponses ERRORS = new JettyApiErrorResponses(JsonUtils.codec());
+	private static final String RETRY_AFTER_SECONDS = "1";
+	private static final String EXPORT_PATH = "/objects/export";
+
+	private final Map<RouteClass, AdaptiveConcurrencyLimit> limits;
+
+	public AdmissionControlHandler(final Handler delegate, final Map<RouteClass, AdaptiveConcurrencyLimit> limits) {
+		super(delegate);
+		this.limits = new EnumMap<>(limits);
+	}
+
+	/**
+	 * Un límite por clase con los mismos parámetros. {@code ServerConfig} los
+	 * deriva de los hilos HTTP y del pool de la base; el inicial se acota a
+	 * {@code [1, maxLimit]}.
+	 */
+	public static Map<RouteClass, AdaptiveConcurrencyLimit> limits(final int initialLimit, final int maxLimit,
+			final long latencyTargetMs) {
+		final var max = Math.max(1, maxLimit);
+		final var initial = Math.max(1, Math.min(max, initialLimit));
+		final var limits = new EnumMap<RouteClass, AdaptiveConcurrencyLimit>(RouteClass.class);
+		for (final var routeClass : RouteClass.values()) {
+			limits.put(routeClass, new AdaptiveConcurrencyLimit(routeClass.name().toLowerCase(), initial, 1, max,
+					TimeUnit.MILLISECONDS.toNanos(latencyTargetMs)));
+		}
+		return limits;
+	}
+
+	@Override
+	public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
+		final var path = request.getHttpURI().getPath();
+		final var routeClass = classify(request.getMethod(), path);
+		final var limit = routeClass == null ? null : limits.get(routeClass);
+		if (limit == null) {
+			return super.handle(request, response, callback);
+		}
+
+		if (!limit.tryAcquire()) {
+			response.getHeaders().put(HttpHeader.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			ERRORS.error(response, callback, 503, "service_unavailable", "overloaded",
+					"server overloaded, retry later", path);
+			return true;
+		}
+
+		final var start = System.nanoTime();
+		final var released = new AtomicBoolean();
+		final Runnable release = () -> {
+			if (released.compareAndSet(false, true)) {
+				limit.release(System.nanoTime() - start);
+			}
+		};
+
+		final var tracked = new Callback.Nested(callback) {
+			@Override
+			public void succeeded() {
+				release.run();
+				super.succeeded();
+			}
+
+			@Override
+			public void failed(final Throwable x) {
+				release.run();
+				super.failed(x);
+			}
+		};
+
+		try {
+			final var handled = super.handle(request, response, tracked);
+			if (!handled) {
+				release.run();
+			}
+			return handled;
+		} catch (final Throwable t) {
+			release.run();
+			throw t;
+		}
+	}
+
+	static RouteClass classify(final String method, final String path) {
+		if (path == null || EXPORT_PATH.equals(path)) {
+			return null;
+		}
+		if (path.startsWith("/auth/") || path.startsWith("/admin/")) {
+			return RouteClass.AUTH;
+		}
+		if (path.startsWith("/objects") || path.startsWith("/locations")) {
+			return "GET".equals(method) || "HEAD".equals(method) ? RouteClass.READ : RouteClass.WRITE;
+		}
+		return null;
+	}
+
+}
@@ -17,7 +17,8 @@ package dev.rafex.kiwi.handlers;
 
 import dev.rafex.kiwi.logging.Log;
 
-import java.util.regex.Pattern;
+import java.lang.management.ManagementFactory;
+import java.util.List;
 
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Request;
@@ -29,33 +30,45 @@ import org.glowroot.agent.api.Glowroot;
  * Handler que normaliza el nombre de la transacción para Glowroot y añade
  * atributos útiles para su trazabilidad.
  *
- * Mejoras realizadas: - Precompila patrones regex para evitar recompilación por
- * petición. - Extrae y hace package-private {@code normalizePath} para
- * facilitar pruebas unitarias. - Añade atributo con la ruta normalizada para
- * facilitar búsquedas en Glowroot. - Colapsa slashes consecutivos y soporta
- * ObjectId (24 hex) además de UUID y números.
+ * Mejoras realizadas: - La normalización es un recorrido único sin regex
+ * ({@link PathNormalizer}) y reutiliza las plantillas de ruta compartidas con
+ * {@code /metrics}. - Sin agente de Glowroot ({@code -javaagent:...glowroot})
+ * no se calcula nada: solo delega. - Añade atributo con la ruta normalizada
+ * para facilitar búsquedas en Glowroot. - Colapsa slashes consecutivos y
+ * soporta ObjectId (24 hex) además de UUID y números.
  */
 public class GlowrootNamingHandler extends Handler.Wrapper {
 
-	// Precompilación de patrones que se usan por petición.
-	private static final Pattern UUID_PATTERN = Pattern
-			.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
-	private static final Pattern OBJECTID_PATTERN = Pattern.compile("/[0-9a-fA-F]{24}(?=/|$)");
-	private static final Pattern NUMBER_PATTERN = Pattern.compile("/\\d{2,}(?=/|$)");
-	private static final Pattern MULTIPLE_SLASHES_PATTERN = Pattern.compile("/{2,}");
+	private static final boolean AGENT_PRESENT = detectAgent();
+
+	private final PathNormalizer normalizer;
 
 	public GlowrootNamingHandler(final Handler delegate) {
+		this(delegate, PathNormalizer.forRoutes(List.of()));
+	}
+
+	public GlowrootNamingHandler(final Handler delegate, final PathNormalizer normalizer) {
 		super(delegate);
+		this.normalizer = normalizer;
+	}
+
+	/** Si la JVM arrancó con el agente de Glowroot. */
+	public static boolean agentPresent() {
+		return AGENT_PRESENT;
 	}
 
 	@Override
 	public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
 
+		if (!AGENT_PRESENT) {
+			return super.handle(request, response, callback);
+		}
+
 		final var method = request.getMethod();
 		final var path = request.getHttpURI() != null ? request.getHttpURI().getPath() : null;
 
 		// Normalizamos la ruta lo antes posible y la usamos para nombrar la transacción
-		final var normalized = normalizePath(path);
+		final var normalized = normalizer.normalizeCached(path);
 
 		glowroot(method, path, normalized);
 
@@ -107,17 +120,21 @@ public class GlowrootNamingHandler extends Handler.Wrapper {
 	 *
 	 * Se deja package-private para facilitar pruebas unitarias.
 	 */
-	static String normalizePath(String path) {
-		if (path == null || path.isEmpty()) {
-			return "unknown";
-		}
-
-		// Colapsar slashes repetidos (e.g. //foo///bar -> /foo/bar)
-		path = MULTIPLE_SLASHES_PATTERN.matcher(path).replaceAll("/");
+	static String normalizePath(final String path) {
+		return PathNormalizer.normalize(path);
+	}
 
-		// Reemplazos por patrones precompilados
-		path = UUID_PATTERN.matcher(path).replaceAll("/:id");
-		path = OBJECTID_PATTERN.matcher(path).replaceAll("/:id");
-		return NUMBER_PATTERN.matcher(path).replaceAll("/:n");
+	private static boolean detectAgent() {
+		try {
+			for (final var arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+				if (arg.startsWith("-javaagent:") && arg.contains("glowroot")) {
+					return true;
+				}
+			}
+		} catch (final RuntimeException e) {
+			Log.warn(GlowrootNamingHandler.class, e, "Could not inspect JVM arguments, assuming Glowroot agent");
+			return true;
+		}
+		return false;
 	}
-}
\ No newline at end of file
+}
@@ -25,9 +25,11 @@ import dev.rafex.ether.json.JsonCodec;
 import dev.rafex.ether.json.JsonUtils;
 import dev.rafex.kiwi.http.KiwiErrorHttpMapper;
 import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.models.LocationNode;
 import dev.rafex.kiwi.services.LocationService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -36,6 +38,13 @@ public class LocationHandler extends NonBlockingResourceHandler {
 	private static final JsonCodec JSON_CODEC = JsonUtils.codec();
 	private static final JettyApiErrorResponses ERRORS = new JettyApiErrorResponses(JSON_CODEC);
 
+	/**
+	 * {@link #routes()} con {@link #basePath()}; son las etiquetas de ruta de
+	 * {@code /metrics}. Debe cambiar junto con {@link #routes()}.
+	 */
+	public static final List<String> ROUTE_TEMPLATES = List.of("/locations/{id}/subtree", "/locations/{id}/path",
+			"/locations/{id}/children", "/locations");
+
 	private final LocationService service;
 
 	public LocationHandler(final LocationService services) {
@@ -50,7 +59,11 @@ public class LocationHandler extends NonBlockingResourceHandler {
 
 	@Override
 	protected List<Route> routes() {
-		return List.of(Route.of("/", Set.of("POST")));
+		return List.of(
+				Route.of("/{id}/subtree", Set.of("GET")),
+				Route.of("/{id}/path", Set.of("GET")),
+				Route.of("/{id}/children", Set.of("GET")),
+				Route.of("/", Set.of("POST")));
 	}
 
 	@Override
@@ -59,9 +72,65 @@ public class LocationHandler extends NonBlockingResourceHandler {
 		return create(asJetty(x));
 	}
 
+	@Override
+	public boolean get(final dev.rafex.ether.http.core.HttpExchange x) {
+		final var jx = asJetty(x);
+		final var id = jx.pathParam("id");
+		if (id == null) {
+			ERRORS.notFound(jx.response(), jx.callback());
+			return true;
+		}
+		final var path = jx.path();
+		if (path.endsWith("/subtree")) {
+			return tree(jx, id, locationId -> nullIfEmpty(service.subtree(locationId)));
+		}
+		if (path.endsWith("/path")) {
+			return tree(jx, id, locationId -> nullIfEmpty(service.path(locationId)));
+		}
+		if (path.endsWith("/children")) {
+			return tree(jx, id, locationId -> service.children(locationId).orElse(null));
+		}
+		ERRORS.notFound(jx.response(), jx.callback());
+		return true;
+	}
+
 	@Override
 	public Set<String> supportedMethods() {
-		return Set.of("POST");
+		return Set.of("GET", "POST");
+	}
+
+	/** Responde {@code {"location_id", "items"}}; 404 si {@code read} regresa null. */
+	private boolean tree(final JettyHttpExchange x, final String rawId, final TreeRead read) {
+		final UUID locationId;
+		try {
+			locationId = UUID.fromString(rawId);
+		} catch (final IllegalArgumentException e) {
+			ERRORS.badRequest(x.response(), x.callback(), "invalid UUID in path");
+			return true;
+		}
+		try {
+			final var nodes = read.apply(locationId);
+			if (nodes == null) {
+				ERRORS.notFound(x.response(), x.callback());
+				return true;
+			}
+			x.json(200, Map.of("location_id", locationId, "items", nodes));
+			return true;
+		} catch (final Exception e) {
+			Log.error(getClass(), "Error reading location tree", e);
+			ERRORS.internalServerError(x.response(), x.callback(), "internal_error");
+			return true;
+		}
+	}
+
+	// subárbol y ruta siempre incluyen la ubicación; vacío significa que no existe
+	private static List<LocationNode> nullIfEmpty(final List<LocationNode> nodes) {
+		return nodes.isEmpty() ? null : nodes;
+	}
+
+	@FunctionalInterface
+	private interface TreeRead {
+		List<LocationNode> apply(UUID locationId) throws Exception;
 	}
 
 	private boolean create(final JettyHttpExchange x) {
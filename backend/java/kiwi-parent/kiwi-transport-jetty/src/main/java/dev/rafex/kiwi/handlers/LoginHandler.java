@@ -22,6 +22,7 @@ import dev.rafex.ether.http.jetty12.JettyHttpExchange;
 import dev.rafex.ether.http.jetty12.NonBlockingResourceHandler;
 import dev.rafex.ether.json.JsonCodec;
 import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.logging.Log;
 import dev.rafex.kiwi.security.KiwiJwtService;
 import dev.rafex.kiwi.services.AuthService;
 
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.io.Content;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -122,22 +124,45 @@ public final class LoginHandler extends NonBlockingResourceHandler {
 	private boolean authenticateAndMint(final JettyHttpExchange x, final String username,
 			final String password) throws Exception {
 
-		// Nota: pasamos char[] para poder limpiarlo dentro de AuthServiceImpl
-		final var result = authService.authenticate(username, password.toCharArray());
+		// Nota: pasamos char[] para poder limpiarlo dentro de AuthServiceImpl.
+		// La respuesta se completa desde el pool de PBKDF2; este hilo no espera.
+		authService.authenticateAsync(username, password.toCharArray()).whenComplete((result, e) -> {
+			try {
+				if (e != null) {
+					throw e;
+				}
+				respond(x, result);
+			} catch (final Throwable t) {
+				Log.error(LoginHandler.class, "Unhandled error completing login", t);
+				if (x.response().isCommitted()) {
+					x.callback().failed(t);
+				} else {
+					ERRORS.internalServerError(x.response(), x.callback(), "internal_error");
+				}
+			}
+		});
+		return true;
+	}
 
+	private void respond(final JettyHttpExchange x, final AuthService.AuthResult result) throws Exception {
 		if (!result.ok()) {
 			// Mantén esto simple (evita user enumeration). "user_disabled" sí es útil
 			// diferenciar.
 			final var code = result.code() != null ? result.code() : "bad_credentials";
 
-			if ("user_disabled".equals(code)) {
+			if ("busy".equals(code)) {
+				// cola de PBKDF2 llena: mismo contrato que el control de admisión
+				x.response().getHeaders().put(HttpHeader.RETRY_AFTER, "1");
+				ERRORS.error(x.response(), x.callback(), 503, "service_unavailable", "busy",
+						"authentication busy, retry later", x.request().getHttpURI().getPath());
+			} else if ("user_disabled".equals(code)) {
 				ERRORS.forbidden(x.response(), x.callback(), "user_disabled");
 			} else if ("bad_credentials".equals(code)) {
 				ERRORS.unauthorized(x.response(), x.callback(), "bad_credentials");
 			} else {
 				ERRORS.unauthorized(x.response(), x.callback(), code);
 			}
-			return true;
+			return;
 		}
 
 		// Recomendación: sub = userId (estable)
@@ -154,7 +179,6 @@ public final class LoginHandler extends NonBlockingResourceHandler {
 		// si quieres devolver roles al cliente:
 		// "roles", result.roles()
 		));
-		return true;
 	}
 
 	private static String text(final JsonNode node, final String field) {
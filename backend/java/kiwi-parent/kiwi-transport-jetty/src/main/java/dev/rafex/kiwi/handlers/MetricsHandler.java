@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import dev.rafex.ether.http.core.Route;
+import dev.rafex.ether.http.jetty12.JettyHttpExchange;
+import dev.rafex.ether.http.jetty12.NonBlockingResourceHandler;
+import dev.rafex.ether.json.JsonCodec;
+import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.bootstrap.KiwiContainer;
+import dev.rafex.kiwi.metrics.HttpMetrics;
+import dev.rafex.kiwi.metrics.JvmMetrics;
+import dev.rafex.kiwi.metrics.PoolMetrics;
+import dev.rafex.kiwi.metrics.PrometheusWriter;
+import dev.rafex.kiwi.security.VerifiedTokenCache;
+import dev.rafex.kiwi.services.impl.CachingObjectService;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jetty.http.HttpHeader;
+
+/**
+ * {@code GET /metrics} en formato de texto de Prometheus: latencias y códigos
+ * por ruta, pool de conexiones, control de admisión, caches de objetos, de
+ * plantillas SQL y de tokens, hashing de contraseñas y JVM.
+ */
+public class MetricsHandler extends NonBlockingResourceHandler {
+
+	private static final JsonCodec JSON_CODEC = JsonUtils.codec();
+
+	private final HttpMetrics httpMetrics;
+	private final KiwiContainer container;
+	private final Collection<AdaptiveConcurrencyLimit> admissionLimits;
+	private final VerifiedTokenCache tokenCache;
+
+	public MetricsHandler(final HttpMetrics httpMetrics, final KiwiContainer container,
+			final Collection<AdaptiveConcurrencyLimit> admissionLimits, final VerifiedTokenCache tokenCache) {
+		super(JSON_CODEC);
+		this.httpMetrics = httpMetrics;
+		this.container = container;
+		this.admissionLimits = List.copyOf(admissionLimits);
+		this.tokenCache = tokenCache;
+	}
+
+	@Override
+	protected String basePath() {
+		return "/metrics";
+	}
+
+	@Override
+	protected List<Route> routes() {
+		return List.of(Route.of("/", Set.of("GET")));
+	}
+
+	@Override
+	public boolean get(final dev.rafex.ether.http.core.HttpExchange x) {
+		final var jx = (JettyHttpExchange) x;
+		final var w = new PrometheusWriter();
+
+		httpMetrics.writeTo(w);
+		PoolMetrics.writeTo(w, container.dataSource());
+		writeAdmission(w);
+		writeObjectCache(w);
+		writeSqlTemplateCache(w);
+		writeTokenCache(w);
+		writePasswordHashing(w);
+		JvmMetrics.writeTo(w);
+
+		final var response = jx.response();
+		response.setStatus(200);
+		response.getHeaders().put(HttpHeader.CONTENT_TYPE, PrometheusWriter.CONTENT_TYPE);
+		response.write(true, ByteBuffer.wrap(w.toString().getBytes(StandardCharsets.UTF_8)), jx.callback());
+		return true;
+	}
+
+	@Override
+	public Set<String> supportedMethods() {
+		return Set.of("GET");
+	}
+
+	private void writeAdmission(final PrometheusWriter w) {
+		if (admissionLimits.isEmpty()) {
+			return;
+		}
+		w.header("kiwi_admission_limit", "gauge", "Current adaptive concurrency limit by route class");
+		for (final var limit : admissionLimits) {
+			w.sample("kiwi_admission_limit", limit.limit(), "class", limit.name());
+		}
+		w.header("kiwi_admission_in_flight", "gauge", "Admitted requests in flight by route class");
+		for (final var limit : admissionLimits) {
+			w.sample("kiwi_admission_in_flight", limit.inFlight(), "class", limit.name());
+		}
+		w.header("kiwi_admission_rejected_total", "counter", "Requests shed with 503 by route class");
+		for (final var limit : admissionLimits) {
+			w.sample("kiwi_admission_rejected_total", limit.rejected(), "class", limit.name());
+		}
+	}
+
+	private void writeObjectCache(final PrometheusWriter w) {
+		if (!(container.objectService() instanceof final CachingObjectService cache)) {
+			return;
+		}
+		w.header("kiwi_object_cache_requests_total", "counter", "Object cache lookups by result");
+		w.sample("kiwi_object_cache_requests_total", cache.hits(), "result", "hit");
+		w.sample("kiwi_object_cache_requests_total", cache.misses(), "result", "miss");
+		w.header("kiwi_object_cache_entries", "gauge", "Entries in the object cache");
+		w.sample("kiwi_object_cache_entries", cache.size());
+		w.header("kiwi_object_cache_weight_bytes", "gauge", "Estimated size of the object cache");
+		w.sample("kiwi_object_cache_weight_bytes", cache.weightBytes());
+	}
+
+	private void writeSqlTemplateCache(final PrometheusWriter w) {
+		final var repo = container.objectRepository();
+		w.header("kiwi_sql_template_cache_requests_total", "counter", "Search SQL template cache lookups by result");
+		w.sample("kiwi_sql_template_cache_requests_total", repo.sqlTemplateCacheHits(), "result", "hit");
+		w.sample("kiwi_sql_template_cache_requests_total", repo.sqlTemplateCacheMisses(), "result", "miss");
+	}
+
+	private void writeTokenCache(final PrometheusWriter w) {
+		if (tokenCache == null || tokenCache.maxEntries() == 0) {
+			return;
+		}
+		w.header("kiwi_jwt_cache_requests_total", "counter", "Verified-token cache lookups by result");
+		w.sample("kiwi_jwt_cache_requests_total", tokenCache.hits(), "result", "hit");
+		w.sample("kiwi_jwt_cache_requests_total", tokenCache.misses(), "result", "miss");
+		w.header("kiwi_jwt_cache_entries", "gauge", "Entries in the verified-token cache");
+		w.sample("kiwi_jwt_cache_entries", tokenCache.size());
+	}
+
+	private void writePasswordHashing(final PrometheusWriter w) {
+		final var hasher = container.passwordHasher();
+		w.header("kiwi_password_hash_duration_seconds", "summary", "PBKDF2 derivation time, excluding queue wait");
+		w.sample("kiwi_password_hash_duration_seconds_sum", hasher.nanosTotal() / 1e9);
+		w.sample("kiwi_password_hash_duration_seconds_count", hasher.completed());
+		w.header("kiwi_password_hash_queue_depth", "gauge", "PBKDF2 derivations waiting for a worker");
+		w.sample("kiwi_password_hash_queue_depth", hasher.queueDepth());
+		w.header("kiwi_password_hash_active", "gauge", "PBKDF2 derivations running");
+		w.sample("kiwi_password_hash_active", hasher.active());
+		w.header("kiwi_password_hash_rejected_total", "counter", "PBKDF2 derivations rejected with a full queue");
+		w.sample("kiwi_password_hash_rejected_total", hasher.rejected());
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import dev.rafex.ether.http.core.Route;
+import dev.rafex.ether.http.jetty12.JettyApiErrorResponses;
+import dev.rafex.ether.http.jetty12.JettyHttpExchange;
+import dev.rafex.ether.http.jetty12.NonBlockingResourceHandler;
+import dev.rafex.ether.json.JsonCodec;
+import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.dtos.CreateObjectRequest;
+import dev.rafex.kiwi.dtos.CreateObjectsBatchRequest;
+import dev.rafex.kiwi.dtos.CreateObjectsBatchResponse;
+import dev.rafex.kiwi.errors.KiwiError;
+import dev.rafex.kiwi.http.KiwiErrorHttpMapper;
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.models.NewObject;
+import dev.rafex.kiwi.services.ObjectService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Alta de objetos por lote: {@code POST /objects:batch}. Los elementos inválidos
+ * se reportan sin ir a la base de datos; los válidos se crean con una sola
+ * llamada a {@link ObjectService#createBatch}.
+ */
+public final class ObjectBatchHandler extends NonBlockingResourceHandler {
+
+	private static final JsonCodec JSON_CODEC = JsonUtils.codec();
+	private static final JettyApiErrorResponses ERRORS = new JettyApiErrorResponses(JSON_CODEC);
+
+	private static final int MAX_ITEMS = 1000;
+
+	private final ObjectService service;
+
+	public ObjectBatchHandler(final ObjectService service) {
+		super(JSON_CODEC);
+		this.service = Objects.requireNonNull(service);
+	}
+
+	@Override
+	protected String basePath() {
+		return "/objects:batch";
+	}
+
+	@Override
+	protected List<Route> routes() {
+		return List.of(Route.of("/", Set.of("POST")));
+	}
+
+	@Override
+	public Set<String> supportedMethods() {
+		return Set.of("POST");
+	}
+
+	@Override
+	public boolean post(final dev.rafex.ether.http.core.HttpExchange x) {
+		final var jx = asJetty(x);
+
+		final CreateObjectsBatchRequest r;
+		try {
+			r = JSON_CODEC.readValue(org.eclipse.jetty.server.Request.asInputStream(jx.request()),
+					CreateObjectsBatchRequest.class);
+		} catch (final RuntimeException e) {
+			ERRORS.badRequest(jx.response(), jx.callback(), "invalid request body");
+			return true;
+		}
+
+		if (r == null || r.items() == null || r.items().isEmpty()) {
+			ERRORS.badRequest(jx.response(), jx.callback(), "items is required");
+			return true;
+		}
+		if (r.items().size() > MAX_ITEMS) {
+			ERRORS.badRequest(jx.response(), jx.callback(), "too many items (max " + MAX_ITEMS + ")");
+			return true;
+		}
+
+		final var total = r.items().size();
+		final var results = new CreateObjectsBatchResponse.Item[total];
+		final var valid = new ArrayList<NewObject>(total);
+		final var validIndexes = new ArrayList<Integer>(total);
+		for (int i = 0; i < total; i++) {
+			final var error = validate(r.items().get(i));
+			if (error != null) {
+				results[i] = new CreateObjectsBatchResponse.Item(i, null, error);
+				continue;
+			}
+			valid.add(toNewObject(r.items().get(i)));
+			validIndexes.add(i);
+		}
+
+		try {
+			if (!valid.isEmpty()) {
+				final var created = service.createBatch(valid);
+				for (int k = 0; k < created.size(); k++) {
+					final var index = validIndexes.get(k);
+					final var c = created.get(k);
+					results[index] = new CreateObjectsBatchResponse.Item(index, c.created() ? c.objectId() : null,
+							c.error());
+				}
+			}
+		} catch (final KiwiError e) {
+			Log.error(getClass(), "KiwiError creating object batch", e);
+			final var mapped = KiwiErrorHttpMapper.map(e, "object.batch");
+			ERRORS.error(jx.response(), jx.callback(), mapped.status(), mapped.error(), mapped.code(),
+					mapped.message(), jx.path());
+			return true;
+		} catch (final Exception e) {
+			Log.error(getClass(), "Error creating object batch", e);
+			ERRORS.internalServerError(jx.response(), jx.callback(), "internal_error");
+			return true;
+		}
+
+		var failed = 0;
+		for (final var item : results) {
+			if (item.error() != null) {
+				failed++;
+			}
+		}
+		jx.json(200, new CreateObjectsBatchResponse(List.of(results), total - failed, failed));
+		return true;
+	}
+
+	/** Mismas reglas que {@code POST /objects}; regresa null si el elemento es válido. */
+	private static String validate(final CreateObjectRequest item) {
+		if (item == null) {
+			return "item is required";
+		}
+		if (item.name() == null || item.name().isBlank()) {
+			return "name is required";
+		}
+		if (item.locationId() == null || item.locationId().isBlank()) {
+			return "locationId is required";
+		}
+		try {
+			UUID.fromString(item.locationId());
+		} catch (final IllegalArgumentException e) {
+			return "invalid UUID";
+		}
+		return null;
+	}
+
+	private static NewObject toNewObject(final CreateObjectRequest item) {
+		final var tags = item.tags() == null ? null : item.tags().toArray(new String[0]);
+		final var metadataJson = item.metadata() == null ? null : JSON_CODEC.toJson(item.metadata());
+		return new NewObject(UUID.randomUUID(), item.name(), item.description(), item.type(), tags, metadataJson,
+				UUID.fromString(item.locationId()));
+	}
+
+	private static JettyHttpExchange asJetty(final dev.rafex.ether.http.core.HttpExchange x) {
+		return (JettyHttpExchange) x;
+	}
+
+}
@@ -31,21 +31,38 @@ import dev.rafex.ether.json.JsonCodec;
 import dev.rafex.ether.json.JsonUtils;
 import dev.rafex.kiwi.http.KiwiErrorHttpMapper;
 import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.query.CountMode;
+import dev.rafex.kiwi.query.QuerySpec;
 import dev.rafex.kiwi.query.QuerySpecBuilder;
 import dev.rafex.kiwi.services.ObjectService;
 
+import java.io.BufferedOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.io.Content;
+
 public class ObjectHandler extends NonBlockingResourceHandler {
 
 	private static final JsonCodec JSON_CODEC = JsonUtils.codec();
 	private static final JettyApiResponses RESPONSES = new JettyApiResponses(JSON_CODEC);
 	private static final JettyApiErrorResponses ERRORS = new JettyApiErrorResponses(JSON_CODEC);
 
+	private static final int EXPORT_BUFFER_SIZE = 16 * 1024;
+
+	/**
+	 * {@link #routes()} con {@link #basePath()}; son las etiquetas de ruta de
+	 * {@code /metrics}. Debe cambiar junto con {@link #routes()}.
+	 */
+	public static final List<String> ROUTE_TEMPLATES = List.of("/objects/search", "/objects/export",
+			"/objects/facets", "/objects/fuzzy", "/objects/{id}/move", "/objects/{id}/tags", "/objects/{id}/text",
+			"/objects/{id}", "/objects");
+
 	private final ObjectService service;
 	private final QuerySpecBuilder querySpecBuilder;
 
@@ -64,6 +81,8 @@ public class ObjectHandler extends NonBlockingResourceHandler {
 	protected List<Route> routes() {
 		return List.of(
 				Route.of("/search", Set.of("GET")),
+				Route.of("/export", Set.of("GET")),
+				Route.of("/facets", Set.of("GET")),
 				Route.of("/fuzzy", Set.of("GET")),
 				Route.of("/{id}/move", Set.of("PATCH")),
 				Route.of("/{id}/tags", Set.of("PATCH")),
@@ -85,6 +104,12 @@ public class ObjectHandler extends NonBlockingResourceHandler {
 		if (path.endsWith("/search")) {
 			return search(jx);
 		}
+		if (path.endsWith("/export")) {
+			return export(jx);
+		}
+		if (path.endsWith("/facets")) {
+			return facets(jx);
+		}
 		if (path.endsWith("/fuzzy")) {
 			return fuzzySearch(jx);
 		}
@@ -162,15 +187,19 @@ public class ObjectHandler extends NonBlockingResourceHandler {
 		try {
 			final var spec = querySpecBuilder.fromRawParams(
 					queryParam(x, "q"),
+					queryParam(x, "text"),
 					queryParam(x, "tags"),
 					queryParam(x, "locationId"),
 					queryParam(x, "enabled"),
 					queryParam(x, "sort"),
 					queryParam(x, "limit"),
-					queryParam(x, "offset"));
+					queryParam(x, "offset"),
+					queryParam(x, "cursor"));
+			final var countMode = CountMode.fromParam(queryParam(x, "count"));
 
-			final var search = service.search(spec);
-			x.json(200, new SearchResponse(search, spec.limit(), spec.offset()));
+			final var page = service.search(spec);
+			final var total = service.count(spec, countMode);
+			x.json(200, new SearchResponse(page.items(), spec.limit(), spec.offset(), page.nextCursor(), total));
 			return true;
 		} catch (final IllegalArgumentException e) {
 			ERRORS.badRequest(x.response(), x.callback(), e.getMessage());
@@ -182,6 +211,107 @@ public class ObjectHandler extends NonBlockingResourceHandler {
 		}
 	}
 
+	/**
+	 * Conteos por faceta con los mismos filtros que {@code /search}; {@code limit}
+	 * es el tope de valores por faceta.
+	 */
+	private boolean facets(final JettyHttpExchange x) {
+		try {
+			final var spec = querySpecBuilder.fromRawParams(
+					queryParam(x, "q"),
+					queryParam(x, "text"),
+					queryParam(x, "tags"),
+					queryParam(x, "locationId"),
+					queryParam(x, "enabled"),
+					null,
+					queryParam(x, "limit"),
+					null,
+					null);
+
+			x.json(200, service.facets(spec, spec.limit()));
+			return true;
+		} catch (final IllegalArgumentException e) {
+			ERRORS.badRequest(x.response(), x.callback(), e.getMessage());
+			return true;
+		} catch (final KiwiError e) {
+			final var mapped = KiwiErrorHttpMapper.map(e, "object.facets");
+			ERRORS.error(x.response(), x.callback(), mapped.status(), mapped.error(), mapped.code(), mapped.message(),
+					x.path());
+			return true;
+		} catch (final Exception e) {
+			Log.error(getClass(), "Error counting facets", e);
+			ERRORS.internalServerError(x.response(), x.callback(), "internal_error");
+			return true;
+		}
+	}
+
+	/**
+	 * Exporta todos los resultados de la búsqueda como NDJSON (un SearchItem por
+	 * línea). Las escrituras son bloqueantes: si el cliente lee lento, se deja de
+	 * avanzar el cursor de la base de datos en lugar de acumular filas en memoria.
+	 */
+	private boolean export(final JettyHttpExchange x) {
+		final QuerySpec spec;
+		try {
+			spec = querySpecBuilder.fromRawParams(
+					queryParam(x, "q"),
+					queryParam(x, "text"),
+					queryParam(x, "tags"),
+					queryParam(x, "locationId"),
+					queryParam(x, "enabled"),
+					queryParam(x, "sort"),
+					null,
+					null,
+					queryParam(x, "cursor"));
+		} catch (final IllegalArgumentException e) {
+			ERRORS.badRequest(x.response(), x.callback(), e.getMessage());
+			return true;
+		}
+
+		final var response = x.response();
+		response.setStatus(200);
+		response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/x-ndjson");
+		// sin try-with-resources: cerrar el stream termina la respuesta y en caso de error
+		// todavía puede hacer falta responder con un JSON de error
+		final var out = new BufferedOutputStream(Content.Sink.asOutputStream(response), EXPORT_BUFFER_SIZE);
+		try {
+			service.export(spec, item -> {
+				out.write(JSON_CODEC.toJson(item).getBytes(StandardCharsets.UTF_8));
+				out.write('\n');
+			});
+			out.close();
+			x.callback().succeeded();
+			return true;
+		} catch (final KiwiError e) {
+			if (response.isCommitted()) {
+				x.callback().failed(e);
+				return true;
+			}
+			final var mapped = KiwiErrorHttpMapper.map(e, "object.export");
+			if (mapped.status() == 503) {
+				response.getHeaders().put(HttpHeader.RETRY_AFTER, "1");
+			}
+			ERRORS.error(x.response(), x.callback(), mapped.status(), mapped.error(), mapped.code(), mapped.message(), x.path());
+			return true;
+		} catch (final IllegalArgumentException e) {
+			if (response.isCommitted()) {
+				x.callback().failed(e);
+				return true;
+			}
+			ERRORS.badRequest(x.response(), x.callback(), e.getMessage());
+			return true;
+		} catch (final Exception e) {
+			// IOException típicamente: el cliente cerró la conexión a mitad del export
+			Log.error(getClass(), "Error exporting objects", e);
+			if (response.isCommitted()) {
+				x.callback().failed(e);
+				return true;
+			}
+			ERRORS.internalServerError(x.response(), x.callback(), "internal_error");
+			return true;
+		}
+	}
+
 	private boolean moveLocation(final JettyHttpExchange x, final UUID objectId) {
 		try {
 			Log.info(getClass(), "Handling object move request");
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Normaliza rutas HTTP para agruparlas en Glowroot y en {@code /metrics}:
+ * segmentos UUID y ObjectId (24 hex) pasan a {@code :id}, números de dos o más
+ * dígitos a {@code :n} y las barras repetidas se colapsan.
+ *
+ * <p>
+ * Es un recorrido único sobre la ruta, sin expresiones regulares. Si no hay nada
+ * que reemplazar regresa la misma cadena. Si lo hay, la instancia busca la
+ * plantilla en una tabla de plantillas ya vistas, comparando contra la ruta sin
+ * construir la cadena resultante, así que en estado estable tampoco reserva
+ * memoria. Solo se guardan plantillas bajo los prefijos registrados en el
+ * {@code RouteRegistry}, hasta {@value #MAX_TEMPLATES}, para que peticiones a
+ * rutas inexistentes no llenen la tabla.
+ *
+ * <p>
+ * {@link #route(String)} es la variante para etiquetas de métricas: la
+ * etiqueta es una ruta exacta registrada o una de las plantillas declaradas por
+ * los handlers ({@code /objects/{id}/move} se etiqueta
+ * {@code /objects/:id/move}); todo lo demás, incluso bajo {@code /objects/*},
+ * se agrupa en {@value #UNMATCHED}. Así las series de {@code /metrics} quedan
+ * acotadas por las rutas declaradas y un escaneo no las agota.
+ */
+public final class PathNormalizer {
+
+	static final String UNKNOWN = "unknown";
+	static final String UNMATCHED = "unmatched";
+	private static final String ID = ":id";
+	private static final String NUMBER = ":n";
+
+	private static final int MAX_TEMPLATES = 512;
+	// potencia de dos, al menos el doble de MAX_TEMPLATES para sondeos cortos
+	private static final int TABLE_SIZE = 1024;
+	private static final long CHANGED = 1L << 32;
+
+	private final List<String> exact;
+	private final List<String> prefixes;
+	private final List<RouteTemplate> routeTemplates;
+	private final AtomicReferenceArray<String> templates = new AtomicReferenceArray<>(TABLE_SIZE);
+	private int size;
+
+	/** Plantilla declarada: un segmento null es un parámetro ({@code {id}}). */
+	private record RouteTemplate(String[] segments, String label) {
+	}
+
+	private PathNormalizer(final List<String> exact, final List<String> prefixes,
+			final List<RouteTemplate> routeTemplates) {
+		this.exact = exact;
+		this.prefixes = prefixes;
+		this.routeTemplates = routeTemplates;
+	}
+
+	/**
+	 * A partir de los {@code pathSpec} del {@code RouteRegistry}
+	 * ({@code /objects/*}, {@code /auth/login}, ...). Los que terminan en
+	 * {@code /*} son prefijos y los demás rutas exactas; el comodín {@code /*}
+	 * no cuenta.
+	 */
+	public static PathNormalizer forRoutes(final Collection<String> pathSpecs) {
+		return forRoutes(pathSpecs, List.of());
+	}
+
+	/**
+	 * Además de los {@code pathSpec}, las plantillas completas de las rutas que
+	 * los handlers declaran bajo un prefijo ({@code /objects/{id}/move}); son las
+	 * únicas etiquetas de {@link #route(String)} bajo esos prefijos.
+	 */
+	public static PathNormalizer forRoutes(final Collection<String> pathSpecs,
+			final Collection<String> templates) {
+		final var exact = new ArrayList<String>();
+		final var prefixes = new ArrayList<String>();
+		for (final var spec : pathSpecs) {
+			final var isPrefix = spec.endsWith("/*");
+			final var path = isPrefix ? spec.substring(0, spec.length() - 2) : spec;
+			if (path.isEmpty() || path.contains("*")) {
+				continue;
+			}
+			(isPrefix ? prefixes : exact).add(path);
+		}
+		final var compiled = new ArrayList<RouteTemplate>(templates.size());
+		for (final var template : templates) {
+			compiled.add(compile(template));
+		}
+		// los literales ganan a los parámetros: /objects/search antes que /objects/{id}
+		compiled.sort(Comparator.comparingInt(PathNormalizer::parameters));
+		return new PathNormalizer(List.copyOf(exact), List.copyOf(prefixes), List.copyOf(compiled));
+	}
+
+	/**
+	 * Etiqueta de ruta para métricas: la ruta si es un {@code pathSpec} exacto, la
+	 * primera plantilla declarada que coincide o {@value #UNMATCHED}. Las barras
+	 * repetidas o finales no cuentan.
+	 */
+	public String route(final String path) {
+		if (path == null || path.isEmpty()) {
+			return UNKNOWN;
+		}
+		if (exact.contains(path)) {
+			return path;
+		}
+		for (final var template : routeTemplates) {
+			if (matches(path, template.segments())) {
+				return template.label();
+			}
+		}
+		return UNMATCHED;
+	}
+
+	/** Igual que {@link #normalize(String)} pero reutilizando plantillas. */
+	public String normalizeCached(final String path) {
+		if (path == null || path.isEmpty()) {
+			return UNKNOWN;
+		}
+		final var scanned = scan(path, null);
+		if ((scanned & CHANGED) == 0) {
+			return path;
+		}
+		final var hash = (int) scanned;
+		final var mask = TABLE_SIZE - 1;
+		for (var i = hash & mask;; i = (i + 1) & mask) {
+			final var candidate = templates.get(i);
+			if (candidate == null) {
+				break;
+			}
+			if (candidate.hashCode() == hash && matches(path, candidate)) {
+				return candidate;
+			}
+		}
+
+		final var out = new StringBuilder(path.length());
+		scan(path, out);
+		final var normalized = out.toString();
+		if (isRegistered(normalized)) {
+			remember(normalized);
+		}
+		return normalized;
+	}
+
+	/** Normaliza sin tabla de plantillas. */
+	public static String normalize(final String path) {
+		if (path == null || path.isEmpty()) {
+			return UNKNOWN;
+		}
+		if ((scan(path, null) & CHANGED) == 0) {
+			return path;
+		}
+		final var out = new StringBuilder(path.length());
+		scan(path, out);
+		return out.toString();
+	}
+
+	/**
+	 * Recorre la ruta una vez. Regresa el {@code hashCode()} que tendría la ruta
+	 * normalizada en los 32 bits bajos y {@link #CHANGED} si difiere de la
+	 * original. Si {@code out} no es null, además escribe ahí el resultado.
+	 */
+	private static long scan(final String path, final StringBuilder out) {
+		final var n = path.length();
+		var hash = 0;
+		var changed = false;
+		var i = 0;
+		while (i < n) {
+			final var c = path.charAt(i);
+			if (c != '/') {
+				// texto antes de la primera barra (ruta relativa): se copia tal cual
+				hash = 31 * hash + c;
+				if (out != null) {
+					out.append(c);
+				}
+				i++;
+				continue;
+			}
+			var start = i + 1;
+			while (start < n && path.charAt(start) == '/') {
+				start++;
+			}
+			changed |= start - i > 1;
+			hash = 31 * hash + '/';
+			if (out != null) {
+				out.append('/');
+			}
+			var end = start;
+			while (end < n && path.charAt(end) != '/') {
+				end++;
+			}
+			final var token = token(path, start, end);
+			if (token == null) {
+				for (var k = start; k < end; k++) {
+					hash = 31 * hash + path.charAt(k);
+				}
+				if (out != null) {
+					out.append(path, start, end);
+				}
+			} else {
+				changed = true;
+				for (var k = 0; k < token.length(); k++) {
+					hash = 31 * hash + token.charAt(k);
+				}
+				if (out != null) {
+					out.append(token);
+				}
+			}
+			i = end;
+		}
+		return (hash & 0xFFFFFFFFL) | (changed ? CHANGED : 0);
+	}
+
+	/** Mismo recorrido que {@link #scan}, comparando contra {@code expected}. */
+	private static boolean matches(final String path, final String expected) {
+		final var n = path.length();
+		final var m = expected.length();
+		var p = 0;
+		var i = 0;
+		while (i < n) {
+			final var c = path.charAt(i);
+			if (c != '/') {
+				if (p >= m || expected.charAt(p++) != c) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+			var start = i + 1;
+			while (start < n && path.charAt(start) == '/') {
+				start++;
+			}
+			if (p >= m || expected.charAt(p++) != '/') {
+				return false;
+			}
+			var end = start;
+			while (end < n && path.charAt(end) != '/') {
+				end++;
+			}
+			final var token = token(path, start, end);
+			if (token == null) {
+				if (!expected.regionMatches(p, path, start, end - start)) {
+					return false;
+				}
+				p += end - start;
+			} else {
+				if (!expected.startsWith(token, p)) {
+					return false;
+				}
+				p += token.length();
+			}
+			i = end;
+		}
+		return p == m;
+	}
+
+	private static RouteTemplate compile(final String template) {
+		final var segments = new ArrayList<String>();
+		final var label = new StringBuilder(template.length());
+		for (final var segment : template.split("/")) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+			final var isParameter = segment.startsWith("{") && segment.endsWith("}");
+			segments.add(isParameter ? null : segment);
+			label.append('/').append(isParameter ? ":" + segment.substring(1, segment.length() - 1) : segment);
+		}
+		return new RouteTemplate(segments.toArray(String[]::new), label.isEmpty() ? "/" : label.toString());
+	}
+
+	private static int parameters(final RouteTemplate template) {
+		var n = 0;
+		for (final var segment : template.segments()) {
+			if (segment == null) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	/** Segmento por segmento, sin partir la ruta; los vacíos se saltan. */
+	private static boolean matches(final String path, final String[] segments) {
+		final var n = path.length();
+		var i = 0;
+		var k = 0;
+		while (i < n) {
+			if (path.charAt(i) == '/') {
+				i++;
+				continue;
+			}
+			var end = i;
+			while (end < n && path.charAt(end) != '/') {
+				end++;
+			}
+			if (k >= segments.length) {
+				return false;
+			}
+			final var expected = segments[k++];
+			if (expected != null && (expected.length() != end - i || !path.startsWith(expected, i))) {
+				return false;
+			}
+			i = end;
+		}
+		return k == segments.length;
+	}
+
+	/** Token para el segmento {@code [start, end)}, o null si se conserva. */
+	private static String token(final String path, final int start, final int end) {
+		final var length = end - start;
+		if (length == 36 && isUuid(path, start)) {
+			return ID;
+		}
+		if (length == 24 && isHex(path, start, end)) {
+			return ID;
+		}
+		if (length >= 2 && isDigits(path, start, end)) {
+			return NUMBER;
+		}
+		return null;
+	}
+
+	private static boolean isUuid(final String s, final int start) {
+		for (var k = 0; k < 36; k++) {
+			final var c = s.charAt(start + k);
+			if (k == 8 || k == 13 || k == 18 || k == 23) {
+				if (c != '-') {
+					return false;
+				}
+			} else if (!isHex(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isHex(final String s, final int start, final int end) {
+		for (var k = start; k < end; k++) {
+			if (!isHex(s.charAt(k))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isHex(final char c) {
+		return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+	}
+
+	private static boolean isDigits(final String s, final int start, final int end) {
+		for (var k = start; k < end; k++) {
+			final var c = s.charAt(k);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isRegistered(final String normalized) {
+		if (exact.contains(normalized)) {
+			return true;
+		}
+		for (final var prefix : prefixes) {
+			if (normalized.startsWith(prefix)
+					&& (normalized.length() == prefix.length() || normalized.charAt(prefix.length()) == '/')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized void remember(final String template) {
+		if (size >= MAX_TEMPLATES) {
+			return;
+		}
+		final var mask = TABLE_SIZE - 1;
+		for (var i = template.hashCode() & mask;; i = (i + 1) & mask) {
+			final var existing = templates.get(i);
+			if (existing == null) {
+				templates.set(i, template);
+				size++;
+				return;
+			}
+			if (existing.equals(template)) {
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import dev.rafex.kiwi.metrics.HttpMetrics;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Registra latencia y código de estado de cada petición en {@link HttpMetrics},
+ * agrupando por la ruta declarada que le asigna {@link PathNormalizer#route};
+ * lo que no coincide con ninguna comparte la etiqueta {@code unmatched}. La
+ * latencia se toma al completar el {@link Callback}, no al regresar de
+ * {@code handle}.
+ */
+public final class RequestMetricsHandler extends Handler.Wrapper {
+
+	private final HttpMetrics metrics;
+	private final PathNormalizer normalizer;
+
+	public RequestMetricsHandler(final Handler delegate, final HttpMetrics metrics, final PathNormalizer normalizer) {
+		super(delegate);
+		this.metrics = metrics;
+		this.normalizer = normalizer;
+	}
+
+	@Override
+	public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
+		final var start = System.nanoTime();
+		final var method = request.getMethod();
+		final var route = normalizer.route(request.getHttpURI().getPath());
+
+		final var tracked = new Callback.Nested(callback) {
+			@Override
+			public void succeeded() {
+				metrics.record(method, route, response.getStatus(), System.nanoTime() - start);
+				super.succeeded();
+			}
+
+			@Override
+			public void failed(final Throwable x) {
+				metrics.record(method, route, response.isCommitted() ? response.getStatus() : 500,
+						System.nanoTime() - start);
+				super.failed(x);
+			}
+		};
+
+		try {
+			final var handled = super.handle(request, response, tracked);
+			if (!handled) {
+				metrics.record(method, route, 404, System.nanoTime() - start);
+			}
+			return handled;
+		} catch (final Throwable t) {
+			metrics.record(method, route, 500, System.nanoTime() - start);
+			throw t;
+		}
+	}
+
+}
@@ -22,6 +22,7 @@ import dev.rafex.ether.http.jetty12.JettyHttpExchange;
 import dev.rafex.ether.http.jetty12.NonBlockingResourceHandler;
 import dev.rafex.ether.json.JsonCodec;
 import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.logging.Log;
 import dev.rafex.kiwi.security.KiwiJwtService;
 import dev.rafex.kiwi.services.AppClientAuthService;
 
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.io.Content;
 import org.eclipse.jetty.util.MultiMap;
 import org.eclipse.jetty.util.UrlEncoded;
@@ -132,24 +134,47 @@ public final class TokenHandler extends NonBlockingResourceHandler {
 			return true;
 		}
 
-		final var result = authService.authenticate(clientId, clientSecret.toCharArray());
+		// la respuesta se completa desde el pool de PBKDF2; este hilo no espera
+		authService.authenticateAsync(clientId, clientSecret.toCharArray()).whenComplete((result, e) -> {
+			try {
+				if (e != null) {
+					throw e;
+				}
+				respond(x, result);
+			} catch (final Throwable t) {
+				Log.error(TokenHandler.class, "Unhandled error completing token request", t);
+				if (x.response().isCommitted()) {
+					x.callback().failed(t);
+				} else {
+					ERRORS.internalServerError(x.response(), x.callback(), "internal_error");
+				}
+			}
+		});
+		return true;
+	}
+
+	private void respond(final JettyHttpExchange x, final AppClientAuthService.AuthResult result) throws Exception {
 		if (!result.ok()) {
 			final var code = result.code() != null ? result.code() : "invalid_client";
-			if ("client_disabled".equals(code)) {
+			if ("busy".equals(code)) {
+				// cola de PBKDF2 llena: mismo contrato que el control de admisión
+				x.response().getHeaders().put(HttpHeader.RETRY_AFTER, "1");
+				ERRORS.error(x.response(), x.callback(), 503, "service_unavailable", "busy",
+						"authentication busy, retry later", x.request().getHttpURI().getPath());
+			} else if ("client_disabled".equals(code)) {
 				ERRORS.forbidden(x.response(), x.callback(), "client_disabled");
 			} else if ("invalid_client".equals(code)) {
 				ERRORS.unauthorized(x.response(), x.callback(), "invalid_client");
 			} else {
 				ERRORS.unauthorized(x.response(), x.callback(), code);
 			}
-			return true;
+			return;
 		}
 
 		final var token = jwt.mintApp("app:" + result.clientId(), result.clientId(), result.roles(), ttlSeconds);
 		RESPONSES.ok(x.response(), x.callback(),
 				Map.of("token_type", "Bearer", "access_token", token, "expires_in", ttlSeconds, "grant_type",
 						"client_credentials"));
-		return true;
 	}
 
 	private static String text(final JsonNode node, final String field) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import dev.rafex.ether.http.jetty12.JettyApiErrorResponses;
+import dev.rafex.ether.json.JsonUtils;
+import dev.rafex.kiwi.logging.Log;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Ejecuta el handler envuelto en un hilo virtual en lugar del hilo de Jetty que
+ * recibió la petición.
+ *
+ * <p>
+ * Los handlers de objetos y ubicaciones bloquean en JDBC; con hilos de
+ * plataforma, consultas lentas agotan el pool de Jetty ({@code HTTP_MAX_THREADS})
+ * aunque el trabajo real lo limite el pool de Hikari. Aquí el hilo de Jetty se
+ * libera de inmediato y un semáforo del tamaño del pool de conexiones decide
+ * cuántas peticiones ejecutan a la vez; las demás esperan en su hilo virtual
+ * (barato) hasta {@code acquireTimeoutMs} y luego reciben 503.
+ */
+public final class VirtualThreadDispatchHandler extends Handler.Wrapper {
+
+	private static final JettyApiErrorResponses ERRORS = new JettyApiErrorResponses(JsonUtils.codec());
+
+	private final Executor executor;
+	private final Semaphore permits;
+	private final long acquireTimeoutMs;
+
+	public VirtualThreadDispatchHandler(final Handler delegate, final Executor executor, final Semaphore permits,
+			final long acquireTimeoutMs) {
+		super(delegate);
+		this.executor = Objects.requireNonNull(executor, "executor");
+		this.permits = Objects.requireNonNull(permits, "permits");
+		this.acquireTimeoutMs = acquireTimeoutMs;
+	}
+
+	@Override
+	public boolean handle(final Request request, final Response response, final Callback callback) {
+		executor.execute(() -> dispatch(request, response, callback));
+		// La respuesta se completa desde el hilo virtual vía callback
+		return true;
+	}
+
+	private void dispatch(final Request request, final Response response, final Callback callback) {
+		var acquired = false;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+			if (!acquired) {
+				ERRORS.error(response, callback, 503, "service_unavailable", "busy", "server busy, retry later",
+						request.getHttpURI().getPath());
+				return;
+			}
+			if (!super.handle(request, response, callback)) {
+				ERRORS.notFound(response, callback, request.getHttpURI().getPath());
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			callback.failed(e);
+		} catch (final Throwable t) {
+			Log.error(VirtualThreadDispatchHandler.class, "Unhandled error in virtual-thread dispatch", t);
+			if (response.isCommitted()) {
+				callback.failed(t);
+			} else {
+				ERRORS.internalServerError(response, callback, "internal_error");
+			}
+		} finally {
+			if (acquired) {
+				permits.release();
+			}
+		}
+	}
+
+}
@@ -32,6 +32,10 @@ public final class KiwiErrorHttpMapper {
 		}
 
 		final var code = error.getCode();
+		if ("E-011".equals(code)) {
+			// límite de exports simultáneos: mismo contrato que el control de admisión
+			return new MappedHttpError(503, "service_unavailable", "busy", "too many concurrent exports");
+		}
 		if ("object.move".equals(operation)) {
 			if ("E-001".equals(code)) {
 				return new MappedHttpError(400, "bad_request", code, "newLocationId does not exist");
@@ -41,7 +45,8 @@ public final class KiwiErrorHttpMapper {
 			}
 		}
 
-		if ("location.create".equals(operation)) {
+		if ("location.create".equals(operation) || "object.export".equals(operation)
+				|| "object.batch".equals(operation) || "object.facets".equals(operation)) {
 			return new MappedHttpError(500, "internal_server_error", code, "db_error");
 		}
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencia y códigos de estado por método y ruta normalizada.
+ *
+ * <p>
+ * En el camino de la petición solo hay una búsqueda en mapas concurrentes (sin
+ * lock para claves ya vistas) y dos incrementos atómicos. Las rutas nuevas se
+ * crean una vez. Las rutas no registradas ya llegan como {@code unmatched}
+ * (ver {@code PathNormalizer#route}); como respaldo, pasado
+ * {@value #MAX_ROUTES} todo lo demás cae en {@value #OVERFLOW_ROUTE}.
+ */
+public final class HttpMetrics {
+
+	static final int MAX_ROUTES = 256;
+	static final String OVERFLOW_ROUTE = "other";
+
+	private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+	private static final String OTHER_METHOD = "OTHER";
+
+	// cotas de las cubetas exportadas, en segundos
+	private static final double[] BUCKETS_SECONDS = { 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5,
+			5, 10 };
+	private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, RouteMetrics>> byMethod = new ConcurrentHashMap<>();
+	private final AtomicInteger routes = new AtomicInteger();
+
+	public void record(final String method, final String route, final int status, final long latencyNanos) {
+		final var metrics = route(method, route);
+		metrics.latency.recordNanos(latencyNanos);
+		metrics.statuses.incrementAndGet(status >= 100 && status < 600 ? status : 0);
+	}
+
+	private RouteMetrics route(final String method, final String route) {
+		final var m = method != null && METHODS.contains(method) ? method : OTHER_METHOD;
+		var perRoute = byMethod.get(m);
+		if (perRoute == null) {
+			perRoute = byMethod.computeIfAbsent(m, k -> new ConcurrentHashMap<>());
+		}
+		final var existing = perRoute.get(route);
+		if (existing != null) {
+			return existing;
+		}
+		final var r = routes.get() >= MAX_ROUTES ? OVERFLOW_ROUTE : route;
+		return perRoute.computeIfAbsent(r, k -> {
+			routes.incrementAndGet();
+			return new RouteMetrics();
+		});
+	}
+
+	public void writeTo(final PrometheusWriter w) {
+		w.header("kiwi_http_request_duration_seconds", "histogram", "HTTP request latency by route");
+		byMethod.forEach((method, perRoute) -> perRoute.forEach((route, metrics) -> {
+			final var snapshot = metrics.latency.snapshot();
+			for (final var le : BUCKETS_SECONDS) {
+				w.sample("kiwi_http_request_duration_seconds_bucket",
+						snapshot.countAtOrBelow((long) (le * 1_000_000)), "method", method, "route", route, "le",
+						Double.toString(le));
+			}
+			w.sample("kiwi_http_request_duration_seconds_bucket", snapshot.count(), "method", method, "route", route,
+					"le", "+Inf");
+			w.sample("kiwi_http_request_duration_seconds_sum", snapshot.sumMicros() / 1e6, "method", method, "route",
+					route);
+			w.sample("kiwi_http_request_duration_seconds_count", snapshot.count(), "method", method, "route", route);
+		}));
+
+		w.header("kiwi_http_request_duration_quantile_seconds", "gauge",
+				"HTTP request latency quantiles by route since start");
+		byMethod.forEach((method, perRoute) -> perRoute.forEach((route, metrics) -> {
+			final var snapshot = metrics.latency.snapshot();
+			for (final var q : QUANTILES) {
+				w.sample("kiwi_http_request_duration_quantile_seconds", snapshot.quantileMicros(q) / 1e6, "method",
+						method, "route", route, "quantile", Double.toString(q));
+			}
+		}));
+
+		w.header("kiwi_http_responses_total", "counter", "HTTP responses by route and status code");
+		byMethod.forEach((method, perRoute) -> perRoute.forEach((route, metrics) -> {
+			for (var status = 0; status < metrics.statuses.length(); status++) {
+				final var count = metrics.statuses.get(status);
+				if (count > 0) {
+					w.sample("kiwi_http_responses_total", count, "method", method, "route", route, "status",
+							status == 0 ? "unknown" : Integer.toString(status));
+				}
+			}
+		}));
+	}
+
+	private static final class RouteMetrics {
+		final LatencyHistogram latency = new LatencyHistogram();
+		// índice = código HTTP; 0 para códigos fuera de rango
+		final AtomicLongArray statuses = new AtomicLongArray(600);
+	}
+
+}
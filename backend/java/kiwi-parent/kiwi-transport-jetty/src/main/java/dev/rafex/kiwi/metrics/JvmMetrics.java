@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/** Heap, GC e hilos de la JVM a partir de los MXBeans de la plataforma. */
+public final class JvmMetrics {
+
+	private JvmMetrics() {
+	}
+
+	public static void writeTo(final PrometheusWriter w) {
+		final var memory = ManagementFactory.getMemoryMXBean();
+		final var heap = memory.getHeapMemoryUsage();
+		final var nonHeap = memory.getNonHeapMemoryUsage();
+
+		w.header("jvm_memory_used_bytes", "gauge", "Used memory by area");
+		w.sample("jvm_memory_used_bytes", heap.getUsed(), "area", "heap");
+		w.sample("jvm_memory_used_bytes", nonHeap.getUsed(), "area", "nonheap");
+		w.header("jvm_memory_committed_bytes", "gauge", "Committed memory by area");
+		w.sample("jvm_memory_committed_bytes", heap.getCommitted(), "area", "heap");
+		w.sample("jvm_memory_committed_bytes", nonHeap.getCommitted(), "area", "nonheap");
+		w.header("jvm_memory_max_bytes", "gauge", "Max heap (-1 if undefined)");
+		w.sample("jvm_memory_max_bytes", heap.getMax(), "area", "heap");
+
+		final var gcs = ManagementFactory.getGarbageCollectorMXBeans();
+		w.header("jvm_gc_collections_total", "counter", "GC collections by collector");
+		for (final var gc : gcs) {
+			w.sample("jvm_gc_collections_total", Math.max(0, gc.getCollectionCount()), "gc", gc.getName());
+		}
+		w.header("jvm_gc_collection_seconds_total", "counter", "Accumulated GC time by collector");
+		for (final var gc : gcs) {
+			w.sample("jvm_gc_collection_seconds_total", Math.max(0, gc.getCollectionTime()) / 1e3, "gc",
+					gc.getName());
+		}
+
+		final var threads = ManagementFactory.getThreadMXBean();
+		w.header("jvm_threads_live", "gauge", "Live platform threads");
+		w.sample("jvm_threads_live", threads.getThreadCount());
+		w.header("jvm_uptime_seconds", "gauge", "JVM uptime");
+		w.sample("jvm_uptime_seconds", ManagementFactory.getRuntimeMXBean().getUptime() / 1e3);
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias log-lineal al estilo HDR: cada potencia de dos se
+ * divide en {@value #SUB_BUCKETS} cubetas, lo que da una precisión relativa de
+ * ~6% entre 1 µs y ~19 h con {@value #BUCKETS} contadores.
+ *
+ * <p>
+ * Registrar es lock-free y no reserva memoria: un índice calculado con
+ * operaciones de bits y un {@code incrementAndGet} sobre un
+ * {@link AtomicLongArray}. Solo {@link #snapshot()} copia, y se llama al
+ * exportar.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// valores en microsegundos; 2^36 µs ≈ 19 h como tope
+	private static final int MAX_EXPONENT = 36;
+	static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder sumMicros = new LongAdder();
+
+	public void recordNanos(final long nanos) {
+		recordMicros(nanos <= 0 ? 0 : nanos / 1_000);
+	}
+
+	public void recordMicros(final long micros) {
+		counts.incrementAndGet(index(micros));
+		sumMicros.add(micros);
+	}
+
+	public Snapshot snapshot() {
+		final var copy = new long[BUCKETS];
+		var total = 0L;
+		for (var i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+			total += copy[i];
+		}
+		return new Snapshot(copy, total, sumMicros.sum());
+	}
+
+	static int index(final long micros) {
+		if (micros < SUB_BUCKETS) {
+			return (int) Math.max(0, micros);
+		}
+		final var exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		final var shift = exponent - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/** Mayor valor (en µs) que cae en la cubeta {@code index}. */
+	static long highestMicros(final int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		final var shift = index / SUB_BUCKETS - 1;
+		final long sub = index % SUB_BUCKETS;
+		return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+	}
+
+	/**
+	 * Copia de los contadores. Como cada cubeta se lee por separado, {@code count}
+	 * puede no coincidir exactamente con {@code sumMicros} si se registraba a la
+	 * vez; para exportar métricas es suficiente.
+	 */
+	public record Snapshot(long[] counts, long count, long sumMicros) {
+
+		/** Cuántas muestras fueron {@code <= micros}, contando cubetas completas. */
+		public long countAtOrBelow(final long micros) {
+			var cumulative = 0L;
+			for (var i = 0; i < counts.length && highestMicros(i) <= micros; i++) {
+				cumulative += counts[i];
+			}
+			return cumulative;
+		}
+
+		/** Valor (en µs) del cuantil {@code q}, con la precisión de la cubeta. */
+		public long quantileMicros(final double q) {
+			if (count == 0) {
+				return 0;
+			}
+			final var rank = Math.max(1, (long) Math.ceil(q * count));
+			var cumulative = 0L;
+			for (var i = 0; i < counts.length; i++) {
+				cumulative += counts[i];
+				if (cumulative >= rank) {
+					return highestMicros(i);
+				}
+			}
+			return highestMicros(counts.length - 1);
+		}
+	}
+
+}
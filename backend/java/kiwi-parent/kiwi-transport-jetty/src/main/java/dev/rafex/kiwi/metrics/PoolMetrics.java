@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+
+/** Estado del pool de conexiones, si el {@link DataSource} es de Hikari. */
+public final class PoolMetrics {
+
+	private PoolMetrics() {
+	}
+
+	public static void writeTo(final PrometheusWriter w, final DataSource dataSource) {
+		if (!(dataSource instanceof final HikariDataSource hikari)) {
+			return;
+		}
+		// null hasta que el pool arranca
+		final var pool = hikari.getHikariPoolMXBean();
+		if (pool == null) {
+			return;
+		}
+		w.header("kiwi_db_pool_connections", "gauge", "Connections in the pool by state");
+		w.sample("kiwi_db_pool_connections", pool.getActiveConnections(), "state", "active");
+		w.sample("kiwi_db_pool_connections", pool.getIdleConnections(), "state", "idle");
+		w.header("kiwi_db_pool_connections_max", "gauge", "Maximum pool size");
+		w.sample("kiwi_db_pool_connections_max", hikari.getMaximumPoolSize());
+		w.header("kiwi_db_pool_pending_threads", "gauge", "Threads waiting for a connection");
+		w.sample("kiwi_db_pool_pending_threads", pool.getThreadsAwaitingConnection());
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.metrics;
+
+/**
+ * Escribe el formato de texto de Prometheus (0.0.4). Sin dependencias: las
+ * métricas se arman al vuelo en cada scrape.
+ */
+public final class PrometheusWriter {
+
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private final StringBuilder out = new StringBuilder(16 * 1024);
+
+	public PrometheusWriter header(final String name, final String type, final String help) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		return this;
+	}
+
+	/** {@code labels} son pares nombre/valor. */
+	public PrometheusWriter sample(final String name, final double value, final String... labels) {
+		out.append(name);
+		if (labels.length > 0) {
+			out.append('{');
+			for (var i = 0; i + 1 < labels.length; i += 2) {
+				if (i > 0) {
+					out.append(',');
+				}
+				out.append(labels[i]).append("=\"");
+				escape(labels[i + 1]);
+				out.append('"');
+			}
+			out.append('}');
+		}
+		out.append(' ');
+		if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+			out.append((long) value);
+		} else {
+			out.append(value);
+		}
+		out.append('\n');
+		return this;
+	}
+
+	private void escape(final String value) {
+		for (var i = 0; i < value.length(); i++) {
+			final var c = value.charAt(i);
+			switch (c) {
+			case '\\' -> out.append("\\\\");
+			case '"' -> out.append("\\\"");
+			case '\n' -> out.append("\\n");
+			default -> out.append(c);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return out.toString();
+	}
+
+}
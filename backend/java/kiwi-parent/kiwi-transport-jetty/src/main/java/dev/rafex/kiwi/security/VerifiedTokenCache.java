@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de tokens ya verificados delante de {@link KiwiJwtService#verify}.
+ *
+ * <p>
+ * Los clientes reutilizan el mismo bearer miles de veces antes de {@code exp};
+ * un acierto evita el HMAC, el Base64 y el parseo de claims. La llave es el
+ * SHA-256 del token (nunca el token) y se compara con
+ * {@link MessageDigest#isEqual}, así el tiempo de búsqueda no revela cuánto de
+ * un token válido coincide con el presentado. Solo se guardan verificaciones
+ * exitosas con {@code exp}, y una entrada deja de servir en cuanto
+ * {@code now >= exp}: a partir de ahí decide el verificador.
+ *
+ * <p>
+ * Acotado a {@code maxEntries}; al llenarse se descartan primero las vencidas
+ * y, si no alcanza, entradas arbitrarias hasta quedar en 3/4. Con
+ * {@code maxEntries <= 0} solo delega.
+ */
+public final class VerifiedTokenCache {
+
+	private final KiwiJwtService jwt;
+	private final int maxEntries;
+	private final ConcurrentHashMap<Digest, Entry> entries;
+	private final AtomicBoolean sweeping = new AtomicBoolean();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private record Entry(KiwiJwtService.AuthContext ctx, long exp) {
+	}
+
+	public VerifiedTokenCache(final KiwiJwtService jwt, final int maxEntries) {
+		this.jwt = Objects.requireNonNull(jwt, "jwt");
+		this.maxEntries = Math.max(0, maxEntries);
+		this.entries = new ConcurrentHashMap<>(Math.min(this.maxEntries, 1_024));
+	}
+
+	public KiwiJwtService.VerifyResult verify(final String token, final long nowEpochSeconds) {
+		if (maxEntries == 0 || token == null) {
+			return jwt.verify(token, nowEpochSeconds);
+		}
+		final var key = Digest.of(token);
+		final var cached = entries.get(key);
+		if (cached != null) {
+			if (nowEpochSeconds < cached.exp()) {
+				hits.increment();
+				return KiwiJwtService.VerifyResult.ok(cached.ctx());
+			}
+			entries.remove(key, cached);
+		}
+		misses.increment();
+
+		final var result = jwt.verify(token, nowEpochSeconds);
+		if (result.ok() && result.ctx().exp() > nowEpochSeconds) {
+			if (entries.size() >= maxEntries) {
+				shrink(nowEpochSeconds);
+			}
+			entries.put(key, new Entry(result.ctx(), result.ctx().exp()));
+		}
+		return result;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	/** Proporción de aciertos en [0, 1]; 0 si aún no hubo verificaciones. */
+	public double hitRatio() {
+		final var h = hits.sum();
+		final var total = h + misses.sum();
+		return total == 0 ? 0.0 : (double) h / total;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int maxEntries() {
+		return maxEntries;
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	private void shrink(final long nowEpochSeconds) {
+		// un solo hilo barre; los demás insertan y el mapa puede pasarse un poco
+		if (!sweeping.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			entries.values().removeIf(e -> nowEpochSeconds >= e.exp());
+			final var target = maxEntries - maxEntries / 4;
+			final var it = entries.keySet().iterator();
+			while (entries.size() > target && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		} finally {
+			sweeping.set(false);
+		}
+	}
+
+	/** SHA-256 del token, con igualdad en tiempo constante. */
+	private static final class Digest {
+
+		private final byte[] bytes;
+		private final int hash;
+
+		private Digest(final byte[] bytes) {
+			this.bytes = bytes;
+			this.hash = (bytes[0] & 0xff) << 24 | (bytes[1] & 0xff) << 16 | (bytes[2] & 0xff) << 8 | bytes[3] & 0xff;
+		}
+
+		static Digest of(final String token) {
+			try {
+				return new Digest(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+			} catch (final NoSuchAlgorithmException e) {
+				// SHA-256 es obligatorio en toda JVM
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			return o instanceof final Digest other && MessageDigest.isEqual(bytes, other.bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package dev.rafex.kiwi.server;
 
+import dev.rafex.kiwi.handlers.AdaptiveConcurrencyLimit;
+import dev.rafex.kiwi.handlers.AdmissionControlHandler;
 import dev.rafex.kiwi.handlers.CreateAppClientHandler;
 import dev.rafex.kiwi.handlers.CreateUserHandler;
 import dev.rafex.kiwi.handlers.GlowrootNamingHandler;
@@ -22,23 +24,50 @@ import dev.rafex.kiwi.handlers.HealthHandler;
 import dev.rafex.kiwi.handlers.HelloHandler;
 import dev.rafex.kiwi.handlers.LocationHandler;
 import dev.rafex.kiwi.handlers.LoginHandler;
+import dev.rafex.kiwi.handlers.MetricsHandler;
 import dev.rafex.kiwi.handlers.NotFoundHandler;
+import dev.rafex.kiwi.handlers.ObjectBatchHandler;
 import dev.rafex.kiwi.handlers.ObjectHandler;
+import dev.rafex.kiwi.handlers.PathNormalizer;
+import dev.rafex.kiwi.handlers.RequestMetricsHandler;
 import dev.rafex.kiwi.handlers.TokenHandler;
+import dev.rafex.kiwi.handlers.VirtualThreadDispatchHandler;
+import dev.rafex.kiwi.metrics.HttpMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.jetty.server.Handler;
 
 public final class DefaultKiwiModule implements KiwiModule {
 
+	// compartidos entre las rutas (/metrics) y los middlewares que los alimentan
+	private final HttpMetrics httpMetrics = new HttpMetrics();
+	private Map<AdmissionControlHandler.RouteClass, AdaptiveConcurrencyLimit> admissionLimits;
+	private PathNormalizer pathNormalizer = PathNormalizer.forRoutes(List.of());
+
 	@Override
 	public void registerRoutes(final RouteRegistry routes, final ModuleContext context) {
 		final var container = context.container();
 		final var jwt = context.jwtService();
+		final var blocking = blockingDispatch(context.config());
 
 		routes.add("/hello", new HelloHandler());
 		routes.add("/health", new HealthHandler());
+		if (context.config().metricsEnabled()) {
+			routes.add("/metrics",
+					new MetricsHandler(httpMetrics, container, admissionLimits(context.config()).values(),
+							context.tokenCache()));
+		}
 		routes.add("/auth/login", new LoginHandler(jwt, container.authService()));
 		routes.add("/auth/token", new TokenHandler(jwt, container.appClientAuthService()));
-		routes.add("/objects/*", new ObjectHandler(container.objectService()));
-		routes.add("/locations/*", new LocationHandler(container.locationService()));
+		routes.add("/objects:batch", blocking.apply(new ObjectBatchHandler(container.objectService())));
+		routes.add("/objects/*", blocking.apply(new ObjectHandler(container.objectService())));
+		routes.add("/locations/*", blocking.apply(new LocationHandler(container.locationService())));
 		routes.add("/admin/app-clients", new CreateAppClientHandler(container.appClientAuthService()));
 
 		if (context.config().enableUserProvisioning() && context.config().isSandbox()) {
@@ -46,6 +75,27 @@ public final class DefaultKiwiModule implements KiwiModule {
 		}
 
 		routes.add("/*", new NotFoundHandler());
+
+		// plantillas de ruta compartidas por Glowroot y /metrics
+		final var templates = new ArrayList<String>(ObjectHandler.ROUTE_TEMPLATES);
+		templates.addAll(LocationHandler.ROUTE_TEMPLATES);
+		pathNormalizer = PathNormalizer
+				.forRoutes(routes.routes().stream().map(HttpResourceRegistration::pathSpec).toList(), templates);
+	}
+
+	/**
+	 * Con {@code HTTP_VIRTUAL_THREADS=true} los handlers que van a la base de datos
+	 * corren en hilos virtuales, limitados por un semáforo compartido del tamaño
+	 * del pool de conexiones.
+	 */
+	private static UnaryOperator<Handler> blockingDispatch(final ServerConfig config) {
+		if (!config.virtualThreads()) {
+			return UnaryOperator.identity();
+		}
+		final var executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kiwi-vt-", 0).factory());
+		final var permits = new Semaphore(Math.max(1, config.blockingConcurrency()), true);
+		return handler -> new VirtualThreadDispatchHandler(handler, executor, permits,
+				config.blockingAcquireTimeoutMs());
 	}
 
 	@Override
@@ -57,13 +107,37 @@ public final class DefaultKiwiModule implements KiwiModule {
 		authPolicies.publicPath("GET", "/health");
 
 		authPolicies.protectedPrefix("/objects/*");
+		authPolicies.protectedPrefix("/objects:batch");
 		authPolicies.protectedPrefix("/locations/*");
 		authPolicies.protectedPrefix("/admin/app-clients");
+		// el scraper se autentica como un app client (Bearer de /auth/token)
+		authPolicies.protectedPrefix("/metrics");
 	}
 
 	@Override
 	public void registerMiddlewares(final MiddlewareRegistry middlewares, final ModuleContext context) {
-		middlewares.add(GlowrootNamingHandler::new);
+		final var normalizer = pathNormalizer;
+		middlewares.add(next -> new GlowrootNamingHandler(next, normalizer));
+
+		final var config = context.config();
+		if (config.metricsEnabled()) {
+			middlewares.add(next -> new RequestMetricsHandler(next, httpMetrics, normalizer));
+		}
+		if (config.admissionControl()) {
+			final var limits = admissionLimits(config);
+			middlewares.add(next -> new AdmissionControlHandler(next, limits));
+		}
+	}
+
+	private Map<AdmissionControlHandler.RouteClass, AdaptiveConcurrencyLimit> admissionLimits(
+			final ServerConfig config) {
+		if (admissionLimits == null) {
+			admissionLimits = config.admissionControl()
+					? AdmissionControlHandler.limits(config.admissionInitialLimit(), config.admissionMaxLimit(),
+							config.admissionLatencyTargetMs())
+					: Map.of();
+		}
+		return admissionLimits;
 	}
 
 }
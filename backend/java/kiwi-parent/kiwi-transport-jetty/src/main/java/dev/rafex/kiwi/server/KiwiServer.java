@@ -17,6 +17,7 @@ package dev.rafex.kiwi.server;
 
 import dev.rafex.kiwi.bootstrap.KiwiContainer;
 import dev.rafex.kiwi.security.KiwiJwtService;
+import dev.rafex.kiwi.security.VerifiedTokenCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,7 +57,8 @@ public final class KiwiServer {
 
 		final var jsonCodec = JacksonJsonCodec.defaultCodec();
 		final var jwt = new KiwiJwtService(config.jwtIssuer(), config.jwtAudience(), config.jwtSecret());
-		final var context = new ModuleContext(container, config, jwt);
+		final var tokenCache = new VerifiedTokenCache(jwt, config.jwtCacheSize());
+		final var context = new ModuleContext(container, config, jwt, tokenCache);
 
 		final var routeRegistry = new RouteRegistry();
 		final var authPolicyRegistry = new AuthPolicyRegistry();
@@ -80,7 +82,7 @@ public final class KiwiServer {
 		if (!authPolicyRegistry.policies().isEmpty()) {
 			etherMiddlewares.add(next -> {
 				final var auth = new JettyAuthHandler(next, (token, epochSeconds) -> {
-					final var verification = jwt.verify(token, epochSeconds);
+					final var verification = tokenCache.verify(token, epochSeconds);
 					if (!verification.ok()) {
 						return TokenVerificationResult.failed(verification.code());
 					}
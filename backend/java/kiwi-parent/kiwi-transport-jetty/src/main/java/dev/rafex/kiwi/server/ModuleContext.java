@@ -17,6 +17,8 @@ package dev.rafex.kiwi.server;
 
 import dev.rafex.kiwi.bootstrap.KiwiContainer;
 import dev.rafex.kiwi.security.KiwiJwtService;
+import dev.rafex.kiwi.security.VerifiedTokenCache;
 
-public record ModuleContext(KiwiContainer container, ServerConfig config, KiwiJwtService jwtService) {
+public record ModuleContext(KiwiContainer container, ServerConfig config, KiwiJwtService jwtService,
+		VerifiedTokenCache tokenCache) {
 }
@@ -27,14 +27,36 @@ public record ServerConfig(
 		String jwtAudience,
 		String jwtSecret,
 		String environment,
-		boolean enableUserProvisioning) {
+		boolean enableUserProvisioning,
+		boolean virtualThreads,
+		int blockingConcurrency,
+		long blockingAcquireTimeoutMs,
+		boolean admissionControl,
+		int admissionInitialLimit,
+		int admissionMaxLimit,
+		long admissionLatencyTargetMs,
+		boolean metricsEnabled,
+		int jwtCacheSize) {
 
 	public static ServerConfig fromEnv() {
 		final var env = System.getenv();
 		final var cpus = Runtime.getRuntime().availableProcessors();
+		final var maxThreads = parseInt(env.get("HTTP_MAX_THREADS"), Math.max(cpus * 2, 16));
+		final var dbPool = parseInt(env.get("DB_MAX_POOL_SIZE"), 6);
+		final var virtualThreads = "true".equalsIgnoreCase(env.getOrDefault("HTTP_VIRTUAL_THREADS", "false"));
+		// por defecto, tantas peticiones a la vez como conexiones tiene el pool
+		final var blockingConcurrency = parseInt(env.get("HTTP_BLOCKING_CONCURRENCY"), dbPool);
+		// el límite tiene que morder antes que el cuello real: los hilos que pueden
+		// correr la ruta (pool de Jetty o turnos de hilos virtuales) y, detrás, las
+		// conexiones a la base; más allá del doble del pool sólo se hace cola en Hikari
+		final var runnable = virtualThreads ? blockingConcurrency : maxThreads;
+		final var admissionMax = parseInt(env.get("HTTP_ADMISSION_MAX_LIMIT"),
+				Math.max(1, Math.min(runnable, dbPool * 2)));
+		final var admissionInitial = parseInt(env.get("HTTP_ADMISSION_INITIAL_LIMIT"),
+				Math.max(1, Math.min(admissionMax, dbPool)));
 		return new ServerConfig(
 				parseInt(env.get("PORT"), 8080),
-				parseInt(env.get("HTTP_MAX_THREADS"), Math.max(cpus * 2, 16)),
+				maxThreads,
 				parseInt(env.get("HTTP_MIN_THREADS"), 4),
 				parseInt(env.get("HTTP_IDLE_TIMEOUT_MS"), 30_000),
 				env.getOrDefault("HTTP_POOL_NAME", "kiwi-http"),
@@ -42,7 +64,17 @@ public record ServerConfig(
 				env.getOrDefault("JWT_AUD", "kiwi-backend"),
 				env.getOrDefault("JWT_SECRET", "CHANGE_ME_NOW_32+chars_secret"),
 				env.getOrDefault("ENVIRONMENT", "unknown"),
-				"true".equalsIgnoreCase(env.getOrDefault("ENABLE_USER_PROVISIONING", "false")));
+				"true".equalsIgnoreCase(env.getOrDefault("ENABLE_USER_PROVISIONING", "false")),
+				virtualThreads,
+				blockingConcurrency,
+				parseInt(env.get("HTTP_BLOCKING_QUEUE_TIMEOUT_MS"), 30_000),
+				!"false".equalsIgnoreCase(env.getOrDefault("HTTP_ADMISSION_CONTROL", "true")),
+				admissionInitial,
+				admissionMax,
+				parseInt(env.get("HTTP_ADMISSION_LATENCY_TARGET_MS"), 1_000),
+				// opt-in: expone rutas, tráfico y estado interno del proceso
+				"true".equalsIgnoreCase(env.getOrDefault("HTTP_METRICS", "false")),
+				parseInt(env.get("JWT_CACHE_SIZE"), 10_000));
 	}
 
 	public boolean isSandbox() {
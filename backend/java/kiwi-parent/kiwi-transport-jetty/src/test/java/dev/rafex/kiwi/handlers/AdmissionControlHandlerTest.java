@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.rafex.kiwi.handlers.AdmissionControlHandler.RouteClass;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Los exports van por streaming y duran lo que tarde el cliente: no deben
+ * ocupar turnos de lectura ni bajar el límite con su latencia.
+ */
+class AdmissionControlHandlerTest {
+
+	private static final String EXPORT = "/objects/export";
+	private static final String BY_ID = "/objects/3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+
+	@Test
+	void exportIsNotClassified() {
+		assertNull(AdmissionControlHandler.classify("GET", EXPORT));
+		assertEquals(RouteClass.READ, AdmissionControlHandler.classify("GET", "/objects/search"));
+		assertEquals(RouteClass.READ, AdmissionControlHandler.classify("GET", BY_ID));
+	}
+
+	@Test
+	void openExportDoesNotHoldReadSlot() throws Exception {
+		final var read = limit(1_000);
+		// el delegado nunca completa el callback, como un export que sigue escribiendo
+		final var handler = new AdmissionControlHandler(new Handler.Abstract() {
+			@Override
+			public boolean handle(final Request request, final Response response, final Callback callback) {
+				return true;
+			}
+		}, Map.of(RouteClass.READ, read));
+
+		assertTrue(handler.handle(get(EXPORT), mock(Response.class), mock(Callback.class)));
+		assertEquals(0, read.inFlight());
+
+		assertTrue(handler.handle(get(BY_ID), mock(Response.class), mock(Callback.class)));
+		assertEquals(1, read.inFlight());
+	}
+
+	@Test
+	void slowExportDoesNotLowerReadLimit() throws Exception {
+		final var read = limit(1);
+		final var handler = new AdmissionControlHandler(new Handler.Abstract() {
+			@Override
+			public boolean handle(final Request request, final Response response, final Callback callback)
+					throws InterruptedException {
+				TimeUnit.MILLISECONDS.sleep(20);
+				callback.succeeded();
+				return true;
+			}
+		}, Map.of(RouteClass.READ, read));
+
+		handler.handle(get(EXPORT), mock(Response.class), mock(Callback.class));
+		assertEquals(10, read.limit());
+
+		// la misma latencia en una lectura normal sí reduce el límite
+		handler.handle(get(BY_ID), mock(Response.class), mock(Callback.class));
+		assertEquals(9, read.limit());
+	}
+
+	private static AdaptiveConcurrencyLimit limit(final long latencyTargetMs) {
+		return new AdaptiveConcurrencyLimit("read", 10, 1, 20, TimeUnit.MILLISECONDS.toNanos(latencyTargetMs));
+	}
+
+	private static Request get(final String path) {
+		final var uri = mock(HttpURI.class);
+		when(uri.getPath()).thenReturn(path);
+		final var request = mock(Request.class);
+		when(request.getMethod()).thenReturn("GET");
+		when(request.getHttpURI()).thenReturn(uri);
+		return request;
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Etiquetas de {@link PathNormalizer#route}: sólo rutas exactas registradas y
+ * plantillas declaradas, así un escaneo no crea series nuevas.
+ */
+class PathNormalizerTest {
+
+	private static final String ID = "3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+
+	private final PathNormalizer normalizer = normalizer();
+
+	@Test
+	void declaredRoutesKeepTheirLabel() {
+		assertEquals("/objects/search", normalizer.route("/objects/search"));
+		assertEquals("/objects/export", normalizer.route("/objects/export"));
+		assertEquals("/objects/facets", normalizer.route("/objects/facets"));
+		assertEquals("/objects/:id", normalizer.route("/objects/" + ID));
+		assertEquals("/objects/:id/move", normalizer.route("/objects/" + ID + "/move"));
+		assertEquals("/objects", normalizer.route("/objects/"));
+		assertEquals("/locations/:id/path", normalizer.route("/locations//" + ID + "/path"));
+		assertEquals("/objects:batch", normalizer.route("/objects:batch"));
+		assertEquals("/health", normalizer.route("/health"));
+	}
+
+	@Test
+	void literalSegmentsOutsideTemplatesAreUnmatched() {
+		assertEquals(PathNormalizer.UNMATCHED, normalizer.route("/locations/x/y"));
+		assertEquals(PathNormalizer.UNMATCHED, normalizer.route("/objects/" + ID + "/move/extra"));
+		assertEquals(PathNormalizer.UNMATCHED, normalizer.route("/health/x"));
+		assertEquals(PathNormalizer.UNMATCHED, normalizer.route("/wp-admin/setup.php"));
+		// un segmento cualquiera en la posición de {id} se agrupa con la plantilla
+		assertEquals("/objects/:id", normalizer.route("/objects/aaa"));
+	}
+
+	@Test
+	void scanUnderPrefixCreatesNoNewLabels() {
+		final var labels = new HashSet<String>();
+		for (var i = 0; i < 1_000; i++) {
+			labels.add(normalizer.route("/objects/scan" + i));
+			labels.add(normalizer.route("/objects/scan" + i + "/x"));
+			labels.add(normalizer.route("/locations/scan" + i + "/y"));
+		}
+		assertEquals(2, labels.size());
+	}
+
+	private static PathNormalizer normalizer() {
+		final var templates = new ArrayList<String>(ObjectHandler.ROUTE_TEMPLATES);
+		templates.addAll(LocationHandler.ROUTE_TEMPLATES);
+		return PathNormalizer.forRoutes(
+				List.of("/hello", "/health", "/metrics", "/objects:batch", "/objects/*", "/locations/*", "/*"),
+				templates);
+	}
+
+}
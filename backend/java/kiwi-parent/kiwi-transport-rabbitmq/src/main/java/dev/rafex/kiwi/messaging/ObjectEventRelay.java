@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository.BatchPublisher;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Bucle del relay: reclama lotes del outbox y los publica hasta que se llama a
+ * {@link #stop()}.
+ *
+ * <p>
+ * Mientras haya lotes llenos sigue sin pausa; cuando el outbox se vacía espera
+ * {@code idleMillis} antes de volver a consultar. Ante un error espera con
+ * backoff exponencial. Pueden correr varias instancias a la vez: cada lote se
+ * reclama con {@code FOR UPDATE SKIP LOCKED}.
+ */
+public final class ObjectEventRelay implements Runnable {
+
+	private static final long MIN_BACKOFF_MILLIS = 500;
+	private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+	private final ObjectEventOutboxRepository outbox;
+	private final BatchPublisher publisher;
+	private final int batchSize;
+	private final long idleMillis;
+
+	private volatile boolean running = true;
+	private volatile Thread runner;
+
+	public ObjectEventRelay(final ObjectEventOutboxRepository outbox, final BatchPublisher publisher,
+			final int batchSize, final long idleMillis) {
+		this.outbox = Objects.requireNonNull(outbox, "outbox");
+		this.publisher = Objects.requireNonNull(publisher, "publisher");
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize debe ser > 0");
+		}
+		if (idleMillis < 0) {
+			throw new IllegalArgumentException("idleMillis no puede ser negativo");
+		}
+		this.batchSize = batchSize;
+		this.idleMillis = idleMillis;
+	}
+
+	@Override
+	public void run() {
+		runner = Thread.currentThread();
+		var backoff = MIN_BACKOFF_MILLIS;
+		try {
+			while (running) {
+				try {
+					final var published = outbox.relayBatch(batchSize, publisher);
+					backoff = MIN_BACKOFF_MILLIS;
+					if (published > 0) {
+						Log.debug(getClass(), "Published {} object events", published);
+					}
+					if (published < batchSize && !sleep(idleMillis)) {
+						return;
+					}
+				} catch (final SQLException | IOException | RuntimeException e) {
+					if (!running) {
+						return;
+					}
+					Log.warn(getClass(), e, "Outbox relay batch failed, retrying in {} ms", backoff);
+					if (!sleep(backoff)) {
+						return;
+					}
+					backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+				}
+			}
+		} finally {
+			runner = null;
+		}
+	}
+
+	/**
+	 * Pide detener el bucle. Un lote en curso que se interrumpa se revierte y lo
+	 * publicará otra instancia (o ésta al reiniciar).
+	 */
+	public void stop() {
+		running = false;
+		final var t = runner;
+		if (t != null) {
+			t.interrupt();
+		}
+	}
+
+	private boolean sleep(final long millis) {
+		if (millis == 0) {
+			return running;
+		}
+		try {
+			Thread.sleep(millis);
+			return running;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository.BatchPublisher;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository.ObjectEventRow;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.BuiltinExchangeType;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+
+/**
+ * Publica eventos de objetos en un exchange {@code topic} de RabbitMQ con
+ * publisher confirms.
+ *
+ * <p>
+ * Cada lote se publica completo y luego se espera una sola vez a que el broker
+ * confirme todos los mensajes ({@code waitForConfirmsOrDie}); si alguno se
+ * rechaza o se vence el tiempo, el lote entero falla y el outbox lo reintenta.
+ * Los consumidores deben deduplicar por {@code message-id} (= {@code event_id}).
+ *
+ * <p>
+ * No es thread-safe: lo usa un solo hilo de relay.
+ */
+public final class RabbitEventPublisher implements BatchPublisher, AutoCloseable {
+
+	private static final String CONNECTION_NAME = "kiwi-outbox-relay";
+
+	private final ConnectionFactory factory;
+	private final String exchange;
+	private final long confirmTimeoutMillis;
+
+	private Connection connection;
+	private Channel channel;
+
+	public RabbitEventPublisher(final ConnectionFactory factory, final String exchange,
+			final long confirmTimeoutMillis) {
+		this.factory = Objects.requireNonNull(factory, "factory");
+		this.exchange = Objects.requireNonNull(exchange, "exchange");
+		if (confirmTimeoutMillis <= 0) {
+			throw new IllegalArgumentException("confirmTimeoutMillis debe ser > 0");
+		}
+		this.confirmTimeoutMillis = confirmTimeoutMillis;
+		// La reconexión la maneja channel(): un canal recuperado perdería los
+		// confirms pendientes
+		factory.setAutomaticRecoveryEnabled(false);
+	}
+
+	@Override
+	public void publish(final List<ObjectEventRow> events) throws IOException {
+		final var ch = channel();
+		for (final var e : events) {
+			ch.basicPublish(exchange, routingKey(e), false, properties(e), toJson(e).getBytes(StandardCharsets.UTF_8));
+		}
+		try {
+			ch.waitForConfirmsOrDie(confirmTimeoutMillis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			closeQuietly();
+			throw new InterruptedIOException("Interrupted while waiting for publisher confirms");
+		} catch (final TimeoutException e) {
+			closeQuietly();
+			throw new IOException("Publisher confirms timed out after " + confirmTimeoutMillis + " ms", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		closeQuietly();
+	}
+
+	/** {@code object.<tipo>} en minúsculas, p. ej. {@code object.moved}. */
+	static String routingKey(final ObjectEventRow e) {
+		return "object." + e.eventType().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Cuerpo del mensaje. Los únicos textos son UUIDs, el nombre del tipo de evento
+	 * y un instante ISO-8601, que no requieren escape; {@code payload} ya es JSON
+	 * válido (viene de un {@code jsonb}).
+	 */
+	static String toJson(final ObjectEventRow e) {
+		final var sb = new StringBuilder(256);
+		sb.append("{\"event_id\":");
+		appendString(sb, e.eventId());
+		sb.append(",\"event_type\":");
+		appendString(sb, e.eventType());
+		sb.append(",\"object_id\":");
+		appendString(sb, e.objectId());
+		sb.append(",\"from_location_id\":");
+		appendString(sb, e.fromLocationId());
+		sb.append(",\"to_location_id\":");
+		appendString(sb, e.toLocationId());
+		sb.append(",\"payload\":").append(e.payloadJson() == null ? "null" : e.payloadJson());
+		sb.append(",\"occurred_at\":");
+		appendString(sb, e.occurredAt());
+		return sb.append('}').toString();
+	}
+
+	private static void appendString(final StringBuilder sb, final Object value) {
+		if (value == null) {
+			sb.append("null");
+		} else {
+			sb.append('"').append(value).append('"');
+		}
+	}
+
+	private static AMQP.BasicProperties properties(final ObjectEventRow e) {
+		final var b = new AMQP.BasicProperties.Builder().contentType("application/json")
+				.deliveryMode(2) // persistente
+				.messageId(id(e.eventId()))
+				.type(e.eventType())
+				.appId("kiwi");
+		if (e.occurredAt() != null) {
+			b.timestamp(Date.from(e.occurredAt()));
+		}
+		return b.build();
+	}
+
+	private static String id(final UUID id) {
+		return id == null ? null : id.toString();
+	}
+
+	private Channel channel() throws IOException {
+		if (channel != null && channel.isOpen()) {
+			return channel;
+		}
+		if (connection == null || !connection.isOpen()) {
+			try {
+				connection = factory.newConnection(CONNECTION_NAME);
+			} catch (final TimeoutException e) {
+				throw new IOException("Timed out connecting to RabbitMQ", e);
+			}
+		}
+		final var ch = connection.createChannel();
+		ch.exchangeDeclare(exchange, BuiltinExchangeType.TOPIC, true);
+		ch.confirmSelect();
+		channel = ch;
+		return ch;
+	}
+
+	private void closeQuietly() {
+		if (channel != null) {
+			try {
+				if (channel.isOpen()) {
+					channel.close();
+				}
+			} catch (final IOException | TimeoutException | RuntimeException e) {
+				Log.debug(getClass(), e, "Error closing AMQP channel");
+			}
+			channel = null;
+		}
+		if (connection != null) {
+			try {
+				if (connection.isOpen()) {
+					connection.close();
+				}
+			} catch (final IOException | RuntimeException e) {
+				Log.debug(getClass(), e, "Error closing AMQP connection");
+			}
+			connection = null;
+		}
+	}
+
+}
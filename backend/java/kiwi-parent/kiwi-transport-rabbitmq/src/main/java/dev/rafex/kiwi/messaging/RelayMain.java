@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import dev.rafex.kiwi.bootstrap.KiwiContainer;
+import dev.rafex.kiwi.logging.Log;
+import dev.rafex.kiwi.repository.InvalidationBus;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import com.rabbitmq.client.ConnectionFactory;
+
+/**
+ * Proceso independiente que publica {@code object_events} en RabbitMQ. Se
+ * pueden levantar tantas réplicas como se quiera.
+ */
+public final class RelayMain {
+
+	private static final String ENV_URI = "RABBITMQ_URI";
+	private static final String ENV_EXCHANGE = "KIWI_RELAY_EXCHANGE";
+	private static final String ENV_BATCH_SIZE = "KIWI_RELAY_BATCH_SIZE";
+	private static final String ENV_IDLE_MS = "KIWI_RELAY_IDLE_MS";
+	private static final String ENV_CONFIRM_TIMEOUT_MS = "KIWI_RELAY_CONFIRM_TIMEOUT_MS";
+
+	private RelayMain() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		Locale.setDefault(Locale.ROOT);
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+		final var uri = System.getenv(ENV_URI);
+		if (uri == null || uri.isBlank()) {
+			throw new IllegalStateException(ENV_URI + " environment variable is not set or is empty");
+		}
+		final var exchange = stringEnv(ENV_EXCHANGE, "kiwi.events");
+		final var batchSize = (int) longEnv(ENV_BATCH_SIZE, 200);
+		final var idleMillis = longEnv(ENV_IDLE_MS, 500);
+		final var confirmTimeoutMillis = longEnv(ENV_CONFIRM_TIMEOUT_MS, 10_000);
+
+		final var factory = new ConnectionFactory();
+		factory.setUri(uri.trim());
+
+		// El relay no mantiene caches: no necesita la conexión de LISTEN
+		final var container = new KiwiContainer(
+				KiwiContainer.Overrides.builder().invalidationBus(() -> InvalidationBus.NOOP).build());
+
+		try (var publisher = new RabbitEventPublisher(factory, exchange, confirmTimeoutMillis)) {
+			final var relay = new ObjectEventRelay(container.objectEventOutboxRepository(), publisher, batchSize,
+					idleMillis);
+
+			final var main = Thread.currentThread();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				relay.stop();
+				try {
+					main.join(confirmTimeoutMillis + 5_000);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}, "kiwi-relay-shutdown"));
+
+			Log.info(RelayMain.class, "Outbox relay started: exchange={}, batchSize={}", exchange, batchSize);
+			relay.run();
+		} finally {
+			if (container.dataSource() instanceof final AutoCloseable ac) {
+				ac.close();
+			}
+			Log.info(RelayMain.class, "Outbox relay stopped");
+		}
+	}
+
+	private static String stringEnv(final String name, final String def) {
+		final var raw = System.getenv(name);
+		return raw == null || raw.isBlank() ? def : raw.trim();
+	}
+
+	private static long longEnv(final String name, final long def) {
+		final var raw = System.getenv(name);
+		if (raw == null || raw.isBlank()) {
+			return def;
+		}
+		try {
+			return Long.parseLong(raw.trim());
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid " + name + ": " + raw, e);
+		}
+	}
+
+}
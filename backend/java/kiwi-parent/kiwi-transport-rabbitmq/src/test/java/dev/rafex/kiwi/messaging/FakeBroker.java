@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+
+/**
+ * Broker AMQP en memoria para probar el relay sin RabbitMQ. Implementa, con
+ * proxies dinámicos, sólo lo que usa {@link RabbitEventPublisher}: declarar el
+ * exchange, {@code confirmSelect}, {@code basicPublish} y
+ * {@code waitForConfirmsOrDie}.
+ *
+ * <p>
+ * Lo publicado en un canal queda pendiente hasta el confirm; sólo lo
+ * confirmado se entrega. Un nack o un timeout descartan lo pendiente y cierran
+ * el canal, como hace el cliente real con {@code waitForConfirmsOrDie}.
+ */
+final class FakeBroker {
+
+	enum Confirm {
+		ACK, NACK, TIMEOUT
+	}
+
+	record Message(String exchange, String routingKey, AMQP.BasicProperties properties, String body) {
+	}
+
+	private final List<Message> delivered = new CopyOnWriteArrayList<>();
+	private final AtomicInteger channels = new AtomicInteger();
+	private final AtomicInteger failedConfirms = new AtomicInteger();
+
+	private volatile Confirm confirm = Confirm.ACK;
+	private volatile Runnable beforeConfirm = () -> {
+	};
+
+	void confirm(final Confirm confirm) {
+		this.confirm = confirm;
+	}
+
+	/** Corre dentro de {@code waitForConfirmsOrDie}, antes de resolver el lote. */
+	void beforeConfirm(final Runnable hook) {
+		this.beforeConfirm = hook;
+	}
+
+	List<Message> delivered() {
+		return List.copyOf(delivered);
+	}
+
+	int channels() {
+		return channels.get();
+	}
+
+	int failedConfirms() {
+		return failedConfirms.get();
+	}
+
+	ConnectionFactory connectionFactory() {
+		return new ConnectionFactory() {
+			@Override
+			public Connection newConnection(final String connectionName) {
+				return newConnectionProxy();
+			}
+		};
+	}
+
+	private Connection newConnectionProxy() {
+		final var open = new boolean[] { true };
+		final InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+			case "isOpen" -> open[0];
+			case "createChannel" -> newChannelProxy();
+			case "close", "abort" -> {
+				open[0] = false;
+				yield null;
+			}
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "equals" -> proxy == args[0];
+			case "toString" -> "FakeConnection";
+			default -> throw new UnsupportedOperationException(method.getName());
+		};
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, handler);
+	}
+
+	private Channel newChannelProxy() {
+		channels.incrementAndGet();
+		final var open = new boolean[] { true };
+		final var pending = new ArrayList<Message>();
+		final InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+			case "isOpen" -> open[0];
+			case "exchangeDeclare", "confirmSelect" -> null;
+			case "basicPublish" -> {
+				if (!open[0]) {
+					throw new IOException("channel is closed");
+				}
+				pending.add(new Message((String) args[0], (String) args[1], (AMQP.BasicProperties) args[3],
+						new String((byte[]) args[4], StandardCharsets.UTF_8)));
+				yield null;
+			}
+			case "waitForConfirmsOrDie" -> {
+				beforeConfirm.run();
+				final var outcome = confirm;
+				if (outcome == Confirm.ACK) {
+					delivered.addAll(pending);
+					pending.clear();
+					yield null;
+				}
+				pending.clear();
+				open[0] = false;
+				failedConfirms.incrementAndGet();
+				if (outcome == Confirm.NACK) {
+					throw new IOException("nacks received");
+				}
+				throw new TimeoutException();
+			}
+			case "close", "abort" -> {
+				open[0] = false;
+				yield null;
+			}
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "equals" -> proxy == args[0];
+			case "toString" -> "FakeChannel";
+			default -> throw new UnsupportedOperationException(method.getName());
+		};
+		return (Channel) Proxy.newProxyInstance(Channel.class.getClassLoader(), new Class<?>[] { Channel.class },
+				handler);
+	}
+
+}
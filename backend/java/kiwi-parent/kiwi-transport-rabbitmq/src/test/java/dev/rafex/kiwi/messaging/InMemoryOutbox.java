@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Outbox en memoria con la semántica de {@code api_outbox_claim_object_events}:
+ * cada lote reclama, en orden de id, filas pendientes que ninguna otra
+ * transacción tenga tomadas ({@code FOR UPDATE SKIP LOCKED}). Si el publicador
+ * regresa se marcan publicadas (commit); si lanza, sólo se liberan (rollback).
+ */
+final class InMemoryOutbox implements ObjectEventOutboxRepository {
+
+	private final TreeMap<Long, ObjectEventRow> pending = new TreeMap<>();
+	private final Set<Long> locked = new HashSet<>();
+	private final List<List<Long>> committedBatches = new ArrayList<>();
+
+	synchronized void add(final ObjectEventRow row) {
+		pending.put(row.id(), row);
+	}
+
+	@Override
+	public int relayBatch(final int limit, final BatchPublisher publisher) throws IOException {
+		final var claimed = new ArrayList<ObjectEventRow>(limit);
+		synchronized (this) {
+			for (final var row : pending.values()) {
+				if (claimed.size() == limit) {
+					break;
+				}
+				if (locked.add(row.id())) {
+					claimed.add(row);
+				}
+			}
+		}
+		if (claimed.isEmpty()) {
+			return 0;
+		}
+
+		var committed = false;
+		try {
+			publisher.publish(claimed);
+			committed = true;
+			return claimed.size();
+		} finally {
+			synchronized (this) {
+				final var ids = new ArrayList<Long>(claimed.size());
+				for (final var row : claimed) {
+					locked.remove(row.id());
+					ids.add(row.id());
+					if (committed) {
+						pending.remove(row.id());
+					}
+				}
+				if (committed) {
+					committedBatches.add(ids);
+				}
+			}
+		}
+	}
+
+	synchronized List<Long> pendingIds() {
+		return List.copyOf(pending.keySet());
+	}
+
+	synchronized int lockedCount() {
+		return locked.size();
+	}
+
+	synchronized List<List<Long>> committedBatches() {
+		return List.copyOf(committedBatches);
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Raúl Eduardo González Argote
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rafex.kiwi.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.rafex.kiwi.messaging.FakeBroker.Confirm;
+import dev.rafex.kiwi.repository.ObjectEventOutboxRepository.ObjectEventRow;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * El relay completo (bucle, {@link RabbitEventPublisher} y outbox) contra un
+ * broker en memoria: un lote sólo se marca cuando el broker lo confirma.
+ */
+class ObjectEventRelayTest {
+
+	private static final String EXCHANGE = "kiwi.events";
+	private static final long AWAIT_MILLIS = 5_000;
+
+	private final FakeBroker broker = new FakeBroker();
+	private final InMemoryOutbox outbox = new InMemoryOutbox();
+	private final List<Running> started = new ArrayList<>();
+
+	@AfterEach
+	void stopRelays() throws InterruptedException {
+		for (final var r : started) {
+			r.stop();
+		}
+	}
+
+	@Test
+	void confirmedBatchesAreMarkedPublishedInOrder() throws Exception {
+		final var rows = addEvents(5);
+
+		start(2);
+		awaitUntil(() -> outbox.pendingIds().isEmpty(), "outbox drained");
+
+		final var delivered = broker.delivered();
+		assertEquals(5, delivered.size());
+		for (var i = 0; i < rows.size(); i++) {
+			final var row = rows.get(i);
+			final var m = delivered.get(i);
+			assertEquals(EXCHANGE, m.exchange());
+			assertEquals("object.moved", m.routingKey());
+			assertEquals(row.eventId().toString(), m.properties().getMessageId());
+			assertEquals(2, m.properties().getDeliveryMode().intValue());
+			assertTrue(m.body().contains("\"event_id\":\"" + row.eventId() + "\""), m.body());
+		}
+		assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), outbox.committedBatches());
+		assertEquals(0, outbox.lockedCount());
+	}
+
+	@Test
+	void nackRollsBackAndRowsStayPending() throws Exception {
+		assertFailedConfirmKeepsRowsPending(Confirm.NACK);
+	}
+
+	@Test
+	void confirmTimeoutRollsBackAndRowsStayPending() throws Exception {
+		assertFailedConfirmKeepsRowsPending(Confirm.TIMEOUT);
+	}
+
+	@Test
+	void racingRelaysSkipLockedRowsAndPublishEachEventOnce() throws Exception {
+		addEvents(10);
+		// los dos primeros lotes se confirman sólo cuando ambos relays tienen el suyo
+		// reclamado: el segundo tuvo que saltarse las filas tomadas por el primero
+		final var bothClaimed = new CountDownLatch(2);
+		broker.beforeConfirm(() -> {
+			bothClaimed.countDown();
+			try {
+				bothClaimed.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		start(5);
+		start(5);
+		awaitUntil(() -> outbox.pendingIds().isEmpty(), "outbox drained");
+
+		assertEquals(0, bothClaimed.getCount(), "relays did not overlap");
+		final var batches = outbox.committedBatches();
+		assertEquals(2, batches.size());
+		final var first = new HashSet<>(batches.get(0));
+		final var second = new HashSet<>(batches.get(1));
+		assertTrue(first.stream().noneMatch(second::contains), "overlapping batches " + batches);
+		assertEquals(10, first.size() + second.size());
+
+		final var messageIds = broker.delivered().stream().map(m -> m.properties().getMessageId()).toList();
+		assertEquals(10, messageIds.size());
+		assertEquals(10, new HashSet<>(messageIds).size(), "duplicated deliveries " + messageIds);
+	}
+
+	private void assertFailedConfirmKeepsRowsPending(final Confirm outcome) throws Exception {
+		addEvents(3);
+		broker.confirm(outcome);
+
+		final var publisher = new RabbitEventPublisher(broker.connectionFactory(), EXCHANGE, 1_000);
+		final var failing = start(publisher, 10);
+		awaitUntil(() -> broker.failedConfirms() >= 1, "failed confirm");
+		failing.stop();
+
+		assertEquals(List.of(1L, 2L, 3L), outbox.pendingIds());
+		assertEquals(0, outbox.lockedCount());
+		assertTrue(outbox.committedBatches().isEmpty());
+		assertTrue(broker.delivered().isEmpty());
+
+		// el mismo publicador abre un canal nuevo y el lote se reintenta completo
+		broker.confirm(Confirm.ACK);
+		start(publisher, 10);
+		awaitUntil(() -> outbox.pendingIds().isEmpty(), "outbox drained after retry");
+		assertEquals(3, broker.delivered().size());
+		assertEquals(List.of(List.of(1L, 2L, 3L)), outbox.committedBatches());
+		assertEquals(2, broker.channels());
+	}
+
+	private List<ObjectEventRow> addEvents(final int n) {
+		final var rows = LongStream.rangeClosed(1, n)
+				.mapToObj(id -> new ObjectEventRow(id, UUID.randomUUID(), "MOVED", UUID.randomUUID(),
+						UUID.randomUUID(), UUID.randomUUID(), "{}", Instant.parse("2026-01-01T00:00:00Z")))
+				.toList();
+		rows.forEach(outbox::add);
+		return rows;
+	}
+
+	private Running start(final int batchSize) {
+		return start(new RabbitEventPublisher(broker.connectionFactory(), EXCHANGE, 1_000), batchSize);
+	}
+
+	private Running start(final RabbitEventPublisher publisher, final int batchSize) {
+		final var relay = new ObjectEventRelay(outbox, publisher, batchSize, 10);
+		final var thread = new Thread(relay, "relay-test-" + started.size());
+		thread.start();
+		final var running = new Running(relay, thread);
+		started.add(running);
+		return running;
+	}
+
+	private static void awaitUntil(final BooleanSupplier condition, final String what) throws InterruptedException {
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AWAIT_MILLIS);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("timed out waiting for " + what);
+			}
+			Thread.sleep(5);
+		}
+	}
+
+	private record Running(ObjectEventRelay relay, Thread thread) {
+		void stop() throws InterruptedException {
+			relay.stop();
+			thread.join(AWAIT_MILLIS);
+		}
+	}
+
+}
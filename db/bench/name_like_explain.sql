@@ -0,0 +1,43 @@
+-- =========================
+-- Benchmark: planes de name =like= sobre 1M objetos sintéticos
+-- =========================
+-- Uso (como flyway_migrator o superusuario, sobre una base migrada):
+--   psql "$FLYWAY_URL" -f db/bench/name_like_explain.sql
+-- Todo corre dentro de una transacción que termina en ROLLBACK.
+-- Cada EXPLAIN debe mostrar Bitmap Index Scan sobre idx_objects_name_trgm
+-- (tramo >= 3) o (Bitmap) Index Scan sobre idx_objects_name_lower_prefix (prefijo corto),
+-- nunca Seq Scan on objects.
+
+BEGIN;
+
+INSERT INTO objects (name, description, type, tags)
+SELECT
+  md5(g::text) || ' ' || (ARRAY['cable', 'laptop', 'monitor', 'teclado', 'mouse'])[1 + g % 5],
+  'descripción sintética ' || g,
+  (ARRAY['tool', 'device', 'part'])[1 + g % 3],
+  ARRAY['bench', 't' || (g % 100)]
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE objects;
+
+-- name=like=*3f2a9*  ->  o.name ILIKE '%3f2a9%'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT o.object_id FROM objects o
+WHERE o.name ILIKE '%3f2a9%'
+ORDER BY o.created_at DESC, o.id DESC LIMIT 21;
+
+-- name=like=ab*  ->  rango sobre lower(name)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT o.object_id FROM objects o
+WHERE lower(o.name) ~>=~ 'ab' AND lower(o.name) ~<~ 'ac'
+ORDER BY o.created_at DESC, o.id DESC LIMIT 21;
+
+-- mismo rango con parámetros y plan genérico, como lo ejecuta pgjdbc tras varias ejecuciones
+SET plan_cache_mode = force_generic_plan;
+PREPARE name_prefix(text, text) AS
+SELECT o.object_id FROM objects o
+WHERE lower(o.name) ~>=~ $1 AND lower(o.name) ~<~ $2
+ORDER BY o.created_at DESC, o.id DESC LIMIT 21;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE name_prefix('ab', 'ac');
+
+ROLLBACK;
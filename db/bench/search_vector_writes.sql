@@ -0,0 +1,31 @@
+-- =========================
+-- Benchmark: throughput de escritura antes/después de V13
+-- =========================
+-- Script de pgbench. Correr contra una base migrada hasta V12 y de nuevo tras
+-- migrar V13, con los mismos parámetros, y comparar tps:
+--
+--   pgbench -n -c 8 -j 8 -T 60 -f db/bench/search_vector_writes.sql "$FLYWAY_URL"
+--
+-- Cada transacción crea un objeto y luego le cambia el texto, es decir los dos
+-- caminos que antes pasaban por update_object_search_vector. Usa ubicación NULL
+-- para no depender de datos previos. Para ver el efecto en WAL, comparar
+-- pg_current_wal_lsn() antes y después de cada corrida.
+
+\set n random(1, 9000000000000000000)
+
+BEGIN;
+SELECT api_create_object(
+  md5(:client_id || '-' || :n)::uuid,
+  'bench objeto ' || :n,
+  'descripción de prueba para benchmark ' || :n,
+  'bench',
+  ARRAY['bench'],
+  NULL,
+  NULL
+);
+SELECT api_update_text(
+  md5(:client_id || '-' || :n)::uuid,
+  'bench objeto renombrado ' || :n,
+  'descripción actualizada ' || :n
+);
+COMMIT;
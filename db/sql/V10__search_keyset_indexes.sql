@@ -0,0 +1,16 @@
+-- =========================
+-- Índices para paginación keyset en /objects/search
+-- =========================
+-- ObjectQuerySqlBuilder ordena siempre por (llave(s) de sort, o.id) y pagina con
+-- una comparación de filas (col, id) < (?, ?). Con estos índices compuestos cada
+-- página es un rango sobre el índice, sin importar qué tan profundo esté el cliente.
+-- Un btree se recorre en ambos sentidos, así que sirven para ASC y DESC.
+
+CREATE INDEX IF NOT EXISTS idx_objects_created_at_id
+ON objects(created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_objects_updated_at_id
+ON objects(updated_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_objects_name_id
+ON objects(name, id);
@@ -0,0 +1,10 @@
+-- =========================
+-- Índice de prefijo para name =like= en /objects/search
+-- =========================
+-- idx_objects_name_trgm sólo ayuda cuando el patrón deja al menos un tramo de
+-- 3 caracteres. Para prefijos cortos (`ab*`) y valores exactos cortos
+-- ObjectQuerySqlBuilder compara lower(o.name) con ~>=~ / ~<~ o =, que este
+-- índice resuelve como un rango aunque el valor llegue como parámetro.
+
+CREATE INDEX IF NOT EXISTS idx_objects_name_lower_prefix
+ON objects (lower(name) text_pattern_ops);
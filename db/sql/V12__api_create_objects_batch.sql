@@ -0,0 +1,80 @@
+-- =========================
+-- Alta de objetos por lote (POST /objects:batch)
+-- =========================
+-- Versión set-based de api_create_object: recibe un arreglo por columna (mismo
+-- largo, mismo orden) y resuelve ubicaciones, inserta objetos y eventos con una
+-- sentencia por tabla en lugar de una llamada por objeto.
+--
+-- p_tags trae por elemento el literal de arreglo de PostgreSQL ('{"a","b"}') o
+-- NULL, porque un TEXT[][] no admite filas de distinto largo.
+--
+-- Regresa una fila por elemento, en el orden recibido. error es NULL si el
+-- objeto se creó; 'location_not_found' si location_id no existe (ese elemento
+-- se omite y el resto del lote sí se inserta).
+
+CREATE OR REPLACE FUNCTION api_create_objects(
+  p_object_ids UUID[],
+  p_names TEXT[],
+  p_descriptions TEXT[],
+  p_types TEXT[],
+  p_tags TEXT[],
+  p_metadata TEXT[],
+  p_location_ids UUID[]
+)
+RETURNS TABLE (
+  object_id UUID,
+  error TEXT
+) AS $$
+  WITH items AS (
+    SELECT
+      i.ord,
+      i.object_id,
+      i.name,
+      i.description,
+      i.type,
+      i.tags::text[] AS tags,
+      i.metadata::jsonb AS metadata,
+      i.location_id,
+      l.id AS location_fk
+    FROM unnest(p_object_ids, p_names, p_descriptions, p_types, p_tags, p_metadata, p_location_ids)
+         WITH ORDINALITY AS i(object_id, name, description, type, tags, metadata, location_id, ord)
+    LEFT JOIN locations l ON l.location_id = i.location_id
+  ),
+  inserted AS (
+    INSERT INTO objects (
+      object_id, name, description, type,
+      tags, metadata, current_location_fk, search_vector
+    )
+    SELECT
+      it.object_id, it.name, it.description, it.type,
+      it.tags, it.metadata, it.location_fk,
+      -- mismo cálculo que update_object_search_vector, sin el UPDATE extra por fila
+      setweight(to_tsvector('spanish', coalesce(it.name, '')), 'A') ||
+      setweight(to_tsvector('spanish', coalesce(it.description, '')), 'B')
+    FROM items it
+    WHERE it.location_id IS NULL OR it.location_fk IS NOT NULL
+    ORDER BY it.ord
+    RETURNING id, current_location_fk
+  ),
+  events AS (
+    INSERT INTO object_events (object_fk, event_type, to_location_fk)
+    SELECT ins.id, 'CREATED'::event_type, ins.current_location_fk
+    FROM inserted ins
+  )
+  SELECT
+    it.object_id,
+    CASE
+      WHEN it.location_id IS NOT NULL AND it.location_fk IS NULL THEN 'location_not_found'
+    END
+  FROM items it
+  ORDER BY it.ord;
+$$ LANGUAGE sql;
+
+ALTER FUNCTION public.api_create_objects(uuid[], text[], text[], text[], text[], text[], uuid[])
+  OWNER TO flyway_migrator;
+
+ALTER FUNCTION public.api_create_objects(uuid[], text[], text[], text[], text[], text[], uuid[])
+  SECURITY DEFINER
+  SET search_path = public;
+
+GRANT EXECUTE ON FUNCTION public.api_create_objects(uuid[], text[], text[], text[], text[], text[], uuid[]) TO kiwi_app;
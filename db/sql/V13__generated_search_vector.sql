@@ -0,0 +1,177 @@
+-- =========================
+-- search_vector como columna generada
+-- =========================
+-- Antes cada alta y cada cambio de texto hacían un segundo UPDATE sobre la misma
+-- fila (update_object_search_vector): dos tuplas por escritura, el doble de WAL
+-- y más bloat. Como columna GENERATED ... STORED PostgreSQL la calcula dentro del
+-- mismo INSERT/UPDATE. Se conserva la configuración 'spanish' y los pesos A
+-- (name) / B (description).
+--
+-- Reescribe la tabla objects (ADD COLUMN ... STORED); correr en ventana de
+-- mantenimiento si la tabla es grande.
+
+DROP INDEX IF EXISTS idx_objects_search;
+
+ALTER TABLE objects DROP COLUMN search_vector;
+
+ALTER TABLE objects
+  ADD COLUMN search_vector TSVECTOR
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('spanish'::regconfig, coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('spanish'::regconfig, coalesce(description, '')), 'B')
+  ) STORED;
+
+CREATE INDEX idx_objects_search
+ON objects
+USING GIN (search_vector);
+
+-- =========================
+-- Funciones de escritura sin el UPDATE extra
+-- =========================
+-- CREATE OR REPLACE conserva owner y GRANTs pero no SECURITY DEFINER ni
+-- search_path, por eso se vuelven a aplicar al final.
+
+CREATE OR REPLACE FUNCTION api_create_object(
+  p_object_id UUID,
+  p_name TEXT,
+  p_description TEXT,
+  p_type TEXT,
+  p_tags TEXT[],
+  p_metadata JSONB,
+  p_location_id UUID
+)
+RETURNS VOID AS $$
+DECLARE
+  v_location_fk BIGINT;
+  v_object_fk BIGINT;
+BEGIN
+  IF p_location_id IS NOT NULL THEN
+    SELECT id
+    INTO v_location_fk
+    FROM locations
+    WHERE location_id = p_location_id;
+
+    IF v_location_fk IS NULL THEN
+      RAISE EXCEPTION 'location_id not found: %', p_location_id;
+    END IF;
+  END IF;
+
+  INSERT INTO objects (
+    object_id, name, description, type,
+    tags, metadata, current_location_fk
+  )
+  VALUES (
+    p_object_id, p_name, p_description, p_type,
+    p_tags, p_metadata, v_location_fk
+  )
+  RETURNING id INTO v_object_fk;
+
+  INSERT INTO object_events (
+    object_fk, event_type, to_location_fk
+  )
+  VALUES (
+    v_object_fk, 'CREATED', v_location_fk
+  );
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_update_text(
+  p_object_id UUID,
+  p_name TEXT,
+  p_description TEXT
+)
+RETURNS VOID AS $$
+DECLARE
+  v_object_fk BIGINT;
+BEGIN
+  -- el UPDATE ya encuentra la fila; no hace falta un SELECT previo
+  UPDATE objects
+  SET name = p_name,
+      description = p_description,
+      updated_at = now()
+  WHERE object_id = p_object_id
+  RETURNING id INTO v_object_fk;
+
+  IF v_object_fk IS NULL THEN
+    RAISE EXCEPTION 'object_id not found: %', p_object_id;
+  END IF;
+
+  INSERT INTO object_events (
+    object_fk, event_type
+  )
+  VALUES (
+    v_object_fk,
+    'UPDATED'
+  );
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_create_objects(
+  p_object_ids UUID[],
+  p_names TEXT[],
+  p_descriptions TEXT[],
+  p_types TEXT[],
+  p_tags TEXT[],
+  p_metadata TEXT[],
+  p_location_ids UUID[]
+)
+RETURNS TABLE (
+  object_id UUID,
+  error TEXT
+) AS $$
+  WITH items AS (
+    SELECT
+      i.ord,
+      i.object_id,
+      i.name,
+      i.description,
+      i.type,
+      i.tags::text[] AS tags,
+      i.metadata::jsonb AS metadata,
+      i.location_id,
+      l.id AS location_fk
+    FROM unnest(p_object_ids, p_names, p_descriptions, p_types, p_tags, p_metadata, p_location_ids)
+         WITH ORDINALITY AS i(object_id, name, description, type, tags, metadata, location_id, ord)
+    LEFT JOIN locations l ON l.location_id = i.location_id
+  ),
+  inserted AS (
+    INSERT INTO objects (
+      object_id, name, description, type,
+      tags, metadata, current_location_fk
+    )
+    SELECT
+      it.object_id, it.name, it.description, it.type,
+      it.tags, it.metadata, it.location_fk
+    FROM items it
+    WHERE it.location_id IS NULL OR it.location_fk IS NOT NULL
+    ORDER BY it.ord
+    RETURNING id, current_location_fk
+  ),
+  events AS (
+    INSERT INTO object_events (object_fk, event_type, to_location_fk)
+    SELECT ins.id, 'CREATED'::event_type, ins.current_location_fk
+    FROM inserted ins
+  )
+  SELECT
+    it.object_id,
+    CASE
+      WHEN it.location_id IS NOT NULL AND it.location_fk IS NULL THEN 'location_not_found'
+    END
+  FROM items it
+  ORDER BY it.ord;
+$$ LANGUAGE sql;
+
+ALTER FUNCTION public.api_create_object(uuid, text, text, text, text[], jsonb, uuid)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_update_text(uuid, text, text)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_create_objects(uuid[], text[], text[], text[], text[], text[], uuid[])
+  SECURITY DEFINER
+  SET search_path = public;
+
+-- Ya no tiene llamadores y un UPDATE sobre una columna generada fallaría
+DROP FUNCTION IF EXISTS public.update_object_search_vector(uuid);
@@ -0,0 +1,262 @@
+-- =========================
+-- Invalidación de caches entre réplicas (LISTEN/NOTIFY)
+-- =========================
+-- Cada escritura publica en el canal 'kiwi_invalidation' un payload
+-- '<entidad>:<uuid>' (p. ej. 'object:6f1c...'). Las instancias escuchan con una
+-- conexión dedicada (PgInvalidationBus) y descartan solo esa llave de sus caches
+-- en memoria. NOTIFY es transaccional: se entrega al hacer COMMIT y se descarta
+-- en ROLLBACK, así que nunca se invalida por una escritura que no ocurrió.
+
+CREATE OR REPLACE FUNCTION kiwi_notify_invalidation(p_entity TEXT, p_id UUID)
+RETURNS VOID AS $$
+  SELECT pg_notify('kiwi_invalidation', p_entity || ':' || p_id::text);
+$$ LANGUAGE sql;
+
+ALTER FUNCTION public.kiwi_notify_invalidation(text, uuid)
+  OWNER TO flyway_migrator;
+
+ALTER FUNCTION public.kiwi_notify_invalidation(text, uuid)
+  SET search_path = public;
+
+-- =========================
+-- Funciones api_* que modifican objetos o ubicaciones existentes
+-- =========================
+-- Las altas de objetos no notifican: el cache no guarda ausencias. Las altas de
+-- ubicaciones sí, porque cambian los hijos del padre.
+-- CREATE OR REPLACE no conserva SECURITY DEFINER ni search_path; se vuelven a
+-- aplicar al final.
+
+CREATE OR REPLACE FUNCTION api_move_object(
+  p_object_id UUID,
+  p_new_location_id UUID
+)
+RETURNS VOID AS $$
+DECLARE
+  v_object_fk BIGINT;
+  v_old_location_fk BIGINT;
+  v_new_location_fk BIGINT;
+BEGIN
+  SELECT id, current_location_fk
+  INTO v_object_fk, v_old_location_fk
+  FROM objects
+  WHERE object_id = p_object_id;
+
+  IF v_object_fk IS NULL THEN
+    RAISE EXCEPTION 'object_id not found: %', p_object_id;
+  END IF;
+
+  IF p_new_location_id IS NOT NULL THEN
+    SELECT id
+    INTO v_new_location_fk
+    FROM locations
+    WHERE location_id = p_new_location_id;
+
+    IF v_new_location_fk IS NULL THEN
+      RAISE EXCEPTION 'new location_id not found: %', p_new_location_id;
+    END IF;
+  END IF;
+
+  UPDATE objects
+  SET current_location_fk = v_new_location_fk,
+      updated_at = now()
+  WHERE id = v_object_fk;
+
+  INSERT INTO object_events (
+    object_fk,
+    event_type,
+    from_location_fk,
+    to_location_fk
+  )
+  VALUES (
+    v_object_fk,
+    'MOVED',
+    v_old_location_fk,
+    v_new_location_fk
+  );
+
+  PERFORM kiwi_notify_invalidation('object', p_object_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_update_tags(
+  p_object_id UUID,
+  p_tags TEXT[]
+)
+RETURNS VOID AS $$
+DECLARE
+  v_object_fk BIGINT;
+BEGIN
+  SELECT id
+  INTO v_object_fk
+  FROM objects
+  WHERE object_id = p_object_id;
+
+  IF v_object_fk IS NULL THEN
+    RAISE EXCEPTION 'object_id not found: %', p_object_id;
+  END IF;
+
+  UPDATE objects
+  SET tags = p_tags,
+      updated_at = now()
+  WHERE id = v_object_fk;
+
+  INSERT INTO object_events (
+    object_fk, event_type, payload
+  )
+  VALUES (
+    v_object_fk,
+    'TAGGED',
+    jsonb_build_object('tags', p_tags)
+  );
+
+  PERFORM kiwi_notify_invalidation('object', p_object_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_update_text(
+  p_object_id UUID,
+  p_name TEXT,
+  p_description TEXT
+)
+RETURNS VOID AS $$
+DECLARE
+  v_object_fk BIGINT;
+BEGIN
+  -- el UPDATE ya encuentra la fila; no hace falta un SELECT previo
+  UPDATE objects
+  SET name = p_name,
+      description = p_description,
+      updated_at = now()
+  WHERE object_id = p_object_id
+  RETURNING id INTO v_object_fk;
+
+  IF v_object_fk IS NULL THEN
+    RAISE EXCEPTION 'object_id not found: %', p_object_id;
+  END IF;
+
+  INSERT INTO object_events (
+    object_fk, event_type
+  )
+  VALUES (
+    v_object_fk,
+    'UPDATED'
+  );
+
+  PERFORM kiwi_notify_invalidation('object', p_object_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_update_metadata(
+  p_object_id UUID,
+  p_metadata JSONB
+)
+RETURNS VOID AS $$
+DECLARE
+  v_object_fk BIGINT;
+BEGIN
+  SELECT id
+  INTO v_object_fk
+  FROM objects
+  WHERE object_id = p_object_id;
+
+  IF v_object_fk IS NULL THEN
+    RAISE EXCEPTION 'object_id not found: %', p_object_id;
+  END IF;
+
+  UPDATE objects
+  SET metadata = p_metadata,
+      updated_at = now()
+  WHERE id = v_object_fk;
+
+  INSERT INTO object_events (
+    object_fk, event_type, payload
+  )
+  VALUES (
+    v_object_fk,
+    'METADATA_UPDATED',
+    jsonb_build_object('metadata', p_metadata)
+  );
+
+  PERFORM kiwi_notify_invalidation('object', p_object_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION api_create_location(
+  p_location_id UUID,
+  p_name TEXT,
+  p_parent_location_id UUID DEFAULT NULL
+)
+RETURNS VOID AS $$
+DECLARE
+  v_parent_fk BIGINT;
+BEGIN
+  IF p_parent_location_id IS NOT NULL THEN
+    SELECT id
+    INTO v_parent_fk
+    FROM locations
+    WHERE location_id = p_parent_location_id;
+
+    IF v_parent_fk IS NULL THEN
+      RAISE EXCEPTION 'parent_location_id not found: %', p_parent_location_id;
+    END IF;
+  END IF;
+
+  INSERT INTO locations (location_id, name, parent_id)
+  VALUES (p_location_id, p_name, v_parent_fk);
+
+  PERFORM kiwi_notify_invalidation('location', p_location_id);
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER FUNCTION public.api_move_object(uuid, uuid)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_update_tags(uuid, text[])
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_update_text(uuid, text, text)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_update_metadata(uuid, jsonb)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_create_location(uuid, text, uuid)
+  SECURITY DEFINER
+  SET search_path = public;
+
+-- =========================
+-- app_clients
+-- =========================
+-- La app escribe app_clients directo (sin función api_*), así que aquí se usa
+-- un trigger. Solo cuentan las columnas que afectan la autenticación: el
+-- UPDATE de last_used_at en cada request no debe generar un NOTIFY.
+
+CREATE OR REPLACE FUNCTION app_clients_notify_invalidation()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM pg_notify('kiwi_invalidation', 'app_client:' || OLD.app_client_id::text);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_app_clients_invalidation_update
+AFTER UPDATE OF client_id, secret_hash, salt, iterations, roles, status ON app_clients
+FOR EACH ROW
+WHEN (
+  OLD.client_id IS DISTINCT FROM NEW.client_id
+  OR OLD.secret_hash IS DISTINCT FROM NEW.secret_hash
+  OR OLD.salt IS DISTINCT FROM NEW.salt
+  OR OLD.iterations IS DISTINCT FROM NEW.iterations
+  OR OLD.roles IS DISTINCT FROM NEW.roles
+  OR OLD.status IS DISTINCT FROM NEW.status
+)
+EXECUTE FUNCTION app_clients_notify_invalidation();
+
+CREATE TRIGGER trg_app_clients_invalidation_delete
+AFTER DELETE ON app_clients
+FOR EACH ROW
+EXECUTE FUNCTION app_clients_notify_invalidation();
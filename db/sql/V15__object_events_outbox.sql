@@ -0,0 +1,92 @@
+-- =========================
+-- object_events como outbox transaccional
+-- =========================
+-- Las funciones api_* ya insertan el evento en la misma transacción que el
+-- cambio. El relay (kiwi-transport-rabbitmq) reclama lotes con
+-- FOR UPDATE SKIP LOCKED, los publica con publisher confirms y los marca en la
+-- misma transacción; varias instancias del relay se reparten los lotes sin
+-- pisarse.
+--
+-- Se marca cada fila en vez de guardar solo el último id publicado: los ids
+-- (BIGSERIAL) se asignan al insertar, no al confirmar, y una transacción lenta
+-- puede confirmar un id menor a otro ya publicado; con un high-water mark ese
+-- evento se perdería. El índice parcial mantiene la búsqueda de pendientes tan
+-- barata como la de un high-water mark.
+
+-- Los eventos existentes no se publican: el DEFAULT llena las filas actuales
+-- sin reescribir la tabla y luego se quita para que las nuevas queden en NULL.
+ALTER TABLE object_events
+  ADD COLUMN published_at TIMESTAMPTZ DEFAULT now();
+
+ALTER TABLE object_events
+  ALTER COLUMN published_at DROP DEFAULT;
+
+CREATE INDEX idx_object_events_unpublished
+ON object_events(id)
+WHERE published_at IS NULL;
+
+-- Debe llamarse dentro de una transacción explícita: los bloqueos de las filas
+-- reclamadas duran hasta el COMMIT/ROLLBACK del llamador.
+CREATE OR REPLACE FUNCTION api_outbox_claim_object_events(
+  p_limit INT
+)
+RETURNS TABLE (
+  id BIGINT,
+  event_id UUID,
+  event_type event_type,
+  object_id UUID,
+  from_location_id UUID,
+  to_location_id UUID,
+  payload JSONB,
+  occurred_at TIMESTAMPTZ
+) AS $$
+  WITH claimed AS (
+    SELECT e.id
+    FROM object_events e
+    WHERE e.published_at IS NULL
+    ORDER BY e.id
+    LIMIT p_limit
+    FOR UPDATE SKIP LOCKED
+  )
+  SELECT
+    e.id,
+    e.event_id,
+    e.event_type,
+    o.object_id,
+    lf.location_id,
+    lt.location_id,
+    e.payload,
+    e.occurred_at
+  FROM claimed c
+  JOIN object_events e ON e.id = c.id
+  JOIN objects o ON o.id = e.object_fk
+  LEFT JOIN locations lf ON lf.id = e.from_location_fk
+  LEFT JOIN locations lt ON lt.id = e.to_location_fk
+  ORDER BY e.id;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION api_outbox_mark_object_events(
+  p_ids BIGINT[]
+)
+RETURNS VOID AS $$
+  UPDATE object_events
+  SET published_at = now()
+  WHERE id = ANY(p_ids);
+$$ LANGUAGE sql;
+
+ALTER FUNCTION public.api_outbox_claim_object_events(int)
+  OWNER TO flyway_migrator;
+
+ALTER FUNCTION public.api_outbox_mark_object_events(bigint[])
+  OWNER TO flyway_migrator;
+
+ALTER FUNCTION public.api_outbox_claim_object_events(int)
+  SECURITY DEFINER
+  SET search_path = public;
+
+ALTER FUNCTION public.api_outbox_mark_object_events(bigint[])
+  SECURITY DEFINER
+  SET search_path = public;
+
+GRANT EXECUTE ON FUNCTION public.api_outbox_claim_object_events(int) TO kiwi_app;
+GRANT EXECUTE ON FUNCTION public.api_outbox_mark_object_events(bigint[]) TO kiwi_app;
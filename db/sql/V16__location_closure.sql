@@ -0,0 +1,87 @@
+-- =========================
+-- Jerarquía de ubicaciones: tabla de cierre
+-- =========================
+-- locations.parent_id modela un árbol, pero filtrar "todo lo que está dentro
+-- del almacén A" requería recursión del lado del cliente. location_closure
+-- guarda un renglón por cada par (ancestro, descendiente), incluido el par
+-- (l, l) con depth 0, así que un subárbol completo es un solo rango sobre la
+-- llave primaria:
+--
+--   SELECT descendant_fk FROM location_closure WHERE ancestor_fk = :raiz
+--
+-- Solo api_create_location inserta ubicaciones y la API no cambia parent_id;
+-- si algún día se mueven ubicaciones, la función que lo haga debe reescribir
+-- los renglones del subárbol movido.
+
+CREATE TABLE location_closure (
+  ancestor_fk BIGINT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+  descendant_fk BIGINT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+  depth INT NOT NULL,
+  PRIMARY KEY (ancestor_fk, descendant_fk)
+);
+
+-- ancestros de una ubicación (ruta hacia la raíz)
+CREATE INDEX idx_location_closure_descendant
+ON location_closure(descendant_fk, depth);
+
+-- Backfill con las ubicaciones existentes
+INSERT INTO location_closure (ancestor_fk, descendant_fk, depth)
+WITH RECURSIVE tree AS (
+  SELECT id AS ancestor_fk, id AS descendant_fk, 0 AS depth
+  FROM locations
+  UNION ALL
+  SELECT t.ancestor_fk, l.id, t.depth + 1
+  FROM tree t
+  JOIN locations l ON l.parent_id = t.descendant_fk
+)
+SELECT ancestor_fk, descendant_fk, depth
+FROM tree;
+
+GRANT SELECT ON TABLE public.location_closure TO kiwi_app;
+
+-- =========================
+-- api_create_location mantiene el cierre
+-- =========================
+
+CREATE OR REPLACE FUNCTION api_create_location(
+  p_location_id UUID,
+  p_name TEXT,
+  p_parent_location_id UUID DEFAULT NULL
+)
+RETURNS VOID AS $$
+DECLARE
+  v_parent_fk BIGINT;
+  v_location_fk BIGINT;
+BEGIN
+  IF p_parent_location_id IS NOT NULL THEN
+    SELECT id
+    INTO v_parent_fk
+    FROM locations
+    WHERE location_id = p_parent_location_id;
+
+    IF v_parent_fk IS NULL THEN
+      RAISE EXCEPTION 'parent_location_id not found: %', p_parent_location_id;
+    END IF;
+  END IF;
+
+  INSERT INTO locations (location_id, name, parent_id)
+  VALUES (p_location_id, p_name, v_parent_fk)
+  RETURNING id INTO v_location_fk;
+
+  -- la nueva hoja hereda los ancestros del padre, un nivel más abajo
+  INSERT INTO location_closure (ancestor_fk, descendant_fk, depth)
+  SELECT v_location_fk, v_location_fk, 0
+  UNION ALL
+  SELECT lc.ancestor_fk, v_location_fk, lc.depth + 1
+  FROM location_closure lc
+  WHERE lc.descendant_fk = v_parent_fk;
+
+  PERFORM kiwi_notify_invalidation('location', p_location_id);
+END;
+$$ LANGUAGE plpgsql;
+
+-- CREATE OR REPLACE conserva owner y GRANTs pero no SECURITY DEFINER ni
+-- search_path
+ALTER FUNCTION public.api_create_location(uuid, text, uuid)
+  SECURITY DEFINER
+  SET search_path = public;
@@ -0,0 +1,58 @@
+#!/bin/sh
+
+# Prueba de carga contra /objects/search que reporta p50/p99 con `hey`.
+# Sirve para comparar el pool de hilos de Jetty con HTTP_VIRTUAL_THREADS=true:
+# correr una vez con cada modo contra el mismo servidor y la misma base.
+
+set -eu
+
+SOURCE_DIR="$(cd "$(dirname "$0")" && pwd)"
+. "$SOURCE_DIR/common.sh"
+
+Q="laptop"
+REQUESTS=5000
+CONCURRENCY=200
+TOKEN="${TOKEN:-}"
+
+usage() {
+	cat <<EOF >&2
+Uso: $0 -T TOKEN [-q QUERY] [-n REQUESTS] [-c CONCURRENCY] [-u BASE_URL]
+
+  -T TOKEN        Token Bearer (o usar variable de entorno TOKEN)
+  -q QUERY        Texto de búsqueda (por defecto: $Q)
+  -n REQUESTS     Total de peticiones (por defecto: $REQUESTS)
+  -c CONCURRENCY  Clientes concurrentes (por defecto: $CONCURRENCY)
+  -u BASE_URL     URL base del servidor (por defecto: $BASE_URL)
+  -h              Muestra esta ayuda
+EOF
+	exit 2
+}
+
+while getopts "T:q:n:c:u:h" opt; do
+	case "$opt" in
+		T) TOKEN="$OPTARG" ;;
+		q) Q="$OPTARG" ;;
+		n) REQUESTS="$OPTARG" ;;
+		c) CONCURRENCY="$OPTARG" ;;
+		u) BASE_URL="$OPTARG" ;;
+		*) usage ;;
+	esac
+done
+
+command -v hey >/dev/null 2>&1 || {
+	echo "Error: hey no está instalado (go install github.com/rakyll/hey@latest)" >&2
+	exit 1
+}
+
+if [ -z "$TOKEN" ]; then
+	echo "Error: token requerido. Usa -T TOKEN o exporta TOKEN." >&2
+	usage
+fi
+
+url="${BASE_URL%/}/objects/search?q=$(printf '%s' "$Q" | jq -sRr @uri)"
+
+out=$(hey -n "$REQUESTS" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$url")
+
+echo "$out" | grep -E 'Requests/sec|Slowest'
+echo "$out" | grep -E '(50|99)% in'
+echo "$out" | sed -n '/Status code distribution/,$p'